@@ -27,6 +27,7 @@
 import org.hibernate.validator.constraints.ScriptAssert;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -176,6 +177,72 @@
 	@Incubating
 	String SHOW_VALIDATED_VALUE_IN_TRACE_LOGS = "hibernate.validator.show_validated_value_in_trace_logs";
 
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCachePolicy(BeanMetaDataCachePolicy)} method.
+	 * Accepts {@code default}, {@code strong}, {@code soft} or {@code bounded}.
+	 * Defaults to {@code default}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_POLICY = "hibernate.validator.bean_metadata_cache_policy";
+
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCacheMaxSize(int)} method.
+	 * Accepts a strictly positive integer.
+	 * Defaults to {@code 1024}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_MAX_SIZE = "hibernate.validator.bean_metadata_cache_max_size";
+
+	/**
+	 * Property corresponding to the {@link #messageCatalogEnabled(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String MESSAGE_CATALOG_ENABLED = "hibernate.validator.message_catalog_enabled";
+
+	/**
+	 * Property corresponding to the {@link #messageInterpolationCacheMaxSize(int)} method.
+	 * Accepts a strictly positive integer.
+	 * Defaults to {@code 2048}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String MESSAGE_INTERPOLATION_CACHE_MAX_SIZE = "hibernate.validator.message_interpolation_cache_max_size";
+
+	/**
+	 * Property corresponding to the {@link #detachedConstraintViolations(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String DETACHED_CONSTRAINT_VIOLATIONS = "hibernate.validator.detached_constraint_violations";
+
+	/**
+	 * Property corresponding to the {@link #linearTimeRegexpMatching(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String LINEAR_TIME_REGEXP_MATCHING = "hibernate.validator.linear_time_regexp_matching";
+
+	/**
+	 * Property corresponding to the {@link #temporalValidationClockSnapshot(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	String TEMPORAL_VALIDATION_CLOCK_SNAPSHOT = "hibernate.validator.temporal_validation_clock_snapshot";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -501,4 +568,123 @@ default S locales(Locale... locales) {
 	 */
 	@Incubating
 	S showValidatedValuesInTraceLogs(boolean enabled);
+
+	/**
+	 * Allows setting the policy defining how the bean metadata built on demand is cached.
+	 * <p>
+	 * By default, the metadata is softly referenced and might be rebuilt after having been released under memory
+	 * pressure. Other policies allow to favor predictable latency over memory reclamation.
+	 * <p>
+	 * This setting has no effect on the predefined scope validator factory as all its metadata is built at bootstrap.
+	 *
+	 * @param beanMetaDataCachePolicy the {@link BeanMetaDataCachePolicy} to be used
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S beanMetaDataCachePolicy(BeanMetaDataCachePolicy beanMetaDataCachePolicy);
+
+	/**
+	 * Allows setting the maximum number of bean metadata instances cached when using the
+	 * {@link BeanMetaDataCachePolicy#BOUNDED} policy.
+	 *
+	 * @param beanMetaDataCacheMaxSize the maximum number of cached bean metadata instances, must be strictly positive
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S beanMetaDataCacheMaxSize(int beanMetaDataCacheMaxSize);
+
+	/**
+	 * Allows enabling the message catalog of the default message interpolator.
+	 * <p>
+	 * When enabled, the messages of the resource bundles are resolved once per locale and flattened in a catalog so
+	 * that resolving a message made of a single key, such as the default constraint messages, only requires a lookup.
+	 * The catalog of the locales defined via {@link #locales(Set)} and of the default locale is built when bootstrapping
+	 * the {@link ValidatorFactory}, the catalog of the other locales when they are used for the first time.
+	 * <p>
+	 * This setting has no effect when a custom message interpolator is used.
+	 *
+	 * @param enabled whether the message catalog is enabled
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S messageCatalogEnabled(boolean enabled);
+
+	/**
+	 * Allows setting the maximum number of entries of each of the caches of the default message interpolator, e.g.
+	 * the resolved message templates or the parsed expressions.
+	 * <p>
+	 * When a cache is full, the entries used only once are evicted first so that the templates embedding dynamic data
+	 * don't evict the frequently used ones. Such templates can also be excluded from the caches when building the
+	 * constraint violation, see {@code HibernateConstraintViolationBuilder#dynamicMessageTemplate()}.
+	 * <p>
+	 * This setting has no effect when a custom message interpolator is used.
+	 *
+	 * @param messageInterpolationCacheMaxSize the maximum number of entries of each cache, must be strictly positive
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S messageInterpolationCacheMaxSize(int messageInterpolationCacheMaxSize);
+
+	/**
+	 * Allows producing detached constraint violations, i.e. constraint violations which do not retain any reference to
+	 * the validated objects so that they can be kept for a long time without retaining the validated object graphs.
+	 * <p>
+	 * A detached constraint violation only holds the property path, the message template, the interpolated message,
+	 * the constraint descriptor and the root bean class: the root bean, the leaf bean, the invalid value, the
+	 * executable parameters and return value, as well as the dynamic payload, are not available and the values of
+	 * the property path nodes are not kept.
+	 *
+	 * @param enabled whether the constraint violations are detached
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S detachedConstraintViolations(boolean enabled);
+
+	/**
+	 * Allows matching the regular expressions of the built-in constraints, e.g. {@code @Pattern}, with an engine whose
+	 * matching time is linear in the length of the validated value, instead of the backtracking engine of
+	 * {@link java.util.regex.Pattern}. Such an engine protects from the denial of service caused by regular expressions
+	 * prone to catastrophic backtracking applied to untrusted input.
+	 * <p>
+	 * Only the common subset of the regular expression syntax is supported: the regular expressions using back
+	 * references, lookarounds, atomic groups, possessive quantifiers, inline flags, word boundaries or nested character
+	 * classes are rejected when the constraint validators are initialized.
+	 * <p>
+	 * The engine can also be selected per constraint using the {@link org.hibernate.validator.constraints.RegexpMatching}
+	 * payloads, which take precedence over this setting.
+	 *
+	 * @param enabled whether the regular expressions are matched in linear time by default
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S linearTimeRegexpMatching(boolean enabled);
+
+	/**
+	 * Allows reading the current time only once per validation call: the temporal constraints such as
+	 * {@link Past}/{@link PastOrPresent} and {@link Future}/{@link FutureOrPresent} then compare all the values of the
+	 * validated object graph to the same reference time, and the reference value of a given temporal type is only
+	 * computed once per validation call.
+	 * <p>
+	 * The {@link jakarta.validation.ClockProvider} exposed by the {@link jakarta.validation.ConstraintValidatorContext}
+	 * then also returns a clock fixed at this reference time.
+	 *
+	 * @param enabled whether the current time is read once per validation call
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	S temporalValidationClockSnapshot(boolean enabled);
 }
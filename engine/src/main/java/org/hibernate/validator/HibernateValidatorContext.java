@@ -178,4 +178,30 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext showValidatedValuesInTraceLogs(boolean enabled);
+
+	/**
+	 * Define whether the constraint violations are detached, i.e. do not retain any reference to the validated objects.
+	 *
+	 * @param enabled {@code true} to detach the constraint violations, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#detachedConstraintViolations(boolean)
+	 * @since 8.0
+	 */
+	@Incubating
+	HibernateValidatorContext detachedConstraintViolations(boolean enabled);
+
+	/**
+	 * Define whether the current time used by the temporal constraints is read only once per validation call.
+	 *
+	 * @param enabled {@code true} to read the current time once per validation call, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#temporalValidationClockSnapshot(boolean)
+	 * @since 8.0
+	 */
+	@Incubating
+	HibernateValidatorContext temporalValidationClockSnapshot(boolean enabled);
 }
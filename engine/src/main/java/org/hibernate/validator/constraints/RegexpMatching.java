@@ -0,0 +1,42 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraints;
+
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * The payloads selecting the engine matching the regular expression of a {@code @Pattern} or {@code @Email}
+ * constraint, taking precedence over the engine configured for the validator factory, e.g.:
+ * <pre>
+ * &#064;Pattern(regexp = "(\\w+\\s?)*", payload = RegexpMatching.LinearTime.class)
+ * private String name;
+ * </pre>
+ *
+ * @see org.hibernate.validator.BaseHibernateValidatorConfiguration#linearTimeRegexpMatching(boolean)
+ * @since 8.0
+ */
+@Incubating
+public final class RegexpMatching {
+
+	private RegexpMatching() {
+	}
+
+	/**
+	 * Matches the regular expression in a time linear in the length of the validated value. The regular expressions
+	 * which are not supported by this engine are rejected when the constraint validator is initialized.
+	 */
+	public interface LinearTime extends Payload {
+	}
+
+	/**
+	 * Matches the regular expression with {@link java.util.regex.Pattern}.
+	 */
+	public interface Backtracking extends Payload {
+	}
+}
@@ -40,4 +40,20 @@ default HibernateConstraintViolationBuilder enableExpressionLanguage() {
 	 */
 	@Incubating
 	HibernateConstraintViolationBuilder enableExpressionLanguage(ExpressionLanguageFeatureLevel level);
+
+	/**
+	 * Marks the message template of the constraint violation created by this builder as dynamic, e.g. because it is
+	 * built from runtime data.
+	 * <p>
+	 * The message interpolator does not cache the interpolation steps of such templates as they are unlikely to be
+	 * used again, thus they don't take the place of the frequently used templates in the caches.
+	 * <p>
+	 * The default implementation does nothing: it is only a hint for the message interpolator.
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	default HibernateConstraintViolationBuilder dynamicMessageTemplate() {
+		return this;
+	}
 }
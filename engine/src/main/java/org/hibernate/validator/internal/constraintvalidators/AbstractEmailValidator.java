@@ -6,11 +6,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -27,6 +23,14 @@
  * <a href="http://www.regular-expressions.info/email.html">article</a> discusses it is not necessarily practical to
  * implement a 100% compliant email validator. This implementation is a trade-off trying to match most email while ignoring
  * for example emails with double quotes or comments.
+ * <p>
+ * The local part (everything before the last '@') is a sequence of words separated by dots, a word being either a
+ * sequence of letters, digits, non ASCII characters of the basic multilingual plane and
+ * {@code !#$%&'*+/=?^_`{|}~-} characters, or a quoted string which may also contain spaces, the
+ * {@code .(),<>[]:;@} characters and the {@code \\} and {@code \"} escape sequences. The domain part is checked by
+ * {@link DomainNameUtil#isValidEmailDomainAddress(CharSequence, int, int)}.
+ * <p>
+ * The value is parsed in a single pass, without allocating for ASCII values.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -36,16 +40,6 @@
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
-	/**
-	 * Regular expression for the local part of an email address (everything before '@')
-	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
-	);
-
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 		if ( value == null || value.length() == 0 ) {
@@ -54,29 +48,155 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
-		int splitPosition = stringValue.lastIndexOf( '@' );
+		int splitPosition = lastIndexOf( value, '@' );
 
 		// need to check if
 		if ( splitPosition < 0 ) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( value, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( value, splitPosition + 1, value.length() );
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * @param value the email address
+	 * @param end the index following the last character of the local part
+	 */
+	private static boolean isValidEmailLocalPart(CharSequence value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		int i = 0;
+		while ( true ) {
+			if ( i < end && value.charAt( i ) == '"' ) {
+				i = skipQuotedString( value, i + 1, end );
+				if ( i < 0 ) {
+					return false;
+				}
+			}
+			else {
+				int wordStart = i;
+				while ( i < end ) {
+					int codePoint = Character.codePointAt( value, i );
+					if ( !isLocalPartCharacter( codePoint ) ) {
+						break;
+					}
+					i += Character.charCount( codePoint );
+				}
+				if ( i == wordStart ) {
+					return false;
+				}
+			}
+
+			if ( i == end ) {
+				return true;
+			}
+			if ( value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @param start the index following the opening quote
+	 * @return the index following the closing quote or -1 if the quoted string is invalid or empty
+	 */
+	private static int skipQuotedString(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '"' ) {
+				return i == start ? -1 : i + 1;
+			}
+			if ( c == '\\' ) {
+				if ( i + 1 < end && ( value.charAt( i + 1 ) == '\\' || value.charAt( i + 1 ) == '"' ) ) {
+					i += 2;
+					continue;
+				}
+				return -1;
+			}
+
+			int codePoint = Character.codePointAt( value, i );
+			if ( !isQuotedLocalPartCharacter( codePoint ) ) {
+				return -1;
+			}
+			i += Character.charCount( codePoint );
+		}
+		return -1;
+	}
+
+	private static boolean isLocalPartCharacter(int codePoint) {
+		if ( codePoint >= 0x80 ) {
+			return codePoint <= 0xFFFF;
+		}
+		if ( isAsciiLetterOrDigit( codePoint ) ) {
+			return true;
+		}
+		switch ( codePoint ) {
+			case '!':
+			case '#':
+			case '$':
+			case '%':
+			case '&':
+			case '\'':
+			case '*':
+			case '+':
+			case '/':
+			case '=':
+			case '?':
+			case '^':
+			case '_':
+			case '`':
+			case '{':
+			case '|':
+			case '}':
+			case '~':
+			case '-':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isQuotedLocalPartCharacter(int codePoint) {
+		if ( isLocalPartCharacter( codePoint ) ) {
+			return true;
+		}
+		switch ( codePoint ) {
+			case '.':
+			case '(':
+			case ')':
+			case ',':
+			case '<':
+			case '>':
+			case '[':
+			case ']':
+			case ':':
+			case ';':
+			case ' ':
+			case '@':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isAsciiLetterOrDigit(int c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' );
+	}
+
+	private static int lastIndexOf(CharSequence value, char c) {
+		for ( int i = value.length() - 1; i >= 0; i-- ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
 	}
 }
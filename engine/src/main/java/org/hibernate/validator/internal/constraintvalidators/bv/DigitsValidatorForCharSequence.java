@@ -12,6 +12,7 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Digits;
 
+import org.hibernate.validator.internal.util.DecimalParser;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -43,6 +44,11 @@ public boolean isValid(CharSequence charSequence, ConstraintValidatorContext con
 			return true;
 		}
 
+		Boolean hasDigits = DecimalParser.hasDigits( charSequence, maxIntegerLength, maxFractionLength, false );
+		if ( hasDigits != null ) {
+			return hasDigits;
+		}
+
 		BigDecimal bigNum = getBigDecimalValue( charSequence );
 		if ( bigNum == null ) {
 			return false;
@@ -12,6 +12,7 @@
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Digits;
 
+import org.hibernate.validator.internal.util.DecimalParser;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -47,8 +48,19 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 		if ( num instanceof BigDecimal ) {
 			bigNum = (BigDecimal) num;
 		}
+		else if ( num instanceof Long || num instanceof Integer || num instanceof Short || num instanceof Byte ) {
+			// integers have no fraction part
+			return maxIntegerLength >= integerPartLength( num.longValue() );
+		}
 		else {
-			bigNum = new BigDecimal( num.toString() ).stripTrailingZeros();
+			String numAsString = num.toString();
+			if ( !isNanOrInfinite( num ) ) {
+				Boolean hasDigits = DecimalParser.hasDigits( numAsString, maxIntegerLength, maxFractionLength, true );
+				if ( hasDigits != null ) {
+					return hasDigits;
+				}
+			}
+			bigNum = new BigDecimal( numAsString ).stripTrailingZeros();
 		}
 
 		int integerPartLength = bigNum.precision() - bigNum.scale();
@@ -57,6 +69,31 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
 	}
 
+	/**
+	 * @return the number of digits of the given integer, ignoring its sign
+	 */
+	private static int integerPartLength(long value) {
+		int length = 1;
+		for ( long remaining = value / 10; remaining != 0; remaining /= 10 ) {
+			length++;
+		}
+		return length;
+	}
+
+	/**
+	 * @return whether the number is a floating point number which cannot be represented as a {@code BigDecimal}, the
+	 * {@code BigDecimal} constructor reporting the error
+	 */
+	private static boolean isNanOrInfinite(Number num) {
+		if ( num instanceof Double ) {
+			return ( (Double) num ).isNaN() || ( (Double) num ).isInfinite();
+		}
+		if ( num instanceof Float ) {
+			return ( (Float) num ).isNaN() || ( (Float) num ).isInfinite();
+		}
+		return false;
+	}
+
 	private void validateParameters() {
 		if ( maxIntegerLength < 0 ) {
 			throw LOG.getInvalidLengthForIntegerPartException();
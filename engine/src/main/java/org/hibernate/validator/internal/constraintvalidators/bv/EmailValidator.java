@@ -6,47 +6,49 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
-import java.util.regex.PatternSyntaxException;
-
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.Pattern;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
+import org.hibernate.validator.internal.util.PatternRegistry;
+import org.hibernate.validator.internal.util.PatternRegistry.RegisteredPattern;
 
 /**
  * Checks that a given character sequence (e.g. string) is a well-formed email address.
  *
  * @author Guillaume Smet
  */
-public class EmailValidator extends AbstractEmailValidator<Email> {
+public class EmailValidator extends AbstractEmailValidator<Email> implements HibernateConstraintValidator<Email, CharSequence> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+	private RegisteredPattern pattern;
 
-	private java.util.regex.Pattern pattern;
+	@Override
+	public void initialize(ConstraintDescriptor<Email> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		Email emailAnnotation = constraintDescriptor.getAnnotation();
+		// the compiled regular expression is shared with the other constraints using the same regular expression
+		if ( hasRegexp( emailAnnotation ) ) {
+			pattern = HibernateConstraintValidatorInitializationContextImpl.getPattern( initializationContext, emailAnnotation.regexp(),
+					PatternValidator.toIntFlag( emailAnnotation.flags() ), emailAnnotation.payload() );
+		}
+	}
 
 	@Override
 	public void initialize(Email emailAnnotation) {
 		super.initialize( emailAnnotation );
 
-		Pattern.Flag[] flags = emailAnnotation.flags();
-		int intFlag = 0;
-		for ( Pattern.Flag flag : flags ) {
-			intFlag = intFlag | flag.getValue();
+		if ( !hasRegexp( emailAnnotation ) ) {
+			pattern = null;
+			return;
 		}
 
-		// we only apply the regexp if there is one to apply
-		if ( !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0 ) {
-			try {
-				pattern = java.util.regex.Pattern.compile( emailAnnotation.regexp(), intFlag );
-			}
-			catch (PatternSyntaxException e) {
-				throw LOG.getInvalidRegularExpressionException( e );
-			}
+		int intFlag = PatternValidator.toIntFlag( emailAnnotation.flags() );
+		if ( pattern == null || !pattern.isCompiledFrom( emailAnnotation.regexp(), intFlag ) ) {
+			pattern = PatternRegistry.compile( emailAnnotation.regexp(), intFlag,
+					PatternRegistry.isLinearTimeMatching( emailAnnotation.payload(), false ) );
 		}
 	}
 
@@ -61,7 +63,13 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return isValid;
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return pattern.matches( value );
+	}
+
+	/**
+	 * We only apply the regexp if there is one to apply.
+	 */
+	private static boolean hasRegexp(Email emailAnnotation) {
+		return !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0;
 	}
 }
@@ -6,41 +6,39 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
-import java.util.regex.PatternSyntaxException;
-import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
 import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.PatternRegistry;
+import org.hibernate.validator.internal.util.PatternRegistry.RegisteredPattern;
 
 /**
  * @author Hardy Ferentschik
  */
-public class PatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+public class PatternValidator implements HibernateConstraintValidator<Pattern, CharSequence> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	private java.util.regex.Pattern pattern;
+	private RegisteredPattern pattern;
 	private String escapedRegexp;
 
 	@Override
-	public void initialize(Pattern parameters) {
-		Pattern.Flag[] flags = parameters.flags();
-		int intFlag = 0;
-		for ( Pattern.Flag flag : flags ) {
-			intFlag = intFlag | flag.getValue();
-		}
+	public void initialize(ConstraintDescriptor<Pattern> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		Pattern parameters = constraintDescriptor.getAnnotation();
+		// the compiled regular expression is shared with the other constraints using the same regular expression
+		pattern = HibernateConstraintValidatorInitializationContextImpl.getPattern( initializationContext, parameters.regexp(),
+				toIntFlag( parameters.flags() ), parameters.payload() );
+	}
 
-		try {
-			pattern = java.util.regex.Pattern.compile( parameters.regexp(), intFlag );
-		}
-		catch (PatternSyntaxException e) {
-			throw LOG.getInvalidRegularExpressionException( e );
+	@Override
+	public void initialize(Pattern parameters) {
+		int intFlag = toIntFlag( parameters.flags() );
+		if ( pattern == null || !pattern.isCompiledFrom( parameters.regexp(), intFlag ) ) {
+			pattern = PatternRegistry.compile( parameters.regexp(), intFlag, PatternRegistry.isLinearTimeMatching( parameters.payload(), false ) );
 		}
 
 		escapedRegexp = InterpolationHelper.escapeMessageParameter( parameters.regexp() );
@@ -56,7 +54,14 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "regexp", escapedRegexp );
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return pattern.matches( value );
+	}
+
+	static int toIntFlag(Pattern.Flag[] flags) {
+		int intFlag = 0;
+		for ( Pattern.Flag flag : flags ) {
+			intFlag = intFlag | flag.getValue();
+		}
+		return intFlag;
 	}
 }
@@ -8,6 +8,10 @@
 
 import java.math.BigDecimal;
 
+import jakarta.validation.constraints.Max;
+
+import org.hibernate.validator.internal.util.DecimalParser;
+
 /**
  * Check that the character sequence (e.g. string) validated represents a number, and has a value less than or equal to
  * the maximum value specified.
@@ -18,8 +22,26 @@
  */
 public class MaxValidatorForCharSequence extends AbstractMaxValidator<CharSequence> {
 
+	private boolean compactMaxValue;
+
+	@Override
+	public void initialize(Max maxValue) {
+		super.initialize( maxValue );
+		this.compactMaxValue = DecimalParser.isCompact( this.maxValue );
+	}
+
 	@Override
 	protected int compare(CharSequence number) {
+		if ( compactMaxValue ) {
+			int comparisonResult = DecimalParser.compare( number, maxValue, 0 );
+			if ( comparisonResult == DecimalParser.NOT_A_NUMBER ) {
+				return 1;
+			}
+			if ( comparisonResult != DecimalParser.UNSUPPORTED ) {
+				return comparisonResult;
+			}
+		}
+
 		try {
 			return NumberComparatorHelper.compare( new BigDecimal( number.toString() ), maxValue );
 		}
@@ -8,6 +8,10 @@
 
 import java.math.BigDecimal;
 
+import jakarta.validation.constraints.Min;
+
+import org.hibernate.validator.internal.util.DecimalParser;
+
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
  * more than or equal to the minimum value specified.
@@ -18,8 +22,26 @@
  */
 public class MinValidatorForCharSequence extends AbstractMinValidator<CharSequence> {
 
+	private boolean compactMinValue;
+
+	@Override
+	public void initialize(Min minValue) {
+		super.initialize( minValue );
+		this.compactMinValue = DecimalParser.isCompact( this.minValue );
+	}
+
 	@Override
 	protected int compare(CharSequence number) {
+		if ( compactMinValue ) {
+			int comparisonResult = DecimalParser.compare( number, minValue, 0 );
+			if ( comparisonResult == DecimalParser.NOT_A_NUMBER ) {
+				return -1;
+			}
+			if ( comparisonResult != DecimalParser.UNSUPPORTED ) {
+				return comparisonResult;
+			}
+		}
+
 		try {
 			return NumberComparatorHelper.compare( new BigDecimal( number.toString() ), minValue );
 		}
@@ -8,6 +8,10 @@
 
 import java.math.BigDecimal;
 
+import jakarta.validation.constraints.DecimalMax;
+
+import org.hibernate.validator.internal.util.DecimalParser;
+
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
  * less than or equal to the maximum value specified.
@@ -17,8 +21,34 @@
  */
 public class DecimalMaxValidatorForCharSequence extends AbstractDecimalMaxValidator<CharSequence> {
 
+	private boolean compactMaxValue;
+
+	private long unscaledMaxValue;
+
+	private int maxValueScale;
+
+	@Override
+	public void initialize(DecimalMax maxValue) {
+		super.initialize( maxValue );
+		this.compactMaxValue = DecimalParser.isCompact( this.maxValue );
+		if ( compactMaxValue ) {
+			this.unscaledMaxValue = this.maxValue.unscaledValue().longValue();
+			this.maxValueScale = this.maxValue.scale();
+		}
+	}
+
 	@Override
 	protected int compare(CharSequence number) {
+		if ( compactMaxValue ) {
+			int comparisonResult = DecimalParser.compare( number, unscaledMaxValue, maxValueScale );
+			if ( comparisonResult == DecimalParser.NOT_A_NUMBER ) {
+				return 1;
+			}
+			if ( comparisonResult != DecimalParser.UNSUPPORTED ) {
+				return comparisonResult;
+			}
+		}
+
 		try {
 			return DecimalNumberComparatorHelper.compare( new BigDecimal( number.toString() ), maxValue );
 		}
@@ -8,6 +8,10 @@
 
 import java.math.BigDecimal;
 
+import jakarta.validation.constraints.DecimalMin;
+
+import org.hibernate.validator.internal.util.DecimalParser;
+
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value greater than or
  * equal to the minimum value specified.
@@ -17,8 +21,34 @@
  */
 public class DecimalMinValidatorForCharSequence extends AbstractDecimalMinValidator<CharSequence> {
 
+	private boolean compactMinValue;
+
+	private long unscaledMinValue;
+
+	private int minValueScale;
+
+	@Override
+	public void initialize(DecimalMin minValue) {
+		super.initialize( minValue );
+		this.compactMinValue = DecimalParser.isCompact( this.minValue );
+		if ( compactMinValue ) {
+			this.unscaledMinValue = this.minValue.unscaledValue().longValue();
+			this.minValueScale = this.minValue.scale();
+		}
+	}
+
 	@Override
 	protected int compare(CharSequence number) {
+		if ( compactMinValue ) {
+			int comparisonResult = DecimalParser.compare( number, unscaledMinValue, minValueScale );
+			if ( comparisonResult == DecimalParser.NOT_A_NUMBER ) {
+				return -1;
+			}
+			if ( comparisonResult != DecimalParser.UNSUPPORTED ) {
+				return comparisonResult;
+			}
+		}
+
 		try {
 			return DecimalNumberComparatorHelper.compare( new BigDecimal( number.toString() ), minValue );
 		}
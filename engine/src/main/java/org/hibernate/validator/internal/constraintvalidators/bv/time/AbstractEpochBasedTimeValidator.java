@@ -17,6 +17,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ClockSnapshot;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -32,12 +33,15 @@
 
 	protected Clock referenceClock;
 
+	private Duration referenceClockOffset;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		this.referenceClockOffset = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
 		try {
 			this.referenceClock  = Clock.offset(
 					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
+					referenceClockOffset
 			);
 		}
 		catch (Exception e) {
@@ -52,11 +56,21 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = Long.compare( getEpochMillis( value, referenceClock ), referenceClock.millis() );
+		Clock currentReferenceClock = getCurrentReferenceClock( context );
+		int result = Long.compare( getEpochMillis( value, currentReferenceClock ), currentReferenceClock.millis() );
 
 		return isValid( result );
 	}
 
+	/**
+	 * Returns the reference clock, fixed for the duration of the validation call if the clock provider of the context is
+	 * a {@link ClockSnapshot}.
+	 */
+	private Clock getCurrentReferenceClock(ConstraintValidatorContext context) {
+		ClockSnapshot clockSnapshot = ClockSnapshot.of( context );
+		return clockSnapshot != null ? clockSnapshot.getClock( referenceClockOffset ) : referenceClock;
+	}
+
 	/**
 	 * Returns the temporal validation tolerance to apply.
 	 */
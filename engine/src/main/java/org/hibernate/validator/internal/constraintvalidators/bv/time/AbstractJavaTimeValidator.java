@@ -11,6 +11,7 @@
 import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.TemporalAccessor;
+import java.util.function.Function;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorContext;
@@ -18,6 +19,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ClockSnapshot;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -34,12 +36,17 @@
 
 	protected Clock referenceClock;
 
+	private Duration referenceClockOffset;
+
+	private final Function<Clock, T> referenceValueFunction = this::getReferenceValue;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		this.referenceClockOffset = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
 		try {
 			this.referenceClock  = Clock.offset(
 					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
+					referenceClockOffset
 			);
 		}
 		catch (Exception e) {
@@ -54,11 +61,23 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = value.compareTo( getReferenceValue( referenceClock ) );
+		int result = value.compareTo( getCurrentReferenceValue( context ) );
 
 		return isValid( result );
 	}
 
+	/**
+	 * Returns the reference value, computed once per validation call if the clock provider of the context is a
+	 * {@link ClockSnapshot}.
+	 */
+	private T getCurrentReferenceValue(ConstraintValidatorContext context) {
+		ClockSnapshot clockSnapshot = ClockSnapshot.of( context );
+		if ( clockSnapshot == null ) {
+			return getReferenceValue( referenceClock );
+		}
+		return clockSnapshot.getReferenceValue( getClass(), referenceClockOffset, referenceValueFunction );
+	}
+
 	/**
 	 * Returns the temporal validation tolerance to apply.
 	 */
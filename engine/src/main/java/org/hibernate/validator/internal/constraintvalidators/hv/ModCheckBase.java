@@ -7,9 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.internal.util.logging.Log;
@@ -19,6 +16,9 @@
  * ModCheckBase contains all shared methods and options used by Mod Check Validators
  *
  * http://en.wikipedia.org/wiki/Check_digit
+ * <p>
+ * The digits are located in the validated character sequence by their indexes and handed over to the checksum
+ * calculation without copying them.
  *
  * @author George Gastaldi
  * @author Hardy Ferentschik
@@ -28,8 +28,6 @@ public abstract class ModCheckBase {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private static final Pattern NUMBERS_ONLY_REGEXP = Pattern.compile( "[^0-9]" );
-
 	private static final int DEC_RADIX = 10;
 
 	/**
@@ -54,30 +52,75 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return true;
 		}
 
-		String valueAsString = value.toString();
-		String digitsAsString;
-		char checkDigit;
-		try {
-			digitsAsString = extractVerificationString( valueAsString );
-			checkDigit = extractCheckDigit( valueAsString );
+		int length = value.length();
+		int digitsStart;
+		int digitsEnd;
+		// the string contains the check digit, just verify the digits
+		if ( endIndex == Integer.MAX_VALUE ) {
+			digitsStart = 0;
+			digitsEnd = length - 1;
 		}
-		catch (IndexOutOfBoundsException e) {
-			return false;
+		else if ( checkDigitIndex == -1 ) {
+			digitsStart = startIndex;
+			digitsEnd = endIndex;
+		}
+		else {
+			digitsStart = startIndex;
+			digitsEnd = endIndex + 1;
 		}
-		digitsAsString = stripNonDigitsIfRequired( digitsAsString );
 
-		List<Integer> digits;
-		try {
-			digits = extractDigits( digitsAsString );
+		// take last character of string to be validated unless the index is given explicitly
+		int checkDigitPosition;
+		if ( checkDigitIndex == -1 ) {
+			checkDigitPosition = endIndex == Integer.MAX_VALUE ? length - 1 : endIndex;
+		}
+		else {
+			checkDigitPosition = checkDigitIndex;
 		}
-		catch (NumberFormatException e) {
+
+		if ( digitsStart > digitsEnd || digitsEnd > length || checkDigitPosition < 0 || checkDigitPosition >= length ) {
 			return false;
 		}
 
-		return this.isCheckDigitValid( digits, checkDigit );
+		CharSequence digits = value;
+		int digitCount = 0;
+		boolean asciiDigitsOnly = true;
+		for ( int i = digitsStart; i < digitsEnd; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				digitCount++;
+			}
+			else if ( !ignoreNonDigitCharacters ) {
+				if ( !Character.isDigit( c ) ) {
+					return false;
+				}
+				digitCount++;
+				asciiDigitsOnly = false;
+			}
+		}
+		if ( !asciiDigitsOnly ) {
+			// the other decimal digits are only accepted when the non digit characters are not ignored
+			digits = toAsciiDigits( value, digitsStart, digitsEnd );
+			digitsEnd -= digitsStart;
+			digitsStart = 0;
+		}
+
+		return this.isCheckDigitValid( digits, digitsStart, digitsEnd, digitCount, value.charAt( checkDigitPosition ) );
 	}
 
-	public abstract boolean isCheckDigitValid(List<Integer> digits, char checkDigit);
+	/**
+	 * Validate the check digit.
+	 *
+	 * @param digits the character sequence containing the digits over which to calculate the checksum: the ASCII
+	 * digits between {@code start} and {@code end}, the other characters being ignored
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
+	 * @param digitCount the number of digits
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the checksum matches the check digit, {@code false} otherwise
+	 */
+	public abstract boolean isCheckDigitValid(CharSequence digits, int start, int end, int digitCount, char checkDigit);
 
 	protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boolean ignoreNonDigitCharacters) {
 		this.startIndex = startIndex;
@@ -106,24 +149,6 @@ protected int extractDigit(char value) throws NumberFormatException {
 		}
 	}
 
-	/**
-	 * Parses the {@link String} value as a {@link List} of {@link Integer} objects
-	 *
-	 * @param value the input string to be parsed
-	 *
-	 * @return List of {@code Integer} objects.
-	 *
-	 * @throws NumberFormatException in case any of the characters is not a digit
-	 */
-	private List<Integer> extractDigits(final String value) throws NumberFormatException {
-		List<Integer> digits = new ArrayList<Integer>( value.length() );
-		char[] chars = value.toCharArray();
-		for ( char c : chars ) {
-			digits.add( extractDigit( c ) );
-		}
-		return digits;
-	}
-
 	private boolean validateOptions() {
 		if ( this.startIndex < 0 ) {
 			throw LOG.getStartIndexCannotBeNegativeException( this.startIndex );
@@ -144,41 +169,11 @@ private boolean validateOptions() {
 		return true;
 	}
 
-	private String stripNonDigitsIfRequired(String value) {
-		if ( ignoreNonDigitCharacters ) {
-			return NUMBERS_ONLY_REGEXP.matcher( value ).replaceAll( "" );
-		}
-		else {
-			return value;
-		}
-	}
-
-	private String extractVerificationString(String value) throws IndexOutOfBoundsException {
-		// the string contains the check digit, just return the digits to verify
-		if ( endIndex == Integer.MAX_VALUE ) {
-			return value.substring( 0, value.length() - 1 );
-		}
-		else if ( checkDigitIndex == -1 ) {
-			return value.substring( startIndex, endIndex );
-		}
-		else {
-			return value.substring( startIndex, endIndex + 1 );
-		}
-	}
-
-	private char extractCheckDigit(String value) throws IndexOutOfBoundsException {
-		// take last character of string to be validated unless the index is given explicitly
-		if ( checkDigitIndex == -1 ) {
-			if ( endIndex == Integer.MAX_VALUE ) {
-				return value.charAt( value.length() - 1 );
-			}
-			else {
-				return value.charAt( endIndex );
-			}
-		}
-		else {
-			return value.charAt( checkDigitIndex );
+	private static CharSequence toAsciiDigits(CharSequence value, int start, int end) {
+		StringBuilder digits = new StringBuilder( end - start );
+		for ( int i = start; i < end; i++ ) {
+			digits.append( (char) ( '0' + Character.digit( value.charAt( i ), DEC_RADIX ) ) );
 		}
+		return digits;
 	}
-
 }
@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.List;
 import jakarta.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.ModCheck;
@@ -51,25 +50,28 @@ public void initialize(ModCheck constraintAnnotation) {
 	/**
 	 * Check if the input passes the Mod10 (Luhn algorithm implementation only) or Mod11 test
 	 *
-	 * @param digits the digits over which to calculate the Mod10 or Mod11 checksum
+	 * @param digits the character sequence containing the digits over which to calculate the Mod10 or Mod11 checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
+	 * @param digitCount the number of digits
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the mod 10/11 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(CharSequence digits, int start, int end, int digitCount, char checkDigit) {
 		int modResult = -1;
 		int checkValue = extractDigit( checkDigit );
 
 		if ( modType.equals( ModType.MOD11 ) ) {
-			modResult = ModUtil.calculateMod11Check( digits, multiplier );
+			modResult = ModUtil.calculateMod11Check( digits, start, end, multiplier );
 
 			if ( modResult == 10 || modResult == 11 ) {
 				modResult = 0;
 			}
 		}
 		else {
-			modResult = ModUtil.calculateLuhnMod10Check( digits );
+			modResult = ModUtil.calculateLuhnMod10Check( digits, start, end );
 		}
 
 		return checkValue == modResult;
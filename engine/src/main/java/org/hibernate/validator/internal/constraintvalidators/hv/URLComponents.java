@@ -0,0 +1,451 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * The protocol, the host and the port of a URL, extracted from a character sequence by scanning it once, without
+ * creating a {@link java.net.URL} and without relying on exceptions for invalid URLs.
+ * <p>
+ * The URLs are scanned following the generic syntax {@code protocol:[//authority][path][?query][#fragment]}, the
+ * authority being {@code [userinfo@]host[:port]}, with the leniency of the {@link java.net.URL} constructor: the
+ * URLs accepted and the components extracted are the ones of {@link java.net.URL} for the protocols whose built-in
+ * handler parses the URLs this way, {@code http}, {@code https}, {@code ftp} and {@code file}. For the other protocols,
+ * only the protocol is extracted: whether they are supported depends on the installed protocol handlers.
+ */
+final class URLComponents {
+
+	private static final String[] SCANNED_PROTOCOLS = { "http", "https", "ftp", "file" };
+
+	/**
+	 * Whether the handler of the {@code file} protocol considers backslashes as path separators.
+	 */
+	private static final boolean BACKSLASH_FILE_SEPARATOR = File.separatorChar == '\\';
+
+	private static final int INVALID_PORT = Integer.MIN_VALUE;
+
+	private final CharSequence value;
+
+	private final int protocolStart;
+
+	private final int protocolEnd;
+
+	/**
+	 * The protocol in lower case, {@code null} if it is not one of the scanned protocols.
+	 */
+	private final String protocol;
+
+	private final int hostStart;
+
+	private final int hostEnd;
+
+	private final int port;
+
+	private URLComponents(CharSequence value, int protocolStart, int protocolEnd, String protocol, int hostStart, int hostEnd, int port) {
+		this.value = value;
+		this.protocolStart = protocolStart;
+		this.protocolEnd = protocolEnd;
+		this.protocol = protocol;
+		this.hostStart = hostStart;
+		this.hostEnd = hostEnd;
+		this.port = port;
+	}
+
+	/**
+	 * @return the components of the URL or {@code null} if the character sequence is not a valid URL
+	 */
+	static URLComponents scan(CharSequence value) {
+		int length = value.length();
+		int limit = length;
+		while ( limit > 0 && value.charAt( limit - 1 ) <= ' ' ) {
+			limit--;
+		}
+		int start = 0;
+		while ( start < limit && value.charAt( start ) <= ' ' ) {
+			start++;
+		}
+		if ( regionMatchesIgnoreCase( value, start, "url:" ) ) {
+			start += 4;
+		}
+		// a reference relative to a context URL, we do not have one
+		if ( start < length && value.charAt( start ) == '#' ) {
+			return null;
+		}
+
+		int protocolStart = start;
+		int protocolEnd = start;
+		while ( protocolEnd < limit && value.charAt( protocolEnd ) != ':' ) {
+			if ( value.charAt( protocolEnd ) == '/' ) {
+				return null;
+			}
+			protocolEnd++;
+		}
+		if ( protocolEnd == limit || !isValidProtocol( value, protocolStart, protocolEnd ) ) {
+			return null;
+		}
+		String protocol = getScannedProtocol( value, protocolStart, protocolEnd );
+		if ( protocol == null ) {
+			return new URLComponents( value, protocolStart, protocolEnd, null, 0, 0, -1 );
+		}
+
+		start = protocolEnd + 1;
+		int fragmentStart = indexOf( value, '#', start, limit );
+		if ( fragmentStart >= 0 ) {
+			limit = fragmentStart;
+		}
+		int queryStart = indexOf( value, '?', start, limit );
+		if ( queryStart >= 0 ) {
+			limit = queryStart;
+		}
+
+		boolean backslashSeparator = BACKSLASH_FILE_SEPARATOR && "file".equals( protocol );
+		int hostStart = start;
+		int hostEnd = start;
+		int port = -1;
+		boolean uncName = start <= limit - 4 && isSeparator( value, start, backslashSeparator )
+				&& isSeparator( value, start + 1, backslashSeparator ) && isSeparator( value, start + 2, backslashSeparator )
+				&& isSeparator( value, start + 3, backslashSeparator );
+		if ( !uncName && start <= limit - 2 && isSeparator( value, start, backslashSeparator )
+				&& isSeparator( value, start + 1, backslashSeparator ) ) {
+			int authorityStart = start + 2;
+			int authorityEnd = authorityStart;
+			while ( authorityEnd < limit && !isSeparator( value, authorityEnd, backslashSeparator ) ) {
+				authorityEnd++;
+			}
+
+			int at = indexOf( value, '@', authorityStart, authorityEnd );
+			if ( at >= 0 && indexOf( value, '@', at + 1, authorityEnd ) >= 0 ) {
+				// the authority is not server based, the host is empty
+				hostStart = authorityEnd;
+				hostEnd = authorityEnd;
+			}
+			else {
+				hostStart = at + 1 > 0 ? at + 1 : authorityStart;
+				hostEnd = authorityEnd;
+				if ( hostStart < hostEnd && value.charAt( hostStart ) == '[' ) {
+					int closingBracket = indexOf( value, ']', hostStart, authorityEnd );
+					if ( closingBracket - hostStart <= 2 || !isValidIpV6Address( value, hostStart + 1, closingBracket ) ) {
+						return null;
+					}
+					hostEnd = closingBracket + 1;
+					if ( hostEnd < authorityEnd ) {
+						if ( value.charAt( hostEnd ) != ':' ) {
+							return null;
+						}
+						if ( hostEnd + 1 < authorityEnd ) {
+							port = parsePort( value, hostEnd + 1, authorityEnd );
+						}
+					}
+				}
+				else {
+					int colon = indexOf( value, ':', hostStart, authorityEnd );
+					if ( colon >= 0 ) {
+						if ( colon + 1 < authorityEnd ) {
+							port = parsePort( value, colon + 1, authorityEnd );
+						}
+						hostEnd = colon;
+					}
+				}
+				if ( port < -1 ) {
+					return null;
+				}
+			}
+		}
+
+		if ( !isValidHost( value, hostStart, hostEnd ) ) {
+			return null;
+		}
+
+		return new URLComponents( value, protocolStart, protocolEnd, protocol, hostStart, hostEnd, port );
+	}
+
+	/**
+	 * @return whether the protocol is one of the scanned protocols, if not the host and the port are not extracted
+	 */
+	boolean isScanned() {
+		return protocol != null;
+	}
+
+	boolean hasProtocol(String expectedProtocol) {
+		if ( protocol != null ) {
+			return protocol.equals( expectedProtocol );
+		}
+		return value.subSequence( protocolStart, protocolEnd ).toString().toLowerCase( Locale.ROOT ).equals( expectedProtocol );
+	}
+
+	boolean hasHost(String expectedHost) {
+		int length = hostEnd - hostStart;
+		if ( expectedHost.length() != length ) {
+			return false;
+		}
+		for ( int i = 0; i < length; i++ ) {
+			if ( value.charAt( hostStart + i ) != expectedHost.charAt( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the port or -1 if not defined
+	 */
+	int getPort() {
+		return port;
+	}
+
+	private static boolean isValidProtocol(CharSequence value, int start, int end) {
+		if ( start == end || !Character.isLetter( value.charAt( start ) ) ) {
+			return false;
+		}
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			// the protocol is checked once lower cased and the lower case of U+0130 is followed by a combining dot
+			if ( c == '\u0130' ) {
+				return false;
+			}
+			if ( !Character.isLetterOrDigit( c ) && c != '.' && c != '+' && c != '-' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String getScannedProtocol(CharSequence value, int start, int end) {
+		for ( String scannedProtocol : SCANNED_PROTOCOLS ) {
+			if ( scannedProtocol.length() == end - start && regionMatchesIgnoreCase( value, start, scannedProtocol ) ) {
+				return scannedProtocol;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isSeparator(CharSequence value, int index, boolean backslashSeparator) {
+		char c = value.charAt( index );
+		return c == '/' || ( backslashSeparator && c == '\\' );
+	}
+
+	/**
+	 * Parses the port as {@link Integer#parseInt(CharSequence, int, int, int)} does.
+	 *
+	 * @return the port or {@link #INVALID_PORT} if it cannot be parsed
+	 */
+	private static int parsePort(CharSequence value, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		char first = value.charAt( i );
+		if ( first < '0' ) {
+			if ( first == '-' ) {
+				negative = true;
+			}
+			else if ( first != '+' ) {
+				return INVALID_PORT;
+			}
+			i++;
+			if ( i == end ) {
+				return INVALID_PORT;
+			}
+		}
+
+		long port = 0;
+		for ( ; i < end; i++ ) {
+			int digit = Character.digit( value.charAt( i ), 10 );
+			if ( digit < 0 ) {
+				return INVALID_PORT;
+			}
+			port = port * 10 + digit;
+			// any port lower than -1 is invalid anyway
+			if ( port > Integer.MAX_VALUE ) {
+				return INVALID_PORT;
+			}
+		}
+		return negative ? (int) -port : (int) port;
+	}
+
+	/**
+	 * Checks the host as the built-in protocol handlers do: control characters, slashes and characters normalized to
+	 * URL delimiters are rejected.
+	 */
+	private static boolean isValidHost(CharSequence value, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c < ' ' || c == '\u007f' || c == '/' ) {
+				return false;
+			}
+			switch ( c ) {
+				case '\u2047':
+				case '\u2048':
+				case '\u2049':
+				case '\u2100':
+				case '\u2101':
+				case '\u2105':
+				case '\u2106':
+				case '\u2a74':
+				case '\ufe55':
+				case '\ufe56':
+				case '\ufe5f':
+				case '\ufe6b':
+				case '\uff03':
+				case '\uff0f':
+				case '\uff1a':
+				case '\uff1f':
+				case '\uff20':
+					return false;
+				default:
+					break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an IPv6 address as {@link java.net.URL} does: hexadecimal groups, a compressed form, an IPv4 address ending
+	 * it and a zone introduced by a {@code %} are accepted.
+	 */
+	private static boolean isValidIpV6Address(CharSequence value, int start, int end) {
+		if ( end - start < 2 ) {
+			return false;
+		}
+		int zoneStart = indexOf( value, '%', start, end );
+		if ( zoneStart == end - 1 ) {
+			return false;
+		}
+		int addressEnd = zoneStart >= 0 ? zoneStart : end;
+
+		int i = start;
+		if ( value.charAt( i ) == ':' && value.charAt( ++i ) != ':' ) {
+			return false;
+		}
+		// the number of bytes of the address, and the position of the compressed groups
+		int bytes = 0;
+		int compressedGroups = -1;
+		int groupStart = i;
+		boolean inGroup = false;
+		int group = 0;
+		while ( i < addressEnd ) {
+			char c = value.charAt( i++ );
+			int digit = hexadecimalDigit( c );
+			if ( digit >= 0 ) {
+				group = ( group << 4 ) | digit;
+				if ( group > 0xffff ) {
+					return false;
+				}
+				inGroup = true;
+			}
+			else if ( c == ':' ) {
+				groupStart = i;
+				if ( !inGroup ) {
+					if ( compressedGroups >= 0 ) {
+						return false;
+					}
+					compressedGroups = bytes;
+					continue;
+				}
+				if ( i == addressEnd || bytes + 2 > 16 ) {
+					return false;
+				}
+				bytes += 2;
+				inGroup = false;
+				group = 0;
+			}
+			else if ( c == '.' && bytes + 4 <= 16 ) {
+				if ( !isValidIpV4Address( value, groupStart, addressEnd ) ) {
+					return false;
+				}
+				bytes += 4;
+				inGroup = false;
+				break;
+			}
+			else {
+				return false;
+			}
+		}
+		if ( inGroup ) {
+			if ( bytes + 2 > 16 ) {
+				return false;
+			}
+			bytes += 2;
+		}
+		if ( compressedGroups >= 0 ) {
+			return bytes != 16;
+		}
+		return bytes == 16;
+	}
+
+	/**
+	 * Checks the IPv4 address ending an IPv6 address: 4 decimal bytes.
+	 */
+	private static boolean isValidIpV4Address(CharSequence value, int start, int end) {
+		if ( end - start > 15 ) {
+			return false;
+		}
+		int dots = 0;
+		int octet = 0;
+		boolean inOctet = false;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( !inOctet || dots == 3 ) {
+					return false;
+				}
+				dots++;
+				octet = 0;
+				inOctet = false;
+			}
+			else if ( c >= '0' && c <= '9' ) {
+				octet = octet * 10 + ( c - '0' );
+				if ( octet > 0xff ) {
+					return false;
+				}
+				inOctet = true;
+			}
+			else {
+				return false;
+			}
+		}
+		return dots == 3 && inOctet;
+	}
+
+	private static int hexadecimalDigit(char c) {
+		if ( c >= '0' && c <= '9' ) {
+			return c - '0';
+		}
+		if ( c >= 'a' && c <= 'f' ) {
+			return c - 'a' + 10;
+		}
+		if ( c >= 'A' && c <= 'F' ) {
+			return c - 'A' + 10;
+		}
+		return -1;
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, String lowerCaseString) {
+		if ( start + lowerCaseString.length() > value.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < lowerCaseString.length(); i++ ) {
+			char c = value.charAt( start + i );
+			if ( c >= 'A' && c <= 'Z' ) {
+				c = (char) ( c + ( 'a' - 'A' ) );
+			}
+			if ( c != lowerCaseString.charAt( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
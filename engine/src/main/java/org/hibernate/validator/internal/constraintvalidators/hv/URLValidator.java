@@ -11,7 +11,12 @@
 import jakarta.validation.ConstraintValidatorContext;
 
 /**
- * Validate that the character sequence (e.g. string) is a valid URL using the {@code java.net.URL} constructor.
+ * Validate that the character sequence (e.g. string) is a valid URL as defined by the {@code java.net.URL} constructor.
+ * <p>
+ * The URLs using the protocols with a built-in handler parsing them as hierarchical URLs are scanned by
+ * {@link URLComponents}, invalid URLs are rejected without creating a {@code java.net.URL} and catching the resulting
+ * exception. The URLs using other protocols are checked by creating a {@code java.net.URL}, as whether their protocol
+ * is supported depends on the installed protocol handlers.
  *
  * @author Hardy Ferentschik
  */
@@ -33,6 +38,31 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 
+		URLComponents url = URLComponents.scan( value );
+		if ( url == null ) {
+			return false;
+		}
+
+		if ( protocol != null && protocol.length() > 0 && !url.hasProtocol( protocol ) ) {
+			return false;
+		}
+
+		if ( !url.isScanned() ) {
+			return isValidJavaNetURL( value );
+		}
+
+		if ( host != null && host.length() > 0 && !url.hasHost( host ) ) {
+			return false;
+		}
+
+		if ( port != -1 && url.getPort() != port ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private boolean isValidJavaNetURL(CharSequence value) {
 		java.net.URL url;
 		try {
 			url = new java.net.URL( value.toString() );
@@ -41,10 +71,6 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return false;
 		}
 
-		if ( protocol != null && protocol.length() > 0 && !url.getProtocol().equals( protocol ) ) {
-			return false;
-		}
-
 		if ( host != null && host.length() > 0 && !url.getHost().equals( host ) ) {
 			return false;
 		}
@@ -6,10 +6,11 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import static java.util.stream.Collectors.toList;
-
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,10 @@
  * collection.
  * <p>
  * Uniqueness is defined by the {@code equals()} method of the objects being compared.
+ * <p>
+ * The elements of small collections are compared pairwise, the ones of larger collections are added to a hash set.
+ * The lookup stops at the first duplicate unless the duplicates have to be reported to a
+ * {@link HibernateConstraintValidatorContext}.
  *
  * @author Tadhg Pearson
  * @author Guillaume Smet
@@ -34,6 +39,11 @@
 // Collection here to support having properties defined as Collection (see HV-1551)
 public class UniqueElementsValidator implements ConstraintValidator<UniqueElements, Collection> {
 
+	/**
+	 * Up to this size, the elements are compared pairwise instead of being added to a hash set.
+	 */
+	private static final int PAIRWISE_COMPARISON_MAX_SIZE = 8;
+
 	/**
 	 * @param collection the collection to validate
 	 * @param constraintValidatorContext context in which the constraint is evaluated
@@ -46,24 +56,83 @@ public boolean isValid(Collection collection, ConstraintValidatorContext constra
 			return true;
 		}
 
-		List<Object> duplicates = findDuplicates( collection );
+		if ( !( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) ) {
+			return findDuplicates( collection, false ).isEmpty();
+		}
+
+		List<Object> duplicates = findDuplicates( collection, true );
 
 		if ( duplicates.isEmpty() ) {
 			return true;
 		}
 
-		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
-			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
-					.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
-					.withDynamicPayload( CollectionHelper.toImmutableList( duplicates ) );
-		}
+		constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
+				.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
+				.withDynamicPayload( CollectionHelper.toImmutableList( duplicates ) );
 
 		return false;
 	}
 
-	private List<Object> findDuplicates(Collection<?> collection) {
+	/**
+	 * @param collection the collection to check
+	 * @param allDuplicates whether all the duplicates have to be returned or only the first one
+	 *
+	 * @return the elements equal to a previous element of the collection, in iteration order
+	 */
+	private static List<Object> findDuplicates(Collection<?> collection, boolean allDuplicates) {
+		if ( collection.size() <= PAIRWISE_COMPARISON_MAX_SIZE ) {
+			return findDuplicatesPairwise( collection.toArray(), allDuplicates );
+		}
+
+		List<Object> duplicates = null;
 		Set<Object> uniqueElements = CollectionHelper.newHashSet( collection.size() );
-		return collection.stream().filter( o -> !uniqueElements.add( o ) )
-				.collect( toList() );
+		for ( Object element : collection ) {
+			if ( !uniqueElements.add( element ) ) {
+				duplicates = addDuplicate( duplicates, element );
+				if ( !allDuplicates ) {
+					break;
+				}
+			}
+		}
+		return duplicates != null ? duplicates : Collections.emptyList();
+	}
+
+	/**
+	 * As with a hash set, an element is only compared to the previous elements which are not duplicates themselves.
+	 *
+	 * @param elements the elements to check, compacted in place so that the first ones are the unique elements
+	 */
+	private static List<Object> findDuplicatesPairwise(Object[] elements, boolean allDuplicates) {
+		List<Object> duplicates = null;
+		int uniqueElementsCount = 1;
+		for ( int i = 1; i < elements.length; i++ ) {
+			if ( containsEqualElement( elements, uniqueElementsCount, elements[i] ) ) {
+				duplicates = addDuplicate( duplicates, elements[i] );
+				if ( !allDuplicates ) {
+					break;
+				}
+			}
+			else {
+				elements[uniqueElementsCount++] = elements[i];
+			}
+		}
+		return duplicates != null ? duplicates : Collections.emptyList();
+	}
+
+	private static boolean containsEqualElement(Object[] elements, int count, Object element) {
+		for ( int i = 0; i < count; i++ ) {
+			if ( Objects.equals( element, elements[i] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<Object> addDuplicate(List<Object> duplicates, Object duplicate) {
+		if ( duplicates == null ) {
+			duplicates = new ArrayList<>();
+		}
+		duplicates.add( duplicate );
+		return duplicates;
 	}
 }
@@ -6,20 +6,18 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.Mod11Check;
 import org.hibernate.validator.constraints.br.CNPJ;
 import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.util.ModUtil;
 
 /**
  * @author Hardy Ferentschik
  */
 public class CNPJValidator implements ConstraintValidator<CNPJ, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
-
 	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
 	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
 
@@ -55,7 +53,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
+		if ( ModUtil.isDigitsOnly( value, 0, value.length() ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
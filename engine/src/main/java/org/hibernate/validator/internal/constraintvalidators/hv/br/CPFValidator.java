@@ -6,21 +6,18 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.Mod11Check;
 import org.hibernate.validator.constraints.br.CPF;
 import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.util.ModUtil;
 
 /**
  * @author Hardy Ferentschik
  */
 public class CPFValidator implements ConstraintValidator<CPF, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
-	private static final Pattern SINGLE_DASH_SEPARATOR = Pattern.compile( "\\d+-\\d\\d" );
-
 	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
 	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
 
@@ -67,11 +64,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
+		if ( ModUtil.isDigitsOnly( value, 0, value.length() ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
-		else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
+		else if ( hasSingleDashSeparator( value ) ) {
 			return withDashOnlySeparatorMod11Validator1.isValid( value, context )
 					&& withDashOnlySeparatorMod11Validator2.isValid( value, context );
 		}
@@ -81,4 +78,12 @@ else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
 
 		}
 	}
+
+	/**
+	 * @return whether the value is made of digits followed by a dash and two digits
+	 */
+	private static boolean hasSingleDashSeparator(CharSequence value) {
+		int dash = value.length() - 3;
+		return dash > 0 && value.charAt( dash ) == '-' && ModUtil.isDigitsOnly( value, 0, dash ) && ModUtil.isDigitsOnly( value, dash + 1, value.length() );
+	}
 }
@@ -6,10 +6,8 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.time.DateTimeException;
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.time.Month;
+import java.time.Year;
 
 import jakarta.validation.ConstraintValidator;
 
@@ -37,31 +35,23 @@ public void initialize(PESEL constraintAnnotation) {
 	}
 
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(CharSequence digits, int start, int end, int digitCount, char checkDigit) {
 		// if the length of the number is incorrect we can return fast
-		if ( digits.size() != WEIGHTS_PESEL.length ) {
+		// as the non digit characters are not ignored, all the characters are digits
+		if ( digitCount != WEIGHTS_PESEL.length ) {
 			return false;
 		}
 
-		int monthCode = doubleDigitNumberFromSubList( digits, 2 );
-		try {
-			// PESEL format is YYMMDD*****, where MM is coded month (depending on the century
-			// 0/20/40/60/80 can be added to the month value) see javadoc on `year()`.
-			// Need to make sure that these first 6 digits represent a valid date
-			LocalDate.of(
-					year( doubleDigitNumberFromSubList( digits, 0 ), monthCode / 20 ),
-					monthCode % 20,
-					doubleDigitNumberFromSubList( digits, 4 )
-			);
-		}
-		catch (DateTimeException e) {
+		// PESEL format is YYMMDD*****, where MM is coded month (depending on the century
+		// 0/20/40/60/80 can be added to the month value) see javadoc on `year()`.
+		// Need to make sure that these first 6 digits represent a valid date
+		int monthCode = doubleDigitNumber( digits, start + 2 );
+		if ( !isValidDate( year( doubleDigitNumber( digits, start ), monthCode / 20 ), monthCode % 20, doubleDigitNumber( digits, start + 4 ) ) ) {
 			return false;
 		}
 
 		// now that we are done with custom logic we can proceeed with regular mod check of the checkdigit:
-		Collections.reverse( digits );
-
-		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
+		int modResult = ModUtil.calculateModXCheckWithWeights( digits, start, end, true, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
 		switch ( modResult ) {
 			case 10:
 				return checkDigit == '0';
@@ -70,9 +60,15 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 	}
 
-	private int doubleDigitNumberFromSubList(List<Integer> digits, int start) {
-		// index access is ok here as we use ArrayLists.
-		return digits.get( start ) * 10 + digits.get( start + 1 );
+	private int doubleDigitNumber(CharSequence digits, int index) {
+		return ModUtil.digitAt( digits, index ) * 10 + ModUtil.digitAt( digits, index + 1 );
+	}
+
+	private boolean isValidDate(int year, int month, int day) {
+		if ( month < 1 || month > 12 ) {
+			return false;
+		}
+		return day >= 1 && day <= Month.of( month ).length( Year.isLeap( year ) );
 	}
 
 	/**
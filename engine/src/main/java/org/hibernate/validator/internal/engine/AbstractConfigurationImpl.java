@@ -60,6 +60,7 @@
 import org.hibernate.validator.internal.xml.config.ValidationXmlParser;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
@@ -134,6 +135,13 @@
 	private ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel;
 	private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 	private boolean showValidatedValuesInTraceLogs;
+	private BeanMetaDataCachePolicy beanMetaDataCachePolicy;
+	private Integer beanMetaDataCacheMaxSize;
+	private boolean messageCatalogEnabled;
+	private Integer messageInterpolationCacheMaxSize;
+	private boolean detachedConstraintViolations;
+	private boolean linearTimeRegexpMatching;
+	private boolean temporalValidationClockSnapshot;
 
 	protected AbstractConfigurationImpl(BootstrapState state) {
 		this();
@@ -570,9 +578,11 @@ public ClassLoader getExternalClassLoader() {
 	@Override
 	public final MessageInterpolator getDefaultMessageInterpolator() {
 		if ( defaultMessageInterpolator == null ) {
-			defaultMessageInterpolator = new ResourceBundleMessageInterpolator( getDefaultResourceBundleLocator(), getAllSupportedLocales(),
+			defaultMessageInterpolator = new ResourceBundleMessageInterpolator( getDefaultResourceBundleLocator(), null, getAllSupportedLocales(),
 					defaultLocale, ValidatorFactoryConfigurationHelper.determineLocaleResolver( this, this.getProperties(), externalClassLoader ),
-					preloadResourceBundles() );
+					preloadResourceBundles(), true,
+					ValidatorFactoryConfigurationHelper.determineMessageCatalogEnabled( this, this.getProperties() ),
+					ValidatorFactoryConfigurationHelper.determineMessageInterpolationCacheMaxSize( this, this.getProperties() ) );
 		}
 
 		return defaultMessageInterpolator;
@@ -672,6 +682,87 @@ public final boolean getShowValidatedValuesInTraceLogs() {
 		return this.showValidatedValuesInTraceLogs;
 	}
 
+	@Override
+	public T beanMetaDataCachePolicy(BeanMetaDataCachePolicy beanMetaDataCachePolicy) {
+		if ( LOG.isDebugEnabled() ) {
+			if ( beanMetaDataCachePolicy != null ) {
+				LOG.debug( "Setting BeanMetaDataCachePolicy to " + beanMetaDataCachePolicy.name() );
+			}
+		}
+		this.beanMetaDataCachePolicy = beanMetaDataCachePolicy;
+		return thisAsT();
+	}
+
+	public BeanMetaDataCachePolicy getBeanMetaDataCachePolicy() {
+		return beanMetaDataCachePolicy;
+	}
+
+	@Override
+	public T beanMetaDataCacheMaxSize(int beanMetaDataCacheMaxSize) {
+		if ( beanMetaDataCacheMaxSize <= 0 ) {
+			throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( String.valueOf( beanMetaDataCacheMaxSize ) );
+		}
+		this.beanMetaDataCacheMaxSize = beanMetaDataCacheMaxSize;
+		return thisAsT();
+	}
+
+	public Integer getBeanMetaDataCacheMaxSize() {
+		return beanMetaDataCacheMaxSize;
+	}
+
+	@Override
+	public T messageCatalogEnabled(boolean enabled) {
+		this.messageCatalogEnabled = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isMessageCatalogEnabled() {
+		return this.messageCatalogEnabled;
+	}
+
+	@Override
+	public T messageInterpolationCacheMaxSize(int messageInterpolationCacheMaxSize) {
+		if ( messageInterpolationCacheMaxSize <= 0 ) {
+			throw LOG.getInvalidMessageInterpolationCacheMaxSizeException( String.valueOf( messageInterpolationCacheMaxSize ) );
+		}
+		this.messageInterpolationCacheMaxSize = messageInterpolationCacheMaxSize;
+		return thisAsT();
+	}
+
+	public Integer getMessageInterpolationCacheMaxSize() {
+		return messageInterpolationCacheMaxSize;
+	}
+
+	@Override
+	public T detachedConstraintViolations(boolean enabled) {
+		this.detachedConstraintViolations = enabled;
+		return thisAsT();
+	}
+
+	public boolean isDetachedConstraintViolations() {
+		return detachedConstraintViolations;
+	}
+
+	@Override
+	public T linearTimeRegexpMatching(boolean enabled) {
+		this.linearTimeRegexpMatching = enabled;
+		return thisAsT();
+	}
+
+	public boolean isLinearTimeRegexpMatching() {
+		return linearTimeRegexpMatching;
+	}
+
+	@Override
+	public T temporalValidationClockSnapshot(boolean enabled) {
+		this.temporalValidationClockSnapshot = enabled;
+		return thisAsT();
+	}
+
+	public boolean isTemporalValidationClockSnapshot() {
+		return temporalValidationClockSnapshot;
+	}
+
 	public final Set<DefaultConstraintMapping> getProgrammaticMappings() {
 		return programmaticMappings;
 	}
@@ -823,7 +914,10 @@ private MessageInterpolator getDefaultMessageInterpolatorConfiguredWithClassLoad
 						getAllSupportedLocales(),
 						defaultLocale,
 						ValidatorFactoryConfigurationHelper.determineLocaleResolver( this, this.getProperties(), externalClassLoader ),
-						preloadResourceBundles()
+						preloadResourceBundles(),
+						true,
+						ValidatorFactoryConfigurationHelper.determineMessageCatalogEnabled( this, this.getProperties() ),
+						ValidatorFactoryConfigurationHelper.determineMessageInterpolationCacheMaxSize( this, this.getProperties() )
 				);
 			}
 			finally {
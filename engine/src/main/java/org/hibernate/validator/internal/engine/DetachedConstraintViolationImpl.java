@@ -0,0 +1,189 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A constraint violation which does not retain any reference to the validated objects, so that it can be kept for a
+ * long time without retaining the validated object graph.
+ * <p>
+ * Only the property path, without the values of its nodes, the message template, the interpolated message, the
+ * constraint descriptor and the root bean class are kept. The root bean, the leaf bean, the invalid value, the
+ * executable parameters and return value and the dynamic payload are not available.
+ * <p>
+ * As the objects distinguishing the violations reported for distinct values at the same path are not retained, each
+ * detached violation is given a unique id on which its equality is based. The duplicated violations are filtered out
+ * by the validation before being detached, following the equality of {@link ConstraintViolationImpl}.
+ */
+public class DetachedConstraintViolationImpl<T> implements HibernateConstraintViolation<T>, Serializable {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+	private static final long serialVersionUID = 1932375427383524578L;
+
+	private static final AtomicLong IDS = new AtomicLong();
+
+	private final String interpolatedMessage;
+	private final String messageTemplate;
+	private final Path propertyPath;
+	private final ConstraintDescriptor<?> constraintDescriptor;
+	private final Class<T> rootBeanClass;
+	private final long id;
+
+	public static <T> ConstraintViolation<T> of(String messageTemplate,
+			String interpolatedMessage,
+			Class<T> rootBeanClass,
+			PathImpl detachedPropertyPath,
+			ConstraintDescriptor<?> constraintDescriptor) {
+		return new DetachedConstraintViolationImpl<>(
+				messageTemplate,
+				interpolatedMessage,
+				rootBeanClass,
+				detachedPropertyPath,
+				constraintDescriptor
+		);
+	}
+
+	private DetachedConstraintViolationImpl(String messageTemplate,
+			String interpolatedMessage,
+			Class<T> rootBeanClass,
+			Path propertyPath,
+			ConstraintDescriptor<?> constraintDescriptor) {
+		this.messageTemplate = messageTemplate;
+		this.interpolatedMessage = interpolatedMessage;
+		this.rootBeanClass = rootBeanClass;
+		this.propertyPath = propertyPath;
+		this.constraintDescriptor = constraintDescriptor;
+		this.id = IDS.incrementAndGet();
+	}
+
+	@Override
+	public final String getMessage() {
+		return interpolatedMessage;
+	}
+
+	@Override
+	public final String getMessageTemplate() {
+		return messageTemplate;
+	}
+
+	/**
+	 * @return {@code null} as the root bean is not retained
+	 */
+	@Override
+	public final T getRootBean() {
+		return null;
+	}
+
+	@Override
+	public final Class<T> getRootBeanClass() {
+		return rootBeanClass;
+	}
+
+	/**
+	 * @return {@code null} as the leaf bean is not retained
+	 */
+	@Override
+	public final Object getLeafBean() {
+		return null;
+	}
+
+	/**
+	 * @return {@code null} as the executable parameters are not retained
+	 */
+	@Override
+	public Object[] getExecutableParameters() {
+		return null;
+	}
+
+	/**
+	 * @return {@code null} as the executable return value is not retained
+	 */
+	@Override
+	public Object getExecutableReturnValue() {
+		return null;
+	}
+
+	/**
+	 * @return {@code null} as the invalid value is not retained
+	 */
+	@Override
+	public final Object getInvalidValue() {
+		return null;
+	}
+
+	@Override
+	public final Path getPropertyPath() {
+		return propertyPath;
+	}
+
+	@Override
+	public final ConstraintDescriptor<?> getConstraintDescriptor() {
+		return this.constraintDescriptor;
+	}
+
+	@Override
+	public <C> C unwrap(Class<C> type) {
+		if ( type.isAssignableFrom( ConstraintViolation.class ) ) {
+			return type.cast( this );
+		}
+		if ( type.isAssignableFrom( HibernateConstraintViolation.class ) ) {
+			return type.cast( this );
+		}
+		throw LOG.getTypeNotSupportedForUnwrappingException( type );
+	}
+
+	/**
+	 * @return {@code null} as the dynamic payload is not retained
+	 */
+	@Override
+	public <C> C getDynamicPayload(Class<C> type) {
+		return null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		DetachedConstraintViolationImpl<?> that = (DetachedConstraintViolationImpl<?>) o;
+
+		return id == that.id;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode( id );
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( "DetachedConstraintViolationImpl" );
+		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( ", propertyPath=" ).append( propertyPath );
+		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
+		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
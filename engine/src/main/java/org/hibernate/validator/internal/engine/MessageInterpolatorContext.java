@@ -14,6 +14,7 @@
 import jakarta.validation.Path;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.internal.engine.messageinterpolation.LocaleResolutionCache;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
@@ -42,6 +43,8 @@ public class MessageInterpolatorContext implements HibernateMessageInterpolatorC
 	private final Map<String, Object> expressionVariables;
 	private final ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel;
 	private final boolean customViolation;
+	private final boolean dynamicMessageTemplate;
+	private final LocaleResolutionCache localeResolutionCache;
 
 	public MessageInterpolatorContext(ConstraintDescriptor<?> constraintDescriptor,
 					Object validatedValue,
@@ -51,6 +54,20 @@ public MessageInterpolatorContext(ConstraintDescriptor<?> constraintDescriptor,
 					Map<String, Object> expressionVariables,
 					ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
 					boolean customViolation) {
+		this( constraintDescriptor, validatedValue, rootBeanType, propertyPath, messageParameters, expressionVariables,
+				expressionLanguageFeatureLevel, customViolation, false, null );
+	}
+
+	public MessageInterpolatorContext(ConstraintDescriptor<?> constraintDescriptor,
+					Object validatedValue,
+					Class<?> rootBeanType,
+					Path propertyPath,
+					Map<String, Object> messageParameters,
+					Map<String, Object> expressionVariables,
+					ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
+					boolean customViolation,
+					boolean dynamicMessageTemplate,
+					LocaleResolutionCache localeResolutionCache) {
 		this.constraintDescriptor = constraintDescriptor;
 		this.validatedValue = validatedValue;
 		this.rootBeanType = rootBeanType;
@@ -59,6 +76,8 @@ public MessageInterpolatorContext(ConstraintDescriptor<?> constraintDescriptor,
 		this.expressionVariables = toImmutableMap( expressionVariables );
 		this.expressionLanguageFeatureLevel = expressionLanguageFeatureLevel;
 		this.customViolation = customViolation;
+		this.dynamicMessageTemplate = dynamicMessageTemplate;
+		this.localeResolutionCache = localeResolutionCache;
 	}
 
 	@Override
@@ -90,6 +109,22 @@ public boolean isCustomViolation() {
 		return customViolation;
 	}
 
+	/**
+	 * @return whether the message template has been marked as dynamic, in which case its interpolation should not be
+	 * cached
+	 */
+	public boolean isDynamicMessageTemplate() {
+		return dynamicMessageTemplate;
+	}
+
+	/**
+	 * @return the cache of the locale resolved for the current validation call, {@code null} if the context is not
+	 * created by a validation call
+	 */
+	public LocaleResolutionCache getLocaleResolutionCache() {
+		return localeResolutionCache;
+	}
+
 	@Override
 	public Map<String, Object> getExpressionVariables() {
 		return expressionVariables;
@@ -153,6 +188,7 @@ public String toString() {
 		sb.append( ", expressionVariables=" ).append( expressionVariables );
 		sb.append( ", expressionLanguageFeatureLevel=" ).append( expressionLanguageFeatureLevel );
 		sb.append( ", customViolation=" ).append( customViolation );
+		sb.append( ", dynamicMessageTemplate=" ).append( dynamicMessageTemplate );
 		sb.append( '}' );
 		return sb.toString();
 	}
@@ -148,6 +148,18 @@ public HibernateValidatorContext showValidatedValuesInTraceLogs(boolean enabled)
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext detachedConstraintViolations(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setDetachedConstraintViolations( enabled );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext temporalValidationClockSnapshot(boolean enabled) {
+		validatorFactoryScopedContextBuilder.setTemporalValidationClockSnapshot( enabled );
+		return this;
+	}
+
 	@Override
 	public Validator getValidator() {
 		return validatorFactory.createValidator(
@@ -39,7 +39,9 @@
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
 import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
+import org.hibernate.validator.messageinterpolation.AbstractMessageInterpolator;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
@@ -51,6 +53,8 @@ final class ValidatorFactoryConfigurationHelper {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE = 1024;
+
 	private ValidatorFactoryConfigurationHelper() {
 	}
 
@@ -188,6 +192,38 @@ static boolean determineTraversableResolverResultCacheEnabled(AbstractConfigurat
 		);
 	}
 
+	static boolean determineMessageCatalogEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.MESSAGE_CATALOG_ENABLED,
+				configuration != null ? configuration.isMessageCatalogEnabled() : false
+		);
+	}
+
+	static boolean determineDetachedConstraintViolations(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.DETACHED_CONSTRAINT_VIOLATIONS,
+				configuration != null ? configuration.isDetachedConstraintViolations() : false
+		);
+	}
+
+	static boolean determineLinearTimeRegexpMatching(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.LINEAR_TIME_REGEXP_MATCHING,
+				configuration != null ? configuration.isLinearTimeRegexpMatching() : false
+		);
+	}
+
+	static boolean determineTemporalValidationClockSnapshot(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.TEMPORAL_VALIDATION_CLOCK_SNAPSHOT,
+				configuration != null ? configuration.isTemporalValidationClockSnapshot() : false
+		);
+	}
+
 	static boolean determineFailFast(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether fail fast is programmatically enabled
 		boolean tmpFailFast = configuration != null ? configuration.getFailFast() : false;
@@ -443,6 +479,70 @@ static boolean determineShowValidatedValuesInTraceLogs(AbstractConfigurationImpl
 		return tmpShowValidatedValuesInTraceLogging;
 	}
 
+	static BeanMetaDataCachePolicy determineBeanMetaDataCachePolicy(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getBeanMetaDataCachePolicy() != null ) {
+			return hibernateSpecificConfig.getBeanMetaDataCachePolicy();
+		}
+
+		String beanMetaDataCachePolicyName = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_POLICY );
+		if ( beanMetaDataCachePolicyName != null ) {
+			try {
+				return BeanMetaDataCachePolicy.of( beanMetaDataCachePolicyName );
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.invalidBeanMetaDataCachePolicyValue( beanMetaDataCachePolicyName, e );
+			}
+		}
+
+		return BeanMetaDataCachePolicy.DEFAULT;
+	}
+
+	static int determineMessageInterpolationCacheMaxSize(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration.getMessageInterpolationCacheMaxSize() != null ) {
+			return configuration.getMessageInterpolationCacheMaxSize();
+		}
+
+		String messageInterpolationCacheMaxSizeProperty = properties.get( HibernateValidatorConfiguration.MESSAGE_INTERPOLATION_CACHE_MAX_SIZE );
+		if ( messageInterpolationCacheMaxSizeProperty != null ) {
+			int messageInterpolationCacheMaxSize;
+			try {
+				messageInterpolationCacheMaxSize = Integer.parseInt( messageInterpolationCacheMaxSizeProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getInvalidMessageInterpolationCacheMaxSizeException( messageInterpolationCacheMaxSizeProperty );
+			}
+			if ( messageInterpolationCacheMaxSize <= 0 ) {
+				throw LOG.getInvalidMessageInterpolationCacheMaxSizeException( messageInterpolationCacheMaxSizeProperty );
+			}
+			return messageInterpolationCacheMaxSize;
+		}
+
+		return AbstractMessageInterpolator.DEFAULT_CACHE_MAX_SIZE;
+	}
+
+	static int determineBeanMetaDataCacheMaxSize(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getBeanMetaDataCacheMaxSize() != null ) {
+			return hibernateSpecificConfig.getBeanMetaDataCacheMaxSize();
+		}
+
+		String beanMetaDataCacheMaxSizeProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE );
+		if ( beanMetaDataCacheMaxSizeProperty != null ) {
+			int beanMetaDataCacheMaxSize;
+			try {
+				beanMetaDataCacheMaxSize = Integer.parseInt( beanMetaDataCacheMaxSizeProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( beanMetaDataCacheMaxSizeProperty );
+			}
+			if ( beanMetaDataCacheMaxSize <= 0 ) {
+				throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( beanMetaDataCacheMaxSizeProperty );
+			}
+			return beanMetaDataCacheMaxSize;
+		}
+
+		return DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE;
+	}
+
 	static void logValidatorFactoryScopedConfiguration(ValidatorFactoryScopedContext context) {
 		LOG.logValidatorFactoryScopedConfiguration( context.getMessageInterpolator().getClass(), "message interpolator" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getTraversableResolver().getClass(), "traversable resolver" );
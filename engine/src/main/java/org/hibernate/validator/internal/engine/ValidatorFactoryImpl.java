@@ -9,19 +9,24 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowMultipleCascadedValidationOnReturnValues;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheMaxSize;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCachePolicy;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineDetachedConstraintViolations;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCustomViolationExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLinearTimeRegexpMatching;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationClockSnapshot;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
@@ -50,6 +55,7 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCache;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -64,7 +70,9 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.internal.util.stereotypes.ThreadSafe;
+import org.hibernate.validator.internal.xml.mapping.MappingEventsCache;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -134,6 +142,13 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 
 	private final ValidationOrderGenerator validationOrderGenerator;
 
+	/**
+	 * Defines how the bean metadata is cached by the {@code BeanMetaDataManager}s.
+	 */
+	private final BeanMetaDataCachePolicy beanMetaDataCachePolicy;
+
+	private final int beanMetaDataCacheMaxSize;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = determineExternalClassLoader( configurationState );
 
@@ -165,7 +180,10 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
-				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties )
+				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineDetachedConstraintViolations( hibernateSpecificConfig, properties ),
+				determineTemporalValidationClockSnapshot( hibernateSpecificConfig, properties ),
+				determineLinearTimeRegexpMatching( hibernateSpecificConfig, properties )
 		);
 
 		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
@@ -185,6 +203,9 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		this.javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
 				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ) );
 		this.beanMetadataClassNormalizer = determineBeanMetaDataClassNormalizer( hibernateSpecificConfig );
+		this.beanMetaDataCachePolicy = determineBeanMetaDataCachePolicy( hibernateSpecificConfig, properties );
+		this.beanMetaDataCacheMaxSize = determineBeanMetaDataCacheMaxSize( hibernateSpecificConfig, properties );
+		LOG.logBeanMetaDataCachePolicy( beanMetaDataCachePolicy, beanMetaDataCacheMaxSize );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
 		// no control over them (include/exclude the ones that already exists from any other sources etc.)
@@ -202,7 +223,7 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		MappingXmlParser mappingParser = null;
 		if ( !configurationState.getMappingStreams().isEmpty() ) {
 			mappingParser = new MappingXmlParser( constraintCreationContext,
-					javaBeanHelper, externalClassLoader );
+					javaBeanHelper, externalClassLoader, MappingEventsCache.getSharedInstance() );
 			mappingParser.parse( configurationState.getMappingStreams() );
 		}
 
@@ -349,7 +370,8 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						beanMetadataClassNormalizer,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
-						methodValidationConfiguration
+						methodValidationConfiguration,
+						BeanMetaDataCache.of( beanMetaDataCachePolicy, beanMetaDataCacheMaxSize )
 				)
 		);
 
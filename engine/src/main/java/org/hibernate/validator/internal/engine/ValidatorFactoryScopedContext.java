@@ -88,6 +88,16 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to produce constraint violations not retaining the validated objects.
+	 */
+	private final boolean detachedConstraintViolations;
+
+	/**
+	 * Hibernate Validator specific flag to read the current time only once per validation call.
+	 */
+	private final boolean temporalValidationClockSnapshot;
+
 	ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			TraversableResolver traversableResolver,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -99,12 +109,15 @@ public class ValidatorFactoryScopedContext {
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
-			boolean showValidatedValuesInTraceLogs) {
+			boolean showValidatedValuesInTraceLogs,
+			boolean detachedConstraintViolations,
+			boolean temporalValidationClockSnapshot,
+			boolean linearTimeRegexpMatching) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
-				traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
-				customViolationExpressionLanguageFeatureLevel,
+				traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, detachedConstraintViolations, temporalValidationClockSnapshot,
+				constraintValidatorPayload, constraintExpressionLanguageFeatureLevel, customViolationExpressionLanguageFeatureLevel,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
-						temporalValidationTolerance ) );
+						temporalValidationTolerance, linearTimeRegexpMatching ) );
 	}
 
 	private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
@@ -115,7 +128,10 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
-			boolean showValidatedValuesInTraceLogs, Object constraintValidatorPayload,
+			boolean showValidatedValuesInTraceLogs,
+			boolean detachedConstraintViolations,
+			boolean temporalValidationClockSnapshot,
+			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
 			HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext) {
@@ -131,6 +147,8 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 		this.constraintExpressionLanguageFeatureLevel = constraintExpressionLanguageFeatureLevel;
 		this.customViolationExpressionLanguageFeatureLevel = customViolationExpressionLanguageFeatureLevel;
 		this.showValidatedValuesInTraceLogs = showValidatedValuesInTraceLogs;
+		this.detachedConstraintViolations = detachedConstraintViolations;
+		this.temporalValidationClockSnapshot = temporalValidationClockSnapshot;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -186,6 +204,14 @@ public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
 
+	public boolean isDetachedConstraintViolations() {
+		return detachedConstraintViolations;
+	}
+
+	public boolean isTemporalValidationClockSnapshot() {
+		return temporalValidationClockSnapshot;
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -202,6 +228,8 @@ static class Builder {
 		private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 
 		private boolean showValidatedValuesInTraceLogs;
+		private boolean detachedConstraintViolations;
+		private boolean temporalValidationClockSnapshot;
 		private HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -220,6 +248,8 @@ static class Builder {
 			this.constraintExpressionLanguageFeatureLevel = defaultContext.constraintExpressionLanguageFeatureLevel;
 			this.customViolationExpressionLanguageFeatureLevel = defaultContext.customViolationExpressionLanguageFeatureLevel;
 			this.showValidatedValuesInTraceLogs = defaultContext.showValidatedValuesInTraceLogs;
+			this.detachedConstraintViolations = defaultContext.detachedConstraintViolations;
+			this.temporalValidationClockSnapshot = defaultContext.temporalValidationClockSnapshot;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -312,6 +342,16 @@ public ValidatorFactoryScopedContext.Builder setShowValidatedValuesInTraceLogs(
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setDetachedConstraintViolations(boolean detachedConstraintViolations) {
+			this.detachedConstraintViolations = detachedConstraintViolations;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setTemporalValidationClockSnapshot(boolean temporalValidationClockSnapshot) {
+			this.temporalValidationClockSnapshot = temporalValidationClockSnapshot;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext build() {
 			return new ValidatorFactoryScopedContext(
 					messageInterpolator,
@@ -322,7 +362,10 @@ public ValidatorFactoryScopedContext build() {
 					scriptEvaluatorFactory,
 					failFast,
 					traversableResolverResultCacheEnabled,
-					showValidatedValuesInTraceLogs, constraintValidatorPayload,
+					showValidatedValuesInTraceLogs,
+					detachedConstraintViolations,
+					temporalValidationClockSnapshot,
+					constraintValidatorPayload,
 					constraintExpressionLanguageFeatureLevel,
 					customViolationExpressionLanguageFeatureLevel,
 					HibernateConstraintValidatorInitializationContextImpl.of(
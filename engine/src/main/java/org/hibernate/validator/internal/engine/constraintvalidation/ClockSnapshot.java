@@ -0,0 +1,141 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A {@link ClockProvider} reading the current time of another clock provider once, when it is first requested, and then
+ * providing a clock fixed at this instant.
+ * <p>
+ * An instance is created per validation call when the temporal validation clock snapshot is enabled so that all the
+ * temporal constraints of the call are checked against the same reference time. The reference values derived from the
+ * snapshot are cached per type and offset, the time zone being the one of the snapshot.
+ * <p>
+ * Instances are confined to a validation call and are not thread-safe.
+ */
+public final class ClockSnapshot implements ClockProvider {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final ClockProvider clockProvider;
+
+	private Clock clock;
+
+	private Map<ReferenceValueKey, Object> referenceValues;
+
+	public ClockSnapshot(ClockProvider clockProvider) {
+		this.clockProvider = clockProvider;
+	}
+
+	/**
+	 * @return the clock snapshot of the validation call if the clock provider of the given context is one, {@code null}
+	 * otherwise
+	 */
+	public static ClockSnapshot of(ConstraintValidatorContext context) {
+		if ( context == null ) {
+			return null;
+		}
+		ClockProvider clockProvider = context.getClockProvider();
+		return clockProvider instanceof ClockSnapshot ? (ClockSnapshot) clockProvider : null;
+	}
+
+	@Override
+	public Clock getClock() {
+		if ( clock == null ) {
+			try {
+				Clock currentClock = clockProvider.getClock();
+				clock = Clock.fixed( currentClock.instant(), currentClock.getZone() );
+			}
+			catch (Exception e) {
+				throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
+			}
+		}
+		return clock;
+	}
+
+	/**
+	 * @param offset the duration to add to the snapshot
+	 *
+	 * @return a clock fixed at the snapshot shifted by the given offset
+	 */
+	public Clock getClock(Duration offset) {
+		if ( offset.isZero() ) {
+			return getClock();
+		}
+		return getReferenceValue( Clock.class, offset, snapshotClock -> snapshotClock );
+	}
+
+	/**
+	 * Returns the reference value computed from the snapshot shifted by the given offset, computing it only once per
+	 * type and offset.
+	 *
+	 * @param type the type identifying the computation of the reference value, e.g. the type of the constraint validator
+	 * @param offset the duration to add to the snapshot
+	 * @param referenceValueFunction the function computing the reference value from a clock
+	 *
+	 * @return the reference value
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R getReferenceValue(Class<?> type, Duration offset, Function<Clock, R> referenceValueFunction) {
+		if ( referenceValues == null ) {
+			referenceValues = new HashMap<>();
+		}
+
+		ReferenceValueKey key = new ReferenceValueKey( type, offset );
+		Object referenceValue = referenceValues.get( key );
+		if ( referenceValue == null ) {
+			referenceValue = referenceValueFunction.apply( Clock.offset( getClock(), offset ) );
+			referenceValues.put( key, referenceValue );
+		}
+		return (R) referenceValue;
+	}
+
+	private static final class ReferenceValueKey {
+
+		private final Class<?> type;
+
+		private final Duration offset;
+
+		private final int hashCode;
+
+		private ReferenceValueKey(Class<?> type, Duration offset) {
+			this.type = type;
+			this.offset = offset;
+			this.hashCode = 31 * type.hashCode() + offset.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			ReferenceValueKey that = (ReferenceValueKey) o;
+			return type == that.type && offset.equals( that.offset );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -17,7 +17,6 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import jakarta.validation.ConstraintValidator;
 
@@ -49,9 +48,18 @@
 
 	public ComposingConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<B> descriptor, Type validatedValueType) {
 		super( constraintValidatorManager, descriptor, validatedValueType );
-		this.children = descriptor.getComposingConstraintImpls().stream()
-				.map( desc -> createConstraintTree( constraintValidatorManager, desc ) )
-				.collect( Collectors.collectingAndThen( Collectors.toList(), CollectionHelper::toImmutableList ) );
+
+		List<ConstraintTree<?>> children = new ArrayList<>( descriptor.getComposingConstraintImpls().size() );
+		for ( ConstraintDescriptorImpl<?> composingDescriptor : descriptor.getComposingConstraintImpls() ) {
+			ConstraintTree<?> child = createConstraintTree( constraintValidatorManager, composingDescriptor );
+			if ( canBeFlattened( child ) ) {
+				children.addAll( ( (ComposingConstraintTree<?>) child ).children );
+			}
+			else {
+				children.add( child );
+			}
+		}
+		this.children = CollectionHelper.toImmutableList( children );
 	}
 
 	private <U extends Annotation> ConstraintTree<U> createConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<U> composingDescriptor) {
@@ -63,6 +71,24 @@ private <U extends Annotation> ConstraintTree<U> createConstraintTree(Constraint
 		}
 	}
 
+	/**
+	 * A composing constraint of the same composition type as this constraint, without a validator of its own and whose
+	 * violations are not reported as a single violation, gives the same result and violations as its own composing
+	 * constraints: they can be evaluated directly by this constraint.
+	 */
+	private boolean canBeFlattened(ConstraintTree<?> child) {
+		if ( !( child instanceof ComposingConstraintTree ) ) {
+			return false;
+		}
+
+		CompositionType compositionType = descriptor.getCompositionType();
+		ConstraintDescriptorImpl<?> childDescriptor = child.getDescriptor();
+		return ( compositionType == AND || compositionType == OR )
+				&& childDescriptor.getCompositionType() == compositionType
+				&& !childDescriptor.isReportAsSingleViolation()
+				&& childDescriptor.getMatchingConstraintValidatorDescriptors().isEmpty();
+	}
+
 	@Override
 	protected void validateConstraints(ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext,
@@ -74,7 +100,7 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 		Optional<ConstraintValidatorContextImpl> violatedLocalConstraintValidatorContext;
 
 		// After all children are validated the actual ConstraintValidator of the constraint itself is executed
-		if ( mainConstraintNeedsEvaluation( validationContext, violatedConstraintValidatorContexts ) ) {
+		if ( mainConstraintNeedsEvaluation( validationContext, compositionResult ) ) {
 
 			if ( LOG.isTraceEnabled() ) {
 				if ( validationContext.isShowValidatedValuesInTraceLogs() ) {
@@ -123,14 +149,19 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 		}
 	}
 
-	private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
+	private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationContext, CompositionResult compositionResult) {
 		// we are dealing with a composing constraint with no validator for the main constraint
 		if ( !descriptor.getComposingConstraints().isEmpty() && descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
 			return false;
 		}
 
-		if ( violatedConstraintValidatorContexts.isEmpty() ) {
+		// a composing constraint passed, the result does not depend on the main constraint anymore
+		if ( descriptor.getCompositionType() == OR && compositionResult.isAtLeastOneTrue() ) {
+			return false;
+		}
+
+		// no composing constraint has been violated
+		if ( compositionResult.isAllTrue() ) {
 			return true;
 		}
 
@@ -202,22 +233,29 @@ private void prepareFinalConstraintViolations(ValidationContext<?> validationCon
 	private CompositionResult validateComposingConstraints(ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext,
 			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
+		CompositionType compositionType = descriptor.getCompositionType();
+		// the violations of the composing constraints are discarded when reporting a single violation
+		boolean collectViolations = !reportAsSingleViolation();
+
 		CompositionResult compositionResult = new CompositionResult( true, false );
+		List<ConstraintValidatorContextImpl> tmpConstraintValidatorContexts = new ArrayList<>( 5 );
 		for ( ConstraintTree<?> tree : children ) {
-			List<ConstraintValidatorContextImpl> tmpConstraintValidatorContexts = new ArrayList<>( 5 );
+			tmpConstraintValidatorContexts.clear();
 			tree.validateConstraints( validationContext, valueContext, tmpConstraintValidatorContexts );
-			violatedConstraintValidatorContexts.addAll( tmpConstraintValidatorContexts );
 
 			if ( tmpConstraintValidatorContexts.isEmpty() ) {
 				compositionResult.setAtLeastOneTrue( true );
 				// no need to further validate constraints, because at least one validation passed
-				if ( descriptor.getCompositionType() == OR ) {
+				if ( compositionType == OR || compositionType == ALL_FALSE ) {
 					break;
 				}
 			}
 			else {
 				compositionResult.setAllTrue( false );
-				if ( descriptor.getCompositionType() == AND
+				if ( collectViolations ) {
+					violatedConstraintValidatorContexts.addAll( tmpConstraintValidatorContexts );
+				}
+				if ( compositionType == AND
 						&& ( validationContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
 					break;
 				}
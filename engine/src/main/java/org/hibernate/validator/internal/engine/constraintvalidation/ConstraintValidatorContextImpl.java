@@ -190,6 +190,7 @@ private abstract class NodeBuilderBase {
 
 		protected final String messageTemplate;
 		protected ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel = defaultCustomViolationExpressionLanguageFeatureLevel;
+		protected boolean dynamicMessageTemplate;
 		protected PathImpl propertyPath;
 
 		protected NodeBuilderBase(String template, PathImpl path) {
@@ -210,6 +211,7 @@ public ConstraintValidatorContext addConstraintViolation() {
 							messageTemplate,
 							expressionLanguageFeatureLevel,
 							true,
+							dynamicMessageTemplate,
 							propertyPath,
 							messageParameters != null ? new HashMap<>( messageParameters ) : Collections.emptyMap(),
 							expressionVariables != null ? new HashMap<>( expressionVariables ) : Collections.emptyMap(),
@@ -232,25 +234,31 @@ public HibernateConstraintViolationBuilder enableExpressionLanguage(ExpressionLa
 			return this;
 		}
 
+		@Override
+		public HibernateConstraintViolationBuilder dynamicMessageTemplate() {
+			this.dynamicMessageTemplate = true;
+			return this;
+		}
+
 		@Override
 		@Deprecated
 		public NodeBuilderDefinedContext addNode(String name) {
 			dropLeafNodeIfRequired();
 			propertyPath.addPropertyNode( name );
 
-			return new NodeBuilder( messageTemplate, propertyPath );
+			return new NodeBuilder( messageTemplate, dynamicMessageTemplate, propertyPath );
 		}
 
 		@Override
 		public NodeBuilderCustomizableContext addPropertyNode(String name) {
 			dropLeafNodeIfRequired();
 
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, ElementKind.PROPERTY );
 		}
 
 		@Override
 		public LeafNodeBuilderCustomizableContext addBeanNode() {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, null, ElementKind.BEAN );
 		}
 
 		@Override
@@ -262,7 +270,7 @@ public NodeBuilderDefinedContext addParameterNode(int index) {
 		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
 			dropLeafNodeIfRequired();
 
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, containerType, typeArgumentIndex );
 		}
 
 		/**
@@ -279,8 +287,9 @@ private void dropLeafNodeIfRequired() {
 	protected class NodeBuilder extends NodeBuilderBase
 			implements NodeBuilderDefinedContext, LeafNodeBuilderDefinedContext, ContainerElementNodeBuilderDefinedContext {
 
-		protected NodeBuilder(String template, PathImpl path) {
+		protected NodeBuilder(String template, boolean dynamicMessageTemplate, PathImpl path) {
 			super( template, path );
+			this.dynamicMessageTemplate = dynamicMessageTemplate;
 		}
 
 		@Override
@@ -291,17 +300,17 @@ public ConstraintViolationBuilder.NodeBuilderCustomizableContext addNode(String
 
 		@Override
 		public NodeBuilderCustomizableContext addPropertyNode(String name) {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, ElementKind.PROPERTY );
 		}
 
 		@Override
 		public LeafNodeBuilderCustomizableContext addBeanNode() {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, null, ElementKind.BEAN );
 		}
 
 		@Override
 		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, containerType, typeArgumentIndex );
 		}
 	}
 
@@ -319,11 +328,13 @@ private class DeferredNodeBuilder extends NodeBuilderBase
 
 		private DeferredNodeBuilder(String template,
 				ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
+				boolean dynamicMessageTemplate,
 				PathImpl path,
 				String nodeName,
 				ElementKind leafNodeKind) {
 			super( template, path );
 			this.expressionLanguageFeatureLevel = expressionLanguageFeatureLevel;
+			this.dynamicMessageTemplate = dynamicMessageTemplate;
 			this.leafNodeName = nodeName;
 			this.leafNodeKind = leafNodeKind;
 			this.leafNodeContainerType = null;
@@ -332,12 +343,14 @@ private DeferredNodeBuilder(String template,
 
 		private DeferredNodeBuilder(String template,
 				ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
+				boolean dynamicMessageTemplate,
 				PathImpl path,
 				String nodeName,
 				Class<?> leafNodeContainerType,
 				Integer leafNodeTypeArgumentIndex) {
 			super( template, path );
 			this.expressionLanguageFeatureLevel = expressionLanguageFeatureLevel;
+			this.dynamicMessageTemplate = dynamicMessageTemplate;
 			this.leafNodeName = nodeName;
 			this.leafNodeKind = ElementKind.CONTAINER_ELEMENT;
 			this.leafNodeContainerType = leafNodeContainerType;
@@ -360,14 +373,14 @@ public DeferredNodeBuilder inContainer(Class<?> containerClass, Integer typeArgu
 		public NodeBuilder atKey(Object key) {
 			propertyPath.makeLeafNodeIterableAndSetMapKey( key );
 			addLeafNode();
-			return new NodeBuilder( messageTemplate, propertyPath );
+			return new NodeBuilder( messageTemplate, dynamicMessageTemplate, propertyPath );
 		}
 
 		@Override
 		public NodeBuilder atIndex(Integer index) {
 			propertyPath.makeLeafNodeIterableAndSetIndex( index );
 			addLeafNode();
-			return new NodeBuilder( messageTemplate, propertyPath );
+			return new NodeBuilder( messageTemplate, dynamicMessageTemplate, propertyPath );
 		}
 
 		@Override
@@ -379,19 +392,19 @@ public NodeBuilderCustomizableContext addNode(String name) {
 		@Override
 		public NodeBuilderCustomizableContext addPropertyNode(String name) {
 			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, ElementKind.PROPERTY );
 		}
 
 		@Override
 		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
 			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, name, containerType, typeArgumentIndex );
 		}
 
 		@Override
 		public LeafNodeBuilderCustomizableContext addBeanNode() {
 			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, dynamicMessageTemplate, propertyPath, null, ElementKind.BEAN );
 		}
 
 		@Override
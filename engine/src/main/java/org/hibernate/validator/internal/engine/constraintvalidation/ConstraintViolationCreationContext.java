@@ -25,6 +25,7 @@ public class ConstraintViolationCreationContext {
 	private final String message;
 	private final ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel;
 	private final boolean customViolation;
+	private final boolean dynamicMessageTemplate;
 	private final PathImpl propertyPath;
 	@Immutable
 	private final Map<String, Object> messageParameters;
@@ -39,9 +40,21 @@ public ConstraintViolationCreationContext(String message,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			Object dynamicPayload) {
+		this( message, expressionLanguageFeatureLevel, customViolation, false, property, messageParameters, expressionVariables, dynamicPayload );
+	}
+
+	public ConstraintViolationCreationContext(String message,
+			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
+			boolean customViolation,
+			boolean dynamicMessageTemplate,
+			PathImpl property,
+			Map<String, Object> messageParameters,
+			Map<String, Object> expressionVariables,
+			Object dynamicPayload) {
 		this.message = message;
 		this.expressionLanguageFeatureLevel = expressionLanguageFeatureLevel;
 		this.customViolation = customViolation;
+		this.dynamicMessageTemplate = dynamicMessageTemplate;
 		this.propertyPath = property;
 		this.messageParameters = toImmutableMap( messageParameters );
 		this.expressionVariables = toImmutableMap( expressionVariables );
@@ -60,6 +73,10 @@ public boolean isCustomViolation() {
 		return customViolation;
 	}
 
+	public boolean isDynamicMessageTemplate() {
+		return dynamicMessageTemplate;
+	}
+
 	public final PathImpl getPath() {
 		return propertyPath;
 	}
@@ -82,6 +99,7 @@ public String toString() {
 		sb.append( "message='" ).append( message ).append( '\'' );
 		sb.append( ", expressionLanguageFeatureLevel=" ).append( expressionLanguageFeatureLevel );
 		sb.append( ", customViolation=" ).append( customViolation );
+		sb.append( ", dynamicMessageTemplate=" ).append( dynamicMessageTemplate );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", messageParameters=" ).append( messageParameters );
 		sb.append( ", expressionVariables=" ).append( expressionVariables );
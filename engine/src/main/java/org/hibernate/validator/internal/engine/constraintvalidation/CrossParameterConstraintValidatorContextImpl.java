@@ -75,7 +75,7 @@ public NodeBuilderDefinedContext addParameterNode(int index) {
 			dropLeafNode();
 			propertyPath.addParameterNode( methodParameterNames.get( index ), index );
 
-			return new NodeBuilder( messageTemplate, propertyPath );
+			return new NodeBuilder( messageTemplate, dynamicMessageTemplate, propertyPath );
 		}
 
 		private void dropLeafNode() {
@@ -9,8 +9,10 @@
 import java.time.Duration;
 
 import jakarta.validation.ClockProvider;
+import jakarta.validation.Payload;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.util.PatternRegistry;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -25,13 +27,25 @@ public class HibernateConstraintValidatorInitializationContextImpl implements Hi
 
 	private final Duration temporalValidationTolerance;
 
+	/**
+	 * The compiled regular expressions, shared by all the initialization contexts of a validator factory. It is not
+	 * taken into account for equality.
+	 */
+	private final PatternRegistry patternRegistry;
+
 	private final int hashCode;
 
 	public HibernateConstraintValidatorInitializationContextImpl(ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider,
-			Duration temporalValidationTolerance) {
+			Duration temporalValidationTolerance, boolean linearTimeRegexpMatching) {
+		this( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance, new PatternRegistry( linearTimeRegexpMatching ) );
+	}
+
+	private HibernateConstraintValidatorInitializationContextImpl(ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider,
+			Duration temporalValidationTolerance, PatternRegistry patternRegistry) {
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.clockProvider = clockProvider;
 		this.temporalValidationTolerance = temporalValidationTolerance;
+		this.patternRegistry = patternRegistry;
 		this.hashCode = createHashCode();
 	}
 
@@ -42,7 +56,23 @@ public static HibernateConstraintValidatorInitializationContextImpl of(Hibernate
 			return defaultContext;
 		}
 
-		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance );
+		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance,
+				defaultContext.patternRegistry );
+	}
+
+	/**
+	 * @param payload the payload of the constraint, which might select the regular expression engine
+	 *
+	 * @return the compiled regular expression for the given regular expression and flags, shared with the other
+	 * constraints of the validator factory if the initialization context is provided by Hibernate Validator
+	 */
+	public static PatternRegistry.RegisteredPattern getPattern(HibernateConstraintValidatorInitializationContext initializationContext,
+			String regexp, int flags, Class<? extends Payload>[] payload) {
+		if ( initializationContext instanceof HibernateConstraintValidatorInitializationContextImpl ) {
+			PatternRegistry patternRegistry = ( (HibernateConstraintValidatorInitializationContextImpl) initializationContext ).patternRegistry;
+			return patternRegistry.getPattern( regexp, flags, patternRegistry.isLinearTimeMatching( payload ) );
+		}
+		return PatternRegistry.compile( regexp, flags, PatternRegistry.isLinearTimeMatching( payload, false ) );
 	}
 
 	@Override
@@ -0,0 +1,287 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+
+/**
+ * A message template whose bundle keys have been resolved, compiled into literal segments and interpolation terms so
+ * that it can be rendered in a single pass.
+ * <p>
+ * The regular interpolation algorithm replaces the message parameters first and then parses the result again to
+ * evaluate the EL expressions, before replacing the escaped literals. Thus, the parameter values are part of the
+ * parsed message and may change the way the EL expressions are parsed. A compiled template produces exactly the same
+ * result, as long as:
+ * <ul>
+ * <li>the literal segments don't contain any escape character and only contain the EL designator right before a
+ * term: this is checked when compiling the template, the template is not compiled otherwise,</li>
+ * <li>the values of the terms don't contain any meta character: this is checked when rendering the template, the
+ * rendering is aborted otherwise.</li>
+ * </ul>
+ * When the template cannot be compiled or rendered, the regular interpolation algorithm is used with the
+ * {@link #getResolvedMessage() resolved message}.
+ */
+public final class CompiledMessageTemplate {
+
+	private static final char BEGIN_TERM = '{';
+	private static final char END_TERM = '}';
+	private static final char EL_DESIGNATOR = '$';
+	private static final char ESCAPE_CHARACTER = '\\';
+
+	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
+	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
+	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
+	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
+
+	private final String resolvedMessage;
+
+	/**
+	 * The interpolated message if the resolved message does not contain any term, {@code null} otherwise.
+	 */
+	private final String constantMessage;
+
+	/**
+	 * The literal segments, there is always one more literal segment than terms. {@code null} if the template could
+	 * not be compiled.
+	 */
+	private final String[] literals;
+
+	/**
+	 * The parameter terms, including the curly braces.
+	 */
+	private final String[] terms;
+
+	/**
+	 * For the terms preceded by the EL designator, the EL expression they form if the parameter cannot be resolved.
+	 * {@code null} for the other terms.
+	 */
+	private final String[] elExpressions;
+
+	/**
+	 * Whether the template has been compiled and only contains message parameters, i.e. no EL expressions.
+	 */
+	private final boolean parametersOnly;
+
+	private final int lengthHint;
+
+	private CompiledMessageTemplate(String resolvedMessage, String constantMessage, String[] literals, String[] terms, String[] elExpressions) {
+		this.resolvedMessage = resolvedMessage;
+		this.constantMessage = constantMessage;
+		this.literals = literals;
+		this.terms = terms;
+		this.elExpressions = elExpressions;
+		this.parametersOnly = literals != null && containsOnlyNulls( elExpressions );
+		this.lengthHint = resolvedMessage.length() + 16;
+	}
+
+	/**
+	 * Compiles the given message, whose bundle keys have already been resolved.
+	 *
+	 * @param resolvedMessage the message with resolved bundle keys
+	 *
+	 * @return the compiled template, never {@code null}
+	 */
+	public static CompiledMessageTemplate compile(String resolvedMessage) {
+		if ( resolvedMessage.indexOf( BEGIN_TERM ) < 0 ) {
+			return new CompiledMessageTemplate( resolvedMessage, replaceEscapedLiterals( resolvedMessage ), null, null, null );
+		}
+
+		List<Token> tokens;
+		try {
+			tokens = new TokenCollector( resolvedMessage, InterpolationTermType.PARAMETER ).getTokenList();
+		}
+		catch (MessageDescriptorFormatException e) {
+			// the regular algorithm will report the error
+			return notCompiled( resolvedMessage );
+		}
+
+		List<String> literals = new ArrayList<>();
+		List<String> terms = new ArrayList<>();
+		List<String> elExpressions = new ArrayList<>();
+
+		String literal = "";
+		for ( Token token : tokens ) {
+			String value = token.getTokenValue();
+			if ( !token.isParameter() ) {
+				literal = value;
+				continue;
+			}
+
+			if ( literal.indexOf( ESCAPE_CHARACTER ) >= 0 ) {
+				return notCompiled( resolvedMessage );
+			}
+
+			int elDesignatorIndex = literal.indexOf( EL_DESIGNATOR );
+			if ( elDesignatorIndex < 0 ) {
+				literals.add( literal );
+				elExpressions.add( null );
+			}
+			else if ( elDesignatorIndex == literal.length() - 1 ) {
+				literals.add( literal.substring( 0, elDesignatorIndex ) );
+				elExpressions.add( toElExpression( value ) );
+			}
+			else {
+				return notCompiled( resolvedMessage );
+			}
+			terms.add( value );
+			literal = "";
+		}
+
+		if ( literal.indexOf( ESCAPE_CHARACTER ) >= 0 || literal.indexOf( EL_DESIGNATOR ) >= 0 ) {
+			return notCompiled( resolvedMessage );
+		}
+		literals.add( literal );
+
+		return new CompiledMessageTemplate(
+				resolvedMessage,
+				null,
+				literals.toArray( new String[0] ),
+				terms.toArray( new String[0] ),
+				elExpressions.toArray( new String[0] )
+		);
+	}
+
+	/**
+	 * @return the message whose bundle keys have been resolved
+	 */
+	public String getResolvedMessage() {
+		return resolvedMessage;
+	}
+
+	/**
+	 * @return whether the template has been compiled and only contains message parameters, in which case the rendered
+	 * message does not depend on the validated value or on the expression variables
+	 */
+	public boolean hasParametersOnly() {
+		return parametersOnly;
+	}
+
+	/**
+	 * Renders the template.
+	 *
+	 * @param context the interpolation context
+	 * @param locale the locale
+	 * @param elEnabled whether the EL expressions should be evaluated
+	 * @param termInterpolator interpolates the parameters and the EL expressions
+	 *
+	 * @return the interpolated message or {@code null} if this template cannot be rendered for the given context, in
+	 * which case the regular interpolation algorithm needs to be applied to the resolved message
+	 */
+	public String render(Context context, Locale locale, boolean elEnabled, TermInterpolator termInterpolator) {
+		if ( constantMessage != null ) {
+			return constantMessage;
+		}
+		if ( literals == null ) {
+			return null;
+		}
+
+		StringBuilder message = new StringBuilder( lengthHint );
+		for ( int i = 0; i < terms.length; i++ ) {
+			message.append( literals[i] );
+
+			String term = terms[i];
+			String value = termInterpolator.interpolate( context, locale, term );
+
+			if ( value.equals( term ) ) {
+				// the parameter has not been resolved, the term is kept as is unless it is part of an EL expression
+				String elExpression = elExpressions[i];
+				if ( elExpression != null && elEnabled ) {
+					value = termInterpolator.interpolate( context, locale, elExpression );
+					if ( value.indexOf( ESCAPE_CHARACTER ) >= 0 ) {
+						return null;
+					}
+				}
+				else {
+					if ( term.indexOf( ESCAPE_CHARACTER ) >= 0 ) {
+						return null;
+					}
+					if ( elExpression != null ) {
+						message.append( EL_DESIGNATOR );
+					}
+				}
+			}
+			else {
+				if ( !isPlain( value ) || ( elExpressions[i] != null && value.isEmpty() ) ) {
+					return null;
+				}
+				if ( elExpressions[i] != null ) {
+					message.append( EL_DESIGNATOR );
+				}
+			}
+
+			message.append( value );
+		}
+		message.append( literals[terms.length] );
+
+		return message.toString();
+	}
+
+	public static String replaceEscapedLiterals(String resolvedMessage) {
+		if ( resolvedMessage.indexOf( ESCAPE_CHARACTER ) > -1 ) {
+			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
+			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
+			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
+			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
+		}
+		return resolvedMessage;
+	}
+
+	private static CompiledMessageTemplate notCompiled(String resolvedMessage) {
+		return new CompiledMessageTemplate( resolvedMessage, null, null, null, null );
+	}
+
+	/**
+	 * Builds the EL expression formed by the EL designator and the given term, the same way the parser does it.
+	 */
+	private static String toElExpression(String term) {
+		Token token = new Token( EL_DESIGNATOR );
+		for ( int i = 0; i < term.length(); i++ ) {
+			token.append( term.charAt( i ) );
+		}
+		token.makeELToken();
+		token.terminate();
+		return token.getTokenValue();
+	}
+
+	private static boolean containsOnlyNulls(String[] values) {
+		for ( String value : values ) {
+			if ( value != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the given value can be inserted in the message without being interpreted by the parser.
+	 */
+	private static boolean isPlain(String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c == BEGIN_TERM || c == END_TERM || c == EL_DESIGNATOR || c == ESCAPE_CHARACTER ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@FunctionalInterface
+	public interface TermInterpolator {
+
+		String interpolate(Context context, Locale locale, String term);
+	}
+}
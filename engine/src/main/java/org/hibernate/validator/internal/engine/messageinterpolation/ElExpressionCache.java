@@ -0,0 +1,67 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
+import org.hibernate.validator.internal.util.BoundedCache;
+import org.hibernate.validator.messageinterpolation.AbstractMessageInterpolator;
+
+import jakarta.el.ExpressionFactory;
+import jakarta.el.ValueExpression;
+
+/**
+ * Caches the parsed forms of the EL expressions of the messages.
+ * <p>
+ * The parsed expressions don't capture any variable so they can be evaluated for any interpolation context. The
+ * parsing does not depend on the feature level either: the features are only enforced when evaluating the expressions.
+ */
+public class ElExpressionCache {
+
+	private final ExpressionFactory expressionFactory;
+
+	private final BoundedCache<String, SimpleExpression> simpleExpressions;
+
+	private final BoundedCache<String, ValueExpression> valueExpressions;
+
+	public ElExpressionCache(ExpressionFactory expressionFactory) {
+		this( expressionFactory, AbstractMessageInterpolator.DEFAULT_CACHE_MAX_SIZE );
+	}
+
+	public ElExpressionCache(ExpressionFactory expressionFactory, int maxSize) {
+		this.expressionFactory = expressionFactory;
+		this.simpleExpressions = new BoundedCache<>( maxSize );
+		this.valueExpressions = new BoundedCache<>( maxSize );
+	}
+
+	public ExpressionFactory getExpressionFactory() {
+		return expressionFactory;
+	}
+
+	/**
+	 * @return the expression parsed by the built-in evaluator, {@link SimpleExpression#UNSUPPORTED} if it is not part
+	 * of the subset it supports
+	 */
+	public SimpleExpression getSimpleExpression(String expression) {
+		return simpleExpressions.computeIfAbsent( expression, SimpleExpression::parse );
+	}
+
+	/**
+	 * @return the expression parsed by the Expression Language implementation
+	 */
+	public ValueExpression getValueExpression(String expression) {
+		return valueExpressions.computeIfAbsent( expression, this::createValueExpression );
+	}
+
+	/**
+	 * @return the expression parsed by the Expression Language implementation, without caching it
+	 */
+	public ValueExpression createValueExpression(String expression) {
+		// the variables are not bound to the context used to parse the expression
+		return expressionFactory.createValueExpression( new VariablesELContext( expressionFactory ), expression, String.class );
+	}
+}
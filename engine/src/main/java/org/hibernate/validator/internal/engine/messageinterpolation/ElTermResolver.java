@@ -8,15 +8,17 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
-import java.util.Map;
 
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanMethodsELContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanPropertiesElContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.DisabledFeatureELException;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationVariables;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleExpression;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
 
 import jakarta.el.ELContext;
@@ -38,11 +40,6 @@ public class ElTermResolver implements TermResolver {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	/**
-	 * Name under which the currently validate value is bound to the EL context.
-	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
-
 	/**
 	 * The locale for which to interpolate the expression.
 	 */
@@ -53,25 +50,46 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The parsed expressions, shared by all the resolvers using the same expression factory.
+	 */
+	private final ElExpressionCache expressionCache;
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
 	 * @param locale the locale.
-	 * @param expressionFactory the expression factory.
+	 * @param expressionCache the cache of the parsed expressions, giving access to the expression factory.
      */
-	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory) {
+	public ElTermResolver(Locale locale, ElExpressionCache expressionCache) {
 		this.locale = locale;
-		this.expressionFactory = expressionFactory;
+		this.expressionFactory = expressionCache.getExpressionFactory();
+		this.expressionCache = expressionCache;
 	}
 
 	@Override
 	public String interpolate(MessageInterpolator.Context context, String expression) {
 		String resolvedExpression = expression;
 
-		ELContext elContext = getElContext( context );
+		ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel = getExpressionLanguageFeatureLevel( context );
 
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, elContext );
+			// the expressions commonly used in messages are evaluated by the built-in evaluator
+			boolean dynamicMessageTemplate = isDynamicMessageTemplate( context );
+			SimpleExpression simpleExpression = dynamicMessageTemplate
+					? SimpleExpression.parse( expression )
+					: expressionCache.getSimpleExpression( expression );
+			InterpolationVariables variables = getVariables( context );
+			String simpleExpressionValue = simpleExpression.evaluate( variables );
+			if ( simpleExpressionValue != null ) {
+				return simpleExpressionValue;
+			}
+
+			ELContext elContext = getElContext( expressionLanguageFeatureLevel );
+			ValueExpression valueExpression = dynamicMessageTemplate
+					? expressionCache.createValueExpression( expression )
+					: expressionCache.getValueExpression( expression );
+			elContext.putContext( InterpolationVariables.class, variables );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (DisabledFeatureELException dfee) {
@@ -93,54 +111,56 @@ public String interpolate(MessageInterpolator.Context context, String expression
 		return resolvedExpression;
 	}
 
-	private ELContext getElContext(MessageInterpolator.Context context) {
+	private static ExpressionLanguageFeatureLevel getExpressionLanguageFeatureLevel(MessageInterpolator.Context context) {
 		if ( !( context instanceof HibernateMessageInterpolatorContext ) ) {
-			return new VariablesELContext( expressionFactory );
+			return ExpressionLanguageFeatureLevel.VARIABLES;
 		}
 
-		switch ( ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() ) {
+		ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel = ( (HibernateMessageInterpolatorContext) context )
+				.getExpressionLanguageFeatureLevel();
+		switch ( expressionLanguageFeatureLevel ) {
 			case NONE:
 				throw LOG.expressionsNotResolvedWhenExpressionLanguageFeaturesDisabled();
 			case VARIABLES:
-				return new VariablesELContext( expressionFactory );
 			case BEAN_PROPERTIES:
-				return new BeanPropertiesElContext( expressionFactory );
 			case BEAN_METHODS:
-				return new BeanMethodsELContext( expressionFactory );
+				return expressionLanguageFeatureLevel;
 			default:
 				throw LOG.expressionsLanguageFeatureLevelNotSupported();
 		}
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, ELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
+	/**
+	 * The expressions of the templates marked as dynamic are not cached as they are unlikely to be used again.
+	 */
+	private static boolean isDynamicMessageTemplate(MessageInterpolator.Context context) {
+		return context instanceof MessageInterpolatorContext && ( (MessageInterpolatorContext) context ).isDynamicMessageTemplate();
+	}
 
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
+	private ELContext getElContext(ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel) {
+		switch ( expressionLanguageFeatureLevel ) {
+			case BEAN_PROPERTIES:
+				return new BeanPropertiesElContext( expressionFactory );
+			case BEAN_METHODS:
+				return new BeanMethodsELContext( expressionFactory );
+			default:
+				return new VariablesELContext( expressionFactory );
 		}
-
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
 	}
 
-	private void addVariablesToElContext(ELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
-		}
+	/**
+	 * A new instance is created for each evaluation as the formatter it exposes is stateful.
+	 */
+	private InterpolationVariables getVariables(MessageInterpolator.Context context) {
+		// the parameters provided by the annotation values and the parameters + expression variables explicitly
+		// added to the context
+		return new InterpolationVariables(
+				context.getValidatedValue(),
+				locale,
+				context.getConstraintDescriptor().getAttributes(),
+				context instanceof HibernateMessageInterpolatorContext
+						? ( (HibernateMessageInterpolatorContext) context ).getExpressionVariables()
+						: null
+		);
 	}
 }
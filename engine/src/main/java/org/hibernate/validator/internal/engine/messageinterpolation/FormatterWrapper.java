@@ -7,23 +7,87 @@
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
 import java.util.Formatter;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * A wrapper class for {@code java.util.Formatter#format} avoiding lookup problems in EL engines due to
  * ambiguous method resolution for {@code format}.
+ * <p>
+ * The {@link Formatter}s are reused per thread and per locale to avoid allocating a formatter, its buffer and its locale dependent
+ * state for each formatted expression. As with a dedicated {@code Formatter}, the output of each call is appended to
+ * the output of the previous calls on the same wrapper.
  *
  * @author Hardy Ferentschik
  */
 public class FormatterWrapper {
-	private final Formatter formatter;
+
+	/**
+	 * The formatters available for the current thread keyed by their locale, writing to a {@link StringBuilder}. Only
+	 * JDK types are stored so that the thread local does not retain the class loader of Hibernate Validator.
+	 * <p>
+	 * A formatter is removed while in use so that a nested call (e.g. from the {@code toString()} method of a
+	 * formatted value) does not share it.
+	 */
+	private static final ThreadLocal<Map<Locale, Formatter>> FORMATTERS = new ThreadLocal<>();
+
+	/**
+	 * The maximum number of locales whose formatter is kept per thread.
+	 */
+	private static final int MAX_RETAINED_LOCALES = 4;
+
+	/**
+	 * Formatters whose buffer has grown beyond this capacity are not kept.
+	 */
+	private static final int MAX_RETAINED_CAPACITY = 1024;
+
+	private final Locale locale;
+
+	/**
+	 * The output of the previous calls.
+	 */
+	private String output;
 
 	public FormatterWrapper(Locale locale) {
-		this.formatter = new Formatter( locale );
+		this.locale = locale;
 	}
 
 	public String format(String format, Object... args) {
-		return formatter.format( format, args ).toString();
+		Formatter formatter = acquireFormatter();
+		StringBuilder buffer = (StringBuilder) formatter.out();
+
+		formatter.format( format, args );
+		output = output == null ? buffer.toString() : output + buffer;
+
+		releaseFormatter( formatter, buffer );
+		return output;
+	}
+
+	private Formatter acquireFormatter() {
+		Map<Locale, Formatter> formatters = FORMATTERS.get();
+		Formatter formatter = formatters == null ? null : formatters.remove( locale );
+		if ( formatter == null ) {
+			return new Formatter( new StringBuilder(), locale );
+		}
+
+		( (StringBuilder) formatter.out() ).setLength( 0 );
+		return formatter;
+	}
+
+	private void releaseFormatter(Formatter formatter, StringBuilder buffer) {
+		if ( buffer.capacity() > MAX_RETAINED_CAPACITY ) {
+			return;
+		}
+
+		Map<Locale, Formatter> formatters = FORMATTERS.get();
+		if ( formatters == null ) {
+			formatters = new HashMap<>();
+			FORMATTERS.set( formatters );
+		}
+		if ( formatters.size() < MAX_RETAINED_LOCALES ) {
+			formatters.put( locale, formatter );
+		}
 	}
 
 	@Override
@@ -34,5 +98,3 @@ public String toString() {
 		return sb.toString();
 	}
 }
-
-
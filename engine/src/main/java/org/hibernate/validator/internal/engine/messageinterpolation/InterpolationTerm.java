@@ -8,7 +8,6 @@
 
 import java.util.Locale;
 
-import jakarta.el.ExpressionFactory;
 import jakarta.validation.MessageInterpolator;
 
 /**
@@ -42,13 +41,13 @@ public class InterpolationTerm {
 	 * Create an interpolation term for an expression.
 	 * @param expression the expression.
 	 * @param locale the locale.
-	 * @param expressionFactory the expression factory to use if the expression uses EL.
+	 * @param expressionCache the cache of the parsed EL expressions, to use if the expression uses EL.
      */
-	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory) {
+	public InterpolationTerm(String expression, Locale locale, ElExpressionCache expressionCache) {
 		this.expression = expression;
 		if ( isElExpression( expression ) ) {
 			this.type = InterpolationTermType.EL;
-			this.resolver = new ElTermResolver( locale, expressionFactory );
+			this.resolver = new ElTermResolver( locale, expressionCache );
 		}
 		else {
 			this.type = InterpolationTermType.PARAMETER;
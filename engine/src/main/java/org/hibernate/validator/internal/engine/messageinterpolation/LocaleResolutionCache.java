@@ -0,0 +1,38 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.Locale;
+
+import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
+import org.hibernate.validator.spi.messageinterpolation.LocaleResolverContext;
+
+/**
+ * Keeps the locale resolved by a {@link LocaleResolver} for the duration of a validation call so that the locale is
+ * resolved once, whatever the number of constraint violations reported by the call.
+ * <p>
+ * The locale is resolved again if another resolver or another resolver context is used.
+ * <p>
+ * Instances are confined to a validation call and are not thread-safe.
+ */
+public class LocaleResolutionCache {
+
+	private LocaleResolver localeResolver;
+
+	private LocaleResolverContext localeResolverContext;
+
+	private Locale locale;
+
+	public Locale resolve(LocaleResolver localeResolver, LocaleResolverContext localeResolverContext) {
+		if ( locale == null || this.localeResolver != localeResolver || this.localeResolverContext != localeResolverContext ) {
+			this.locale = localeResolver.resolve( localeResolverContext );
+			this.localeResolver = localeResolver;
+			this.localeResolverContext = localeResolverContext;
+		}
+		return locale;
+	}
+}
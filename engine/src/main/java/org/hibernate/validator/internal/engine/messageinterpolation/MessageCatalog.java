@@ -0,0 +1,142 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.function.BiFunction;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.util.BoundedCache;
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+/**
+ * A catalog of the messages of the resource bundles, flattened per locale.
+ * <p>
+ * For a given locale, the keys of all the resource bundles are resolved once, following the regular resolution
+ * algorithm (i.e. with the precedence of the user bundle over the contributor and default bundles and with the
+ * recursive resolution of the keys referenced in the messages). The messages made of a single key are then resolved
+ * with a single lookup.
+ * <p>
+ * The catalog of a locale is built when the locale is used for the first time, or upfront if the locale is preloaded.
+ * The catalogs of the preloaded locales are always kept. As the other locales are provided by the callers, the number of
+ * their catalogs kept is bounded, the least used ones being rebuilt if they are needed again.
+ */
+public class MessageCatalog {
+
+	private static final char BEGIN_TERM = '{';
+	private static final char END_TERM = '}';
+
+	/**
+	 * The maximum number of catalogs kept for the locales which are not preloaded.
+	 */
+	private static final int MAX_CACHED_LOCALES = 32;
+
+	private final List<ResourceBundleLocator> resourceBundleLocators;
+
+	/**
+	 * Resolves the keys of a message using the regular resolution algorithm.
+	 */
+	private final BiFunction<String, Locale, String> messageResolver;
+
+	private final Map<Locale, Map<String, String>> messagesPerPreloadedLocale;
+
+	private final BoundedCache<Locale, Map<String, String>> messagesPerLocale = new BoundedCache<>( MAX_CACHED_LOCALES );
+
+	public MessageCatalog(List<ResourceBundleLocator> resourceBundleLocators, BiFunction<String, Locale, String> messageResolver,
+			Collection<Locale> preloadedLocales) {
+		this.resourceBundleLocators = resourceBundleLocators;
+		this.messageResolver = messageResolver;
+
+		Map<Locale, Map<String, String>> messagesPerPreloadedLocale = CollectionHelper.newHashMap( preloadedLocales.size() );
+		for ( Locale locale : preloadedLocales ) {
+			messagesPerPreloadedLocale.put( locale, buildMessages( locale ) );
+		}
+		this.messagesPerPreloadedLocale = CollectionHelper.toImmutableMap( messagesPerPreloadedLocale );
+	}
+
+	/**
+	 * @param message the message to resolve
+	 * @param locale the locale
+	 *
+	 * @return the resolved message if the message is made of a single key known by the catalog, {@code null} otherwise
+	 */
+	public String getResolvedMessage(String message, Locale locale) {
+		if ( !isSingleKeyMessage( message ) ) {
+			return null;
+		}
+		return getMessages( locale ).get( message );
+	}
+
+	private Map<String, String> getMessages(Locale locale) {
+		Map<String, String> messages = messagesPerPreloadedLocale.get( locale );
+		if ( messages != null ) {
+			return messages;
+		}
+		return messagesPerLocale.computeIfAbsent( locale, this::buildMessages );
+	}
+
+	private Map<String, String> buildMessages(Locale locale) {
+		Map<String, String> messages = new HashMap<>();
+		for ( ResourceBundleLocator resourceBundleLocator : resourceBundleLocators ) {
+			ResourceBundle resourceBundle = resourceBundleLocator.getResourceBundle( locale );
+			if ( resourceBundle == null ) {
+				continue;
+			}
+
+			Enumeration<String> keys;
+			try {
+				keys = resourceBundle.getKeys();
+			}
+			catch (RuntimeException e) {
+				// the bundle does not support listing its keys, its messages will be resolved through the regular
+				// algorithm, which only requires looking up the keys
+				continue;
+			}
+
+			while ( keys.hasMoreElements() ) {
+				String message = BEGIN_TERM + keys.nextElement() + END_TERM;
+				if ( messages.containsKey( message ) || !isSingleKeyMessage( message ) ) {
+					continue;
+				}
+
+				try {
+					messages.put( message, messageResolver.apply( message, locale ) );
+				}
+				catch (MessageDescriptorFormatException e) {
+					// the message is not part of the catalog and the error will be reported when it is used
+				}
+			}
+		}
+		return CollectionHelper.toImmutableMap( messages );
+	}
+
+	/**
+	 * The messages are indexed by the single key message, i.e. the key between curly braces, so that the lookup does
+	 * not require any allocation. The keys containing meta characters are not parsed as a single key so they are not
+	 * part of the catalog.
+	 */
+	private static boolean isSingleKeyMessage(String message) {
+		int length = message.length();
+		if ( length < 3 || message.charAt( 0 ) != BEGIN_TERM || message.charAt( length - 1 ) != END_TERM ) {
+			return false;
+		}
+		for ( int i = 1; i < length - 1; i++ ) {
+			char c = message.charAt( i );
+			if ( c == BEGIN_TERM || c == END_TERM || c == '\\' || c == '$' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -23,6 +23,7 @@
 public class BeanMethodsELContext extends StandardELContext {
 	private static final ELResolver DEFAULT_RESOLVER = new CompositeELResolver() {
 		{
+			add( new InterpolationVariablesELResolver() );
 			add( new RootResolver() );
 			add( new ArrayELResolver( true ) );
 			add( new ListELResolver( true ) );
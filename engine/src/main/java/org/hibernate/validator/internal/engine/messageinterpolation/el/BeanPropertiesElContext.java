@@ -21,6 +21,7 @@
 public class BeanPropertiesElContext extends StandardELContext {
 	private static final ELResolver DEFAULT_RESOLVER = new CompositeELResolver() {
 		{
+			add( new InterpolationVariablesELResolver() );
 			add( new RootResolver() );
 			add( new ArrayELResolver( true ) );
 			add( new ListELResolver( true ) );
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * The variables available to the EL expressions of a message, resolved by {@link InterpolationVariablesELResolver}.
+ * <p>
+ * The variables are not copied: they are looked up directly in the maps of the interpolation context, which avoids
+ * binding each of them to the EL context before evaluating an expression. It also allows to evaluate expressions
+ * which have been parsed once and cached as they don't capture any variable when they are created.
+ * <p>
+ * The precedence is the same as when the variables were bound one after the other: the expression variables first,
+ * then the constraint attributes, the formatter and finally the validated value.
+ */
+public class InterpolationVariables {
+
+	/**
+	 * Name under which the currently validated value is exposed.
+	 */
+	public static final String VALIDATED_VALUE = "validatedValue";
+
+	private final Object validatedValue;
+
+	private final Locale locale;
+
+	private final Map<String, Object> constraintAttributes;
+
+	private final Map<String, Object> expressionVariables;
+
+	private FormatterWrapper formatter;
+
+	public InterpolationVariables(Object validatedValue, Locale locale, Map<String, Object> constraintAttributes,
+			Map<String, Object> expressionVariables) {
+		this.validatedValue = validatedValue;
+		this.locale = locale;
+		this.constraintAttributes = constraintAttributes;
+		this.expressionVariables = expressionVariables != null ? expressionVariables : Collections.emptyMap();
+	}
+
+	public boolean isDefined(String name) {
+		return expressionVariables.containsKey( name )
+				|| constraintAttributes.containsKey( name )
+				|| RootResolver.FORMATTER.equals( name )
+				|| VALIDATED_VALUE.equals( name );
+	}
+
+	/**
+	 * @param name the name of a variable for which {@link #isDefined(String)} returns {@code true}
+	 *
+	 * @return the value of the variable
+	 */
+	public Object getValue(String name) {
+		if ( expressionVariables.containsKey( name ) ) {
+			return expressionVariables.get( name );
+		}
+		if ( constraintAttributes.containsKey( name ) ) {
+			return constraintAttributes.get( name );
+		}
+		if ( RootResolver.FORMATTER.equals( name ) ) {
+			return getFormatter();
+		}
+		return validatedValue;
+	}
+
+	/**
+	 * The formatter is only instantiated if an expression uses it.
+	 */
+	private FormatterWrapper getFormatter() {
+		if ( formatter == null ) {
+			formatter = new FormatterWrapper( locale );
+		}
+		return formatter;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.Collections;
+import java.util.Iterator;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.PropertyNotWritableException;
+
+/**
+ * Resolves the top-level identifiers of an expression using the {@link InterpolationVariables} put in the context.
+ */
+public class InterpolationVariablesELResolver extends ELResolver {
+
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		InterpolationVariables variables = getVariables( context, base, property );
+		if ( variables == null ) {
+			return null;
+		}
+
+		context.setPropertyResolved( true );
+		return variables.getValue( (String) property );
+	}
+
+	@Override
+	public Class<?> getType(ELContext context, Object base, Object property) {
+		if ( getVariables( context, base, property ) != null ) {
+			context.setPropertyResolved( true );
+		}
+		// the variables are read only
+		return null;
+	}
+
+	@Override
+	public void setValue(ELContext context, Object base, Object property, Object value) {
+		if ( getVariables( context, base, property ) != null ) {
+			throw new PropertyNotWritableException( "Variable " + property + " is read only." );
+		}
+	}
+
+	@Override
+	public boolean isReadOnly(ELContext context, Object base, Object property) {
+		if ( getVariables( context, base, property ) != null ) {
+			context.setPropertyResolved( true );
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+		return Collections.emptyIterator();
+	}
+
+	@Override
+	public Class<?> getCommonPropertyType(ELContext context, Object base) {
+		return base == null ? String.class : null;
+	}
+
+	/**
+	 * @return the variables if the property is a variable defined in the context, {@code null} otherwise
+	 */
+	private static InterpolationVariables getVariables(ELContext context, Object base, Object property) {
+		if ( base != null || !( property instanceof String ) ) {
+			return null;
+		}
+
+		InterpolationVariables variables = (InterpolationVariables) context.getContext( InterpolationVariables.class );
+		if ( variables == null || !variables.isDefined( (String) property ) ) {
+			return null;
+		}
+		return variables;
+	}
+}
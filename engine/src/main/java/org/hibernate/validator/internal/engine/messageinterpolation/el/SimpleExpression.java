@@ -0,0 +1,497 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * An expression of the subset of the Expression Language commonly used in constraint messages, evaluated without
+ * going through the Expression Language implementation.
+ * <p>
+ * The subset is made of:
+ * <ul>
+ * <li>references to variables, e.g. {@code ${validatedValue}} or {@code ${max}},</li>
+ * <li>{@code null}, boolean, integer and string literals,</li>
+ * <li>the {@code ==}, {@code !=}, {@code <}, {@code >}, {@code <=} and {@code >=} comparisons,</li>
+ * <li>the conditional operator, e.g. {@code ${value > 1 ? 'items' : 'item'}},</li>
+ * <li>the calls to {@code formatter.format(...)}.</li>
+ * </ul>
+ * The evaluation gives the same result as the Expression Language implementation. When it cannot be guaranteed
+ * because of the values of the variables (e.g. a comparison between a decimal and an integer, which involves the
+ * type coercion rules of the Expression Language), the evaluation is aborted and the expression needs to be evaluated
+ * by the Expression Language implementation.
+ */
+public abstract class SimpleExpression {
+
+	/**
+	 * Returned by {@link #parse(String)} when the expression is not part of the subset.
+	 */
+	public static final SimpleExpression UNSUPPORTED = new SimpleExpression() {
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			return NOT_EVALUATED;
+		}
+	};
+
+	/**
+	 * Returned when the value of an expression cannot be evaluated by this evaluator.
+	 */
+	private static final Object NOT_EVALUATED = new Object();
+
+	private static final Set<String> RESERVED_WORDS = new HashSet<>( Arrays.asList(
+			"and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false", "null", "instanceof", "empty", "div",
+			"mod", "cat"
+	) );
+
+	private static final String FORMAT = "format";
+
+	SimpleExpression() {
+	}
+
+	/**
+	 * @param expression an EL expression, including the {@code ${} and {@code }} delimiters
+	 *
+	 * @return the parsed expression or {@link #UNSUPPORTED} if the expression is not part of the supported subset
+	 */
+	public static SimpleExpression parse(String expression) {
+		if ( !expression.startsWith( "${" ) || !expression.endsWith( "}" ) ) {
+			return UNSUPPORTED;
+		}
+
+		Parser parser = new Parser( expression, 2, expression.length() - 1 );
+		SimpleExpression parsedExpression = parser.parseExpression();
+		if ( parsedExpression == null || !parser.isFullyConsumed() ) {
+			return UNSUPPORTED;
+		}
+		return parsedExpression;
+	}
+
+	/**
+	 * Evaluates the expression.
+	 *
+	 * @param variables the variables available to the expression
+	 *
+	 * @return the value of the expression converted to a string or {@code null} if it cannot be evaluated by this
+	 * evaluator, in which case the Expression Language implementation needs to be used
+	 */
+	public String evaluate(InterpolationVariables variables) {
+		Object value = getValue( variables );
+		if ( value == NOT_EVALUATED ) {
+			return null;
+		}
+		// same conversion as the one of the Expression Language
+		if ( value == null ) {
+			return "";
+		}
+		if ( value instanceof Enum ) {
+			return ( (Enum<?>) value ).name();
+		}
+		return value.toString();
+	}
+
+	abstract Object getValue(InterpolationVariables variables);
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	private static class Literal extends SimpleExpression {
+
+		private final Object value;
+
+		private Literal(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			return value;
+		}
+	}
+
+	private static class Variable extends SimpleExpression {
+
+		private final String name;
+
+		private Variable(String name) {
+			this.name = name;
+		}
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			if ( !variables.isDefined( name ) ) {
+				// depending on the feature level, it might be resolved as a bean or be an error
+				return NOT_EVALUATED;
+			}
+			return variables.getValue( name );
+		}
+	}
+
+	private static class Format extends SimpleExpression {
+
+		private final SimpleExpression[] arguments;
+
+		private Format(SimpleExpression[] arguments) {
+			this.arguments = arguments;
+		}
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			Object formatter = variables.isDefined( RootResolver.FORMATTER ) ? variables.getValue( RootResolver.FORMATTER ) : null;
+			if ( !( formatter instanceof FormatterWrapper ) ) {
+				return NOT_EVALUATED;
+			}
+
+			Object format = arguments[0].getValue( variables );
+			if ( !( format instanceof String ) ) {
+				return NOT_EVALUATED;
+			}
+
+			Object[] formattingParameters = new Object[arguments.length - 1];
+			for ( int i = 1; i < arguments.length; i++ ) {
+				Object argument = arguments[i].getValue( variables );
+				if ( argument == NOT_EVALUATED ) {
+					return NOT_EVALUATED;
+				}
+				formattingParameters[i - 1] = argument;
+			}
+
+			try {
+				return ( (FormatterWrapper) formatter ).format( (String) format, formattingParameters );
+			}
+			catch (IllegalFormatException e) {
+				// the error is reported by the Expression Language implementation
+				return NOT_EVALUATED;
+			}
+		}
+	}
+
+	private static class Comparison extends SimpleExpression {
+
+		private final String operator;
+
+		private final SimpleExpression left;
+
+		private final SimpleExpression right;
+
+		private Comparison(String operator, SimpleExpression left, SimpleExpression right) {
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			Object leftValue = left.getValue( variables );
+			if ( leftValue == NOT_EVALUATED ) {
+				return NOT_EVALUATED;
+			}
+			Object rightValue = right.getValue( variables );
+			if ( rightValue == NOT_EVALUATED ) {
+				return NOT_EVALUATED;
+			}
+
+			if ( leftValue == null || rightValue == null ) {
+				switch ( operator ) {
+					case "==":
+						return leftValue == rightValue;
+					case "!=":
+						return leftValue != rightValue;
+					case "<=":
+					case ">=":
+						return leftValue == rightValue;
+					default:
+						return false;
+				}
+			}
+
+			int comparison;
+			if ( isIntegral( leftValue ) && isIntegral( rightValue ) ) {
+				comparison = Long.compare( ( (Number) leftValue ).longValue(), ( (Number) rightValue ).longValue() );
+			}
+			else if ( leftValue instanceof String && rightValue instanceof String ) {
+				comparison = ( (String) leftValue ).compareTo( (String) rightValue );
+			}
+			else if ( leftValue instanceof Boolean && rightValue instanceof Boolean
+					&& ( "==".equals( operator ) || "!=".equals( operator ) ) ) {
+				comparison = leftValue.equals( rightValue ) ? 0 : 1;
+			}
+			else {
+				// the other cases involve the coercion rules of the Expression Language
+				return NOT_EVALUATED;
+			}
+
+			switch ( operator ) {
+				case "==":
+					return comparison == 0;
+				case "!=":
+					return comparison != 0;
+				case "<":
+					return comparison < 0;
+				case ">":
+					return comparison > 0;
+				case "<=":
+					return comparison <= 0;
+				default:
+					return comparison >= 0;
+			}
+		}
+	}
+
+	private static class Conditional extends SimpleExpression {
+
+		private final SimpleExpression condition;
+
+		private final SimpleExpression ifTrue;
+
+		private final SimpleExpression ifFalse;
+
+		private Conditional(SimpleExpression condition, SimpleExpression ifTrue, SimpleExpression ifFalse) {
+			this.condition = condition;
+			this.ifTrue = ifTrue;
+			this.ifFalse = ifFalse;
+		}
+
+		@Override
+		Object getValue(InterpolationVariables variables) {
+			Object conditionValue = condition.getValue( variables );
+			if ( conditionValue == null ) {
+				// null is coerced to false
+				return ifFalse.getValue( variables );
+			}
+			if ( !( conditionValue instanceof Boolean ) ) {
+				return NOT_EVALUATED;
+			}
+			return ( (Boolean) conditionValue ) ? ifTrue.getValue( variables ) : ifFalse.getValue( variables );
+		}
+	}
+
+	/**
+	 * A recursive descent parser for the supported subset. The parsing methods return {@code null} when they encounter
+	 * a construct which is not supported.
+	 */
+	private static class Parser {
+
+		private final String expression;
+
+		private final int end;
+
+		private int position;
+
+		private Parser(String expression, int start, int end) {
+			this.expression = expression;
+			this.position = start;
+			this.end = end;
+		}
+
+		private boolean isFullyConsumed() {
+			skipWhitespaces();
+			return position == end;
+		}
+
+		private SimpleExpression parseExpression() {
+			SimpleExpression condition = parseComparison();
+			if ( condition == null ) {
+				return null;
+			}
+			if ( !consume( '?' ) ) {
+				return condition;
+			}
+
+			SimpleExpression ifTrue = parseExpression();
+			if ( ifTrue == null || !consume( ':' ) ) {
+				return null;
+			}
+			SimpleExpression ifFalse = parseExpression();
+			if ( ifFalse == null ) {
+				return null;
+			}
+			return new Conditional( condition, ifTrue, ifFalse );
+		}
+
+		private SimpleExpression parseComparison() {
+			SimpleExpression left = parseOperand();
+			if ( left == null ) {
+				return null;
+			}
+
+			String operator = parseComparisonOperator();
+			if ( operator == null ) {
+				return left;
+			}
+
+			SimpleExpression right = parseOperand();
+			if ( right == null ) {
+				return null;
+			}
+			return new Comparison( operator, left, right );
+		}
+
+		private String parseComparisonOperator() {
+			skipWhitespaces();
+			if ( position + 1 < end && expression.charAt( position + 1 ) == '=' ) {
+				char c = expression.charAt( position );
+				if ( c == '=' || c == '!' || c == '<' || c == '>' ) {
+					position += 2;
+					return expression.substring( position - 2, position );
+				}
+			}
+			if ( position < end ) {
+				char c = expression.charAt( position );
+				if ( c == '<' || c == '>' ) {
+					position++;
+					return String.valueOf( c );
+				}
+			}
+			return null;
+		}
+
+		private SimpleExpression parseOperand() {
+			skipWhitespaces();
+			if ( position >= end ) {
+				return null;
+			}
+
+			char c = expression.charAt( position );
+			if ( c == '\'' || c == '"' ) {
+				return parseStringLiteral( c );
+			}
+			if ( c >= '0' && c <= '9' ) {
+				return parseIntegerLiteral();
+			}
+			if ( Character.isJavaIdentifierStart( c ) ) {
+				return parseIdentifier();
+			}
+			return null;
+		}
+
+		private SimpleExpression parseStringLiteral(char quote) {
+			StringBuilder value = new StringBuilder();
+			position++;
+			while ( position < end ) {
+				char c = expression.charAt( position++ );
+				if ( c == quote ) {
+					return new Literal( value.toString() );
+				}
+				if ( c == '\\' ) {
+					if ( position >= end ) {
+						return null;
+					}
+					char escaped = expression.charAt( position++ );
+					// only the escapes supported by all the Expression Language implementations
+					if ( escaped != '\\' && escaped != quote ) {
+						return null;
+					}
+					c = escaped;
+				}
+				value.append( c );
+			}
+			return null;
+		}
+
+		private SimpleExpression parseIntegerLiteral() {
+			int start = position;
+			while ( position < end && expression.charAt( position ) >= '0' && expression.charAt( position ) <= '9' ) {
+				position++;
+			}
+			// decimals, exponents and literals not fitting in a long are not supported
+			if ( position - start > 18 || ( position < end && ( expression.charAt( position ) == '.'
+					|| Character.isJavaIdentifierPart( expression.charAt( position ) ) ) ) ) {
+				return null;
+			}
+			return new Literal( Long.valueOf( expression.substring( start, position ) ) );
+		}
+
+		private SimpleExpression parseIdentifier() {
+			int start = position;
+			while ( position < end && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+				position++;
+			}
+			String identifier = expression.substring( start, position );
+
+			switch ( identifier ) {
+				case "null":
+					return new Literal( null );
+				case "true":
+					return new Literal( Boolean.TRUE );
+				case "false":
+					return new Literal( Boolean.FALSE );
+				default:
+					break;
+			}
+			if ( RESERVED_WORDS.contains( identifier ) ) {
+				return null;
+			}
+
+			skipWhitespaces();
+			if ( position < end && expression.charAt( position ) == '.' && RootResolver.FORMATTER.equals( identifier ) ) {
+				return parseFormat();
+			}
+			if ( position < end && ( expression.charAt( position ) == '.' || expression.charAt( position ) == '['
+					|| expression.charAt( position ) == '(' ) ) {
+				// property and method accesses depend on the feature level
+				return null;
+			}
+			return new Variable( identifier );
+		}
+
+		private SimpleExpression parseFormat() {
+			position++;
+			skipWhitespaces();
+			if ( !expression.startsWith( FORMAT, position ) ) {
+				return null;
+			}
+			position += FORMAT.length();
+			if ( !consume( '(' ) ) {
+				return null;
+			}
+
+			List<SimpleExpression> arguments = new ArrayList<>();
+			do {
+				SimpleExpression argument = parseExpression();
+				if ( argument == null ) {
+					return null;
+				}
+				arguments.add( argument );
+			}
+			while ( consume( ',' ) );
+
+			if ( !consume( ')' ) ) {
+				return null;
+			}
+			return new Format( arguments.toArray( new SimpleExpression[0] ) );
+		}
+
+		private boolean consume(char c) {
+			skipWhitespaces();
+			if ( position < end && expression.charAt( position ) == c ) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespaces() {
+			while ( position < end ) {
+				char c = expression.charAt( position );
+				// the whitespaces allowed by the Expression Language
+				if ( c != ' ' && c != '\t' && c != '\n' && c != '\r' ) {
+					return;
+				}
+				position++;
+			}
+		}
+	}
+}
@@ -256,6 +256,26 @@ public static NodeImpl setPropertyValue(NodeImpl node, Object value) {
 		);
 	}
 
+	/**
+	 * Creates a copy of the given node, attached to the given parent, which does not retain the value of the node. The
+	 * map key, which may be an object of the validated graph, is replaced by its string representation.
+	 */
+	public static NodeImpl createDetachedCopy(NodeImpl node, NodeImpl parent) {
+		return new NodeImpl(
+				node.name,
+				parent,
+				node.isIterable,
+				node.index,
+				node.key == null ? null : node.key.toString(),
+				node.kind,
+				node.parameterTypes,
+				node.parameterIndex,
+				null,
+				node.containerClass,
+				node.typeArgumentIndex
+		);
+	}
+
 	public static NodeImpl setTypeParameter(NodeImpl node, Class<?> containerClass, Integer typeArgumentIndex) {
 		return new NodeImpl(
 				node.name,
@@ -105,6 +105,19 @@ public static PathImpl createCopy(PathImpl path) {
 		return new PathImpl( path );
 	}
 
+	/**
+	 * Creates a copy of the given path which does not retain the values of the nodes, e.g. the validated beans.
+	 */
+	public static PathImpl createDetachedCopy(PathImpl path) {
+		List<Node> detachedNodeList = new ArrayList<>( path.nodeList.size() );
+		NodeImpl parent = null;
+		for ( Node node : path.nodeList ) {
+			parent = NodeImpl.createDetachedCopy( (NodeImpl) node, parent );
+			detachedNodeList.add( parent );
+		}
+		return new PathImpl( detachedNodeList );
+	}
+
 	public static PathImpl createCopyWithoutLeafNode(PathImpl path) {
 		return new PathImpl( path.nodeList.subList( 0, path.nodeList.size() - 1 ) );
 	}
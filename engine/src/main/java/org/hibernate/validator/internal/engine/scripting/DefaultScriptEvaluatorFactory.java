@@ -67,7 +67,7 @@ protected ScriptEvaluator createNewScriptEvaluator(String languageName) throws S
 			throw LOG.getUnableToFindScriptEngineException( languageName );
 		}
 
-		return new ScriptEngineScriptEvaluator( engine );
+		return new ScriptEngineScriptEvaluator( engine, getMaxScriptEnginePoolSize() );
 	}
 
 	private ScriptEngineManager getScriptEngineManager() {
@@ -12,8 +12,10 @@
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -23,10 +25,13 @@
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.DetachedConstraintViolationImpl;
 import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ClockSnapshot;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocaleResolutionCache;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
@@ -122,6 +127,25 @@
 	@Lazy
 	private Set<ConstraintViolation<T>> failingConstraintViolations;
 
+	/**
+	 * The constraint failures already reported as detached constraint violations
+	 * ({@link DetachedConstraintViolationUnit}), the detached violations themselves not retaining what identifies them.
+	 */
+	@Lazy
+	private Set<DetachedConstraintViolationUnit> detachedConstraintViolationUnits;
+
+	/**
+	 * The locale used to interpolate the messages of this validation call, resolved once.
+	 */
+	@Lazy
+	private LocaleResolutionCache localeResolutionCache;
+
+	/**
+	 * The current time of this validation call, read once, if the temporal validation clock snapshot is enabled.
+	 */
+	@Lazy
+	private ClockSnapshot clockSnapshot;
+
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
@@ -237,12 +261,33 @@ public void addConstraintFailure(
 				messageTemplate,
 				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
 				constraintViolationCreationContext.isCustomViolation(),
+				constraintViolationCreationContext.isDynamicMessageTemplate(),
 				valueContext.getCurrentValidatedValue(),
 				descriptor,
 				constraintViolationCreationContext.getPath(),
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables()
 		);
+		if ( validatorScopedContext.isDetachedConstraintViolations() ) {
+			// the detached copy of the path does not share the nodes, thus it is not affected by the side effects
+			PathImpl path = PathImpl.createDetachedCopy( constraintViolationCreationContext.getPath() );
+
+			// the detached violations are all distinct so the duplicates are filtered out beforehand
+			if ( getInitializedDetachedConstraintViolationUnits().add( new DetachedConstraintViolationUnit(
+					valueContext.getCurrentBean(), valueContext.getCurrentValidatedValue(), messageTemplate, interpolatedMessage, path, descriptor ) ) ) {
+				getInitializedFailingConstraintViolations().add(
+						DetachedConstraintViolationImpl.of(
+								messageTemplate,
+								interpolatedMessage,
+								getRootBeanClass(),
+								path,
+								descriptor
+						)
+				);
+			}
+			return;
+		}
+
 		// at this point we make a copy of the path to avoid side effects
 		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
 
@@ -291,7 +336,7 @@ public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> me
 	@Override
 	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path) {
 		return new ConstraintValidatorContextImpl(
-				validatorScopedContext.getClockProvider(),
+				getConstraintValidatorClockProvider(),
 				path,
 				constraintDescriptor,
 				validatorScopedContext.getConstraintValidatorPayload(),
@@ -300,6 +345,30 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 		);
 	}
 
+	/**
+	 * @return the clock provider exposed to the constraint validators, reading the current time only once per
+	 * validation call if the temporal validation clock snapshot is enabled
+	 */
+	protected ClockProvider getConstraintValidatorClockProvider() {
+		if ( !validatorScopedContext.isTemporalValidationClockSnapshot() ) {
+			return validatorScopedContext.getClockProvider();
+		}
+		if ( clockSnapshot == null ) {
+			clockSnapshot = new ClockSnapshot( validatorScopedContext.getClockProvider() );
+		}
+		return clockSnapshot;
+	}
+
+	/**
+	 * @return the cache of the locale used to interpolate the messages of this validation call
+	 */
+	public LocaleResolutionCache getLocaleResolutionCache() {
+		if ( localeResolutionCache == null ) {
+			localeResolutionCache = new LocaleResolutionCache();
+		}
+		return localeResolutionCache;
+	}
+
 	@Override
 	public abstract String toString();
 
@@ -307,6 +376,7 @@ private String interpolate(
 			String messageTemplate,
 			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
 			boolean customViolation,
+			boolean dynamicMessageTemplate,
 			Object validatedValue,
 			ConstraintDescriptor<?> descriptor,
 			Path path,
@@ -320,7 +390,9 @@ private String interpolate(
 				messageParameters,
 				expressionVariables,
 				expressionLanguageFeatureLevel,
-				customViolation
+				customViolation,
+				dynamicMessageTemplate,
+				getLocaleResolutionCache()
 		);
 
 		try {
@@ -417,6 +489,13 @@ private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations()
 		return failingConstraintViolations;
 	}
 
+	private Set<DetachedConstraintViolationUnit> getInitializedDetachedConstraintViolationUnits() {
+		if ( detachedConstraintViolationUnits == null ) {
+			detachedConstraintViolationUnits = new HashSet<>();
+		}
+		return detachedConstraintViolationUnits;
+	}
+
 	private static final class BeanPathMetaConstraintProcessedUnit {
 
 		// these fields are final but we don't mark them as final as an optimization
@@ -510,4 +589,73 @@ private int createHashCode() {
 			return result;
 		}
 	}
+
+	/**
+	 * Identifies a constraint failure the same way as {@link org.hibernate.validator.internal.engine.ConstraintViolationImpl}
+	 * does, the root bean being the same for all the failures of a validation context.
+	 */
+	private static final class DetachedConstraintViolationUnit {
+
+		// these fields are final but we don't mark them as final as an optimization
+		private Object leafBean;
+		private Object value;
+		private String messageTemplate;
+		private String interpolatedMessage;
+		private Path path;
+		private ConstraintDescriptor<?> constraintDescriptor;
+		private int hashCode;
+
+		DetachedConstraintViolationUnit(Object leafBean, Object value, String messageTemplate, String interpolatedMessage,
+				Path path, ConstraintDescriptor<?> constraintDescriptor) {
+			this.leafBean = leafBean;
+			this.value = value;
+			this.messageTemplate = messageTemplate;
+			this.interpolatedMessage = interpolatedMessage;
+			this.path = path;
+			this.constraintDescriptor = constraintDescriptor;
+			this.hashCode = createHashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+
+			// No need to check if the class matches because of how this class is used in the set.
+			DetachedConstraintViolationUnit that = (DetachedConstraintViolationUnit) o;
+
+			if ( leafBean != that.leafBean || value != that.value ) {  // instance equality
+				return false;
+			}
+			if ( !Objects.equals( interpolatedMessage, that.interpolatedMessage ) ) {
+				return false;
+			}
+			if ( !Objects.equals( messageTemplate, that.messageTemplate ) ) {
+				return false;
+			}
+			if ( !path.equals( that.path ) ) {
+				return false;
+			}
+			if ( !constraintDescriptor.equals( that.constraintDescriptor ) ) {
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private int createHashCode() {
+			int result = System.identityHashCode( leafBean );
+			result = 31 * result + System.identityHashCode( value );
+			result = 31 * result + Objects.hashCode( interpolatedMessage );
+			result = 31 * result + path.hashCode();
+			result = 31 * result + constraintDescriptor.hashCode();
+			return result;
+		}
+	}
 }
@@ -99,7 +99,7 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 		if ( ConstraintType.CROSS_PARAMETER.equals( constraintDescriptor.getConstraintType() ) ) {
 			return new CrossParameterConstraintValidatorContextImpl(
 					getParameterNames(),
-					validatorScopedContext.getClockProvider(),
+					getConstraintValidatorClockProvider(),
 					path,
 					constraintDescriptor,
 					validatorScopedContext.getConstraintValidatorPayload(),
@@ -109,7 +109,7 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 		}
 
 		return new ConstraintValidatorContextImpl(
-				validatorScopedContext.getClockProvider(),
+				getConstraintValidatorClockProvider(),
 				path,
 				constraintDescriptor,
 				validatorScopedContext.getConstraintValidatorPayload(),
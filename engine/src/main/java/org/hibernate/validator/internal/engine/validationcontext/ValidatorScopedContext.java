@@ -78,6 +78,16 @@ public class ValidatorScopedContext {
 
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to produce constraint violations not retaining the validated objects.
+	 */
+	private final boolean detachedConstraintViolations;
+
+	/**
+	 * Hibernate Validator specific flag to read the current time only once per validation call.
+	 */
+	private final boolean temporalValidationClockSnapshot;
+
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
@@ -90,6 +100,8 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.constraintExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel();
 		this.customViolationExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getCustomViolationExpressionLanguageFeatureLevel();
 		this.showValidatedValuesInTraceLogs = validatorFactoryScopedContext.isShowValidatedValuesInTraceLogs();
+		this.detachedConstraintViolations = validatorFactoryScopedContext.isDetachedConstraintViolations();
+		this.temporalValidationClockSnapshot = validatorFactoryScopedContext.isTemporalValidationClockSnapshot();
 	}
 
 	public MessageInterpolator getMessageInterpolator() {
@@ -135,4 +147,12 @@ public ExpressionLanguageFeatureLevel getCustomViolationExpressionLanguageFeatur
 	public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
+
+	public boolean isDetachedConstraintViolations() {
+		return detachedConstraintViolations;
+	}
+
+	public boolean isTemporalValidationClockSnapshot() {
+		return temporalValidationClockSnapshot;
+	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
+
+/**
+ * Cache of the {@link BeanMetaData} built on demand by the {@link BeanMetaDataManagerImpl}.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see BeanMetaDataCachePolicy
+ */
+public interface BeanMetaDataCache {
+
+	/**
+	 * @param beanClass the bean class
+	 * @return the cached metadata for the given class or {@code null} if it is not cached
+	 */
+	BeanMetaData<?> get(Class<?> beanClass);
+
+	/**
+	 * Caches the metadata of the given class unless metadata is already cached for it.
+	 *
+	 * @param beanClass the bean class
+	 * @param beanMetaData the metadata to cache
+	 * @return the previously cached metadata or {@code null} if the given metadata has been cached
+	 */
+	BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData);
+
+	/**
+	 * Releases all the cached metadata.
+	 */
+	void clear();
+
+	/**
+	 * @return the number of cached metadata instances. Might be approximate if the cache uses references which are
+	 * cleared by the garbage collector.
+	 */
+	int size();
+
+	static BeanMetaDataCache of(BeanMetaDataCachePolicy policy, int maxSize) {
+		switch ( policy ) {
+			case STRONG:
+			case SOFT:
+			case BOUNDED:
+				return new ClassValueBeanMetaDataCache( policy, maxSize );
+			default:
+				return new ReferenceMapBeanMetaDataCache();
+		}
+	}
+}
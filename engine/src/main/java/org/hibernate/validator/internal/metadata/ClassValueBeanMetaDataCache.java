@@ -0,0 +1,274 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
+
+/**
+ * A {@link BeanMetaDataCache} storing the metadata in a {@link ClassValue} so that lookups are lock-free and the
+ * cached metadata does not prevent the bean classes from being unloaded.
+ * <p>
+ * Each bean class is associated with a {@link Slot} holding its metadata, either strongly or softly referenced
+ * depending on the policy. The slots are only reachable from their bean class, they are tracked through weak references
+ * so that the entries of the unloaded classes are subtracted from the size of the cache. For the
+ * {@link BeanMetaDataCachePolicy#BOUNDED} policy, the slots having a value are also registered in a ring used to evict
+ * entries following the CLOCK algorithm: lookups only flag the slot as recently used and all the bookkeeping is done on
+ * insertion.
+ * <p>
+ * As a {@code ClassValue} cannot be cleared, clearing the cache switches to a new {@code ClassValue}, the slots of the
+ * previous one being emptied so that they do not retain the metadata until the garbage collector releases them.
+ */
+class ClassValueBeanMetaDataCache implements BeanMetaDataCache {
+
+	private final BeanMetaDataCachePolicy policy;
+
+	private final int maxSize;
+
+	private volatile Generation generation;
+
+	ClassValueBeanMetaDataCache(BeanMetaDataCachePolicy policy, int maxSize) {
+		this.policy = policy;
+		this.maxSize = maxSize;
+		this.generation = new Generation();
+	}
+
+	@Override
+	public BeanMetaData<?> get(Class<?> beanClass) {
+		Generation currentGeneration = generation;
+		Slot slot = currentGeneration.slots.get( beanClass );
+		Object value = slot.value;
+
+		if ( value == null ) {
+			return null;
+		}
+
+		switch ( policy ) {
+			case SOFT:
+				return dereference( currentGeneration, slot, value );
+			case BOUNDED:
+				if ( !slot.referenced ) {
+					slot.referenced = true;
+				}
+				return (BeanMetaData<?>) value;
+			default:
+				return (BeanMetaData<?>) value;
+		}
+	}
+
+	@Override
+	public BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+		Generation currentGeneration = generation;
+		currentGeneration.expungeUnloadedSlots();
+		Slot slot = currentGeneration.slots.get( beanClass );
+
+		if ( policy == BeanMetaDataCachePolicy.BOUNDED ) {
+			return currentGeneration.admit( slot, beanMetaData, maxSize );
+		}
+
+		synchronized ( slot ) {
+			Object value = slot.value;
+			if ( value != null ) {
+				BeanMetaData<?> previousBeanMetaData = policy == BeanMetaDataCachePolicy.SOFT
+						? dereference( currentGeneration, slot, value )
+						: (BeanMetaData<?>) value;
+				if ( previousBeanMetaData != null ) {
+					return previousBeanMetaData;
+				}
+			}
+
+			currentGeneration.fill( slot, policy == BeanMetaDataCachePolicy.SOFT ? new SoftReference<>( beanMetaData ) : beanMetaData );
+			return null;
+		}
+	}
+
+	@Override
+	public void clear() {
+		Generation previousGeneration = generation;
+		generation = new Generation();
+		previousGeneration.release();
+	}
+
+	@Override
+	public int size() {
+		Generation currentGeneration = generation;
+		currentGeneration.expungeUnloadedSlots();
+		return currentGeneration.size.get();
+	}
+
+	private static BeanMetaData<?> dereference(Generation generation, Slot slot, Object value) {
+		@SuppressWarnings("unchecked")
+		BeanMetaData<?> beanMetaData = ( (SoftReference<BeanMetaData<?>>) value ).get();
+
+		if ( beanMetaData == null ) {
+			synchronized ( slot ) {
+				if ( slot.value == value ) {
+					generation.empty( slot );
+				}
+			}
+		}
+
+		return beanMetaData;
+	}
+
+	private static final class Slot {
+
+		/**
+		 * Either the {@link BeanMetaData} or a {@link SoftReference} to it, depending on the policy.
+		 */
+		private volatile Object value;
+
+		/**
+		 * Whether the slot has been accessed since the clock hand last passed over it. Only used by the bounded policy.
+		 */
+		private volatile boolean referenced;
+
+		private final SlotReference reference;
+
+		private Slot(ReferenceQueue<Slot> queue) {
+			this.reference = new SlotReference( this, queue );
+		}
+	}
+
+	/**
+	 * A weak reference to a slot, cleared when its bean class is unloaded. It records whether the slot has a value as
+	 * the slot cannot be accessed anymore once it has been cleared.
+	 */
+	private static final class SlotReference extends WeakReference<Slot> {
+
+		/**
+		 * Whether the slot has a value. Updated along with the value of the slot, under the same lock.
+		 */
+		private volatile boolean filled;
+
+		private SlotReference(Slot slot, ReferenceQueue<Slot> queue) {
+			super( slot, queue );
+		}
+	}
+
+	private static final class Generation {
+
+		private final ReferenceQueue<Slot> unloadedSlots = new ReferenceQueue<>();
+
+		/**
+		 * The references to the slots of the live bean classes, which have to be reachable to be enqueued when the
+		 * classes are unloaded.
+		 */
+		private final Set<SlotReference> slotReferences = ConcurrentHashMap.newKeySet();
+
+		private final ClassValue<Slot> slots = new ClassValue<Slot>() {
+
+			@Override
+			protected Slot computeValue(Class<?> type) {
+				Slot slot = new Slot( unloadedSlots );
+				slotReferences.add( slot.reference );
+				return slot;
+			}
+		};
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		/**
+		 * The slots having a value, only used by the bounded policy. The slots are weakly referenced so that the ring
+		 * does not prevent the bean classes from being unloaded. Guarded by {@code this}.
+		 */
+		private final List<SlotReference> ring = new ArrayList<>();
+
+		/**
+		 * The position of the clock hand in the ring. Guarded by {@code this}.
+		 */
+		private int hand;
+
+		private synchronized BeanMetaData<?> admit(Slot slot, BeanMetaData<?> beanMetaData, int maxSize) {
+			Object value = slot.value;
+			if ( value != null ) {
+				slot.referenced = true;
+				return (BeanMetaData<?>) value;
+			}
+
+			if ( ring.size() < maxSize ) {
+				ring.add( slot.reference );
+			}
+			else {
+				while ( true ) {
+					Slot candidate = ring.get( hand ).get();
+					if ( candidate == null ) {
+						// the class has been unloaded, its slot along with it
+						break;
+					}
+
+					if ( candidate.referenced ) {
+						candidate.referenced = false;
+						hand = ( hand + 1 ) % ring.size();
+					}
+					else {
+						empty( candidate );
+						break;
+					}
+				}
+				ring.set( hand, slot.reference );
+				hand = ( hand + 1 ) % ring.size();
+			}
+
+			slot.referenced = false;
+			fill( slot, beanMetaData );
+			return null;
+		}
+
+		/**
+		 * Sets the value of an empty slot. Must be called under the lock guarding the slot.
+		 */
+		private void fill(Slot slot, Object value) {
+			slot.value = value;
+			slot.reference.filled = true;
+			size.incrementAndGet();
+		}
+
+		/**
+		 * Empties a slot having a value. Must be called under the lock guarding the slot.
+		 */
+		private void empty(Slot slot) {
+			slot.value = null;
+			slot.reference.filled = false;
+			size.decrementAndGet();
+		}
+
+		/**
+		 * Subtracts the entries of the unloaded bean classes from the size.
+		 */
+		private void expungeUnloadedSlots() {
+			SlotReference reference;
+			while ( ( reference = (SlotReference) unloadedSlots.poll() ) != null ) {
+				slotReferences.remove( reference );
+				if ( reference.filled ) {
+					size.decrementAndGet();
+				}
+			}
+		}
+
+		private synchronized void release() {
+			for ( SlotReference reference : slotReferences ) {
+				Slot slot = reference.get();
+				if ( slot != null ) {
+					slot.value = null;
+				}
+			}
+			slotReferences.clear();
+			ring.clear();
+			size.set( 0 );
+		}
+	}
+}
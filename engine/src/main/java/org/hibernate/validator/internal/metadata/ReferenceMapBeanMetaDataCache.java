@@ -0,0 +1,72 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.util.EnumSet;
+
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
+/**
+ * The historical {@link BeanMetaDataCache}, based on a {@link ConcurrentReferenceHashMap} using soft references for
+ * both keys and values.
+ *
+ * @see org.hibernate.validator.metadata.BeanMetaDataCachePolicy#DEFAULT
+ */
+class ReferenceMapBeanMetaDataCache implements BeanMetaDataCache {
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+
+	ReferenceMapBeanMetaDataCache() {
+		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				SOFT,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
+	@Override
+	public BeanMetaData<?> get(Class<?> beanClass) {
+		return beanMetaDataCache.get( beanClass );
+	}
+
+	@Override
+	public BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+		return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+	}
+
+	@Override
+	public void clear() {
+		beanMetaDataCache.clear();
+	}
+
+	@Override
+	public int size() {
+		return beanMetaDataCache.size();
+	}
+}
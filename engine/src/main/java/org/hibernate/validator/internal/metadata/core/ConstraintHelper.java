@@ -57,6 +57,8 @@
 import static org.hibernate.validator.internal.metadata.core.BuiltinConstraint.ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_UNIQUE_ELEMENTS;
 import static org.hibernate.validator.internal.metadata.core.BuiltinConstraint.ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_URL;
 import static org.hibernate.validator.internal.metadata.core.BuiltinConstraint.ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_UUID;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.lang.annotation.Annotation;
@@ -67,6 +69,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -325,7 +328,9 @@
 import org.hibernate.validator.internal.constraintvalidators.hv.time.DurationMinValidator;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorDescriptor;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetAnnotationAttribute;
@@ -391,6 +396,21 @@ public class ConstraintHelper {
 
 	private final ValidatorDescriptorMap validatorDescriptors = new ValidatorDescriptorMap();
 
+	/**
+	 * The descriptors of the constraint annotation instances already seen, compared by identity so that the attributes
+	 * of the annotations are not read on lookup.
+	 */
+	private final ConcurrentMap<Annotation, ConstraintAnnotationDescriptor<?>> constraintAnnotationDescriptors =
+			new ConcurrentReferenceHashMap<>( 100, 0.75f, 16, SOFT, SOFT, EnumSet.of( IDENTITY_COMPARISONS ) );
+
+	/**
+	 * Canonical constraint annotation descriptors so that equal constraint annotations share the same descriptor. The
+	 * descriptors are keyed by themselves, i.e. by the annotation type and the attribute values read once when building
+	 * the descriptor.
+	 */
+	private final ConcurrentMap<ConstraintAnnotationDescriptor<?>, ConstraintAnnotationDescriptor<?>> canonicalConstraintAnnotationDescriptors =
+			new ConcurrentReferenceHashMap<>( 100, SOFT, SOFT );
+
 	private Boolean javaMoneyInClasspath;
 
 	private Boolean jodaTimeInClassPath;
@@ -1110,9 +1130,37 @@ public boolean isJdkAnnotation(Class<? extends Annotation> annotation) {
 				( pakkage.getName().startsWith( "java." ) || pakkage.getName().startsWith( "jdk.internal" ) );
 	}
 
+	/**
+	 * Returns the descriptor of the given constraint annotation.
+	 * <p>
+	 * Descriptors are immutable and the constraint annotations are typically repeated across the constrained elements
+	 * so the descriptors are canonicalized: equal annotations get the same descriptor instance and the attributes of a
+	 * given annotation are only read once.
+	 *
+	 * @param annotation the constraint annotation
+	 * @param <A> the type of the constraint annotation
+	 *
+	 * @return the descriptor of the given annotation
+	 */
+	@SuppressWarnings("unchecked")
+	public <A extends Annotation> ConstraintAnnotationDescriptor<A> getConstraintAnnotationDescriptor(A annotation) {
+		ConstraintAnnotationDescriptor<?> descriptor = constraintAnnotationDescriptors.get( annotation );
+		if ( descriptor == null ) {
+			descriptor = new ConstraintAnnotationDescriptor<>( annotation );
+			ConstraintAnnotationDescriptor<?> canonicalDescriptor = canonicalConstraintAnnotationDescriptors.putIfAbsent( descriptor, descriptor );
+			if ( canonicalDescriptor != null ) {
+				descriptor = canonicalDescriptor;
+			}
+			constraintAnnotationDescriptors.putIfAbsent( annotation, descriptor );
+		}
+		return (ConstraintAnnotationDescriptor<A>) descriptor;
+	}
+
 	public void clear() {
 		externalConstraints.clear();
 		multiValueConstraints.clear();
+		constraintAnnotationDescriptors.clear();
+		canonicalConstraintAnnotationDescriptors.clear();
 	}
 
 	private boolean isJodaTimeInClasspath() {
@@ -69,7 +69,6 @@
 import org.hibernate.validator.internal.properties.javabean.JavaBeanParameter;
 import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.ReflectionHelper;
-import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredConstructors;
@@ -586,7 +585,7 @@ private <A extends Annotation> ConstraintDescriptorImpl<A> buildConstraintDescri
 		return new ConstraintDescriptorImpl<>(
 				constraintCreationContext.getConstraintHelper(),
 				constrainable,
-				new ConstraintAnnotationDescriptor<>( annotation ),
+				constraintCreationContext.getConstraintHelper().getConstraintAnnotationDescriptor( annotation ),
 				type
 		);
 	}
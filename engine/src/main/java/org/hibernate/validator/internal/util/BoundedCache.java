@@ -0,0 +1,194 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache holding at most a given number of entries, evicted following a segmented LRU policy.
+ * <p>
+ * New entries are admitted in a probation segment. The entries accessed again while in probation are promoted to a
+ * protected segment, holding up to 80% of the entries, when the eviction reaches them; the least recently promoted
+ * protected entries are demoted back to probation when the protected segment overflows. Thus, entries used only once
+ * (e.g. messages embedding dynamic data) are evicted first and don't flush the frequently used entries.
+ * <p>
+ * As in the CLOCK algorithm, the recency is approximated: lookups are lock-free and only flag the entry as accessed,
+ * the bookkeeping being done on insertion. Insertions are lock-free too: the new entries are queued and the segments
+ * are updated by whichever thread acquires the eviction lock, the other threads not waiting for it. Thus, the cache
+ * might temporarily hold a few more entries than its maximum size while insertions are in progress.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BoundedCache<K, V> {
+
+	private final int maxSize;
+
+	private final int maxProtectedSize;
+
+	private final ConcurrentHashMap<K, Entry<K, V>> entries;
+
+	/**
+	 * The entries inserted but not yet admitted in probation.
+	 */
+	private final Queue<Entry<K, V>> pendingEntries = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Guards the segments.
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * The entries in probation, in admission order. Guarded by {@link #evictionLock}.
+	 */
+	private final Deque<Entry<K, V>> probation = new ArrayDeque<>();
+
+	/**
+	 * The protected entries, in promotion order. Guarded by {@link #evictionLock}.
+	 */
+	private final Deque<Entry<K, V>> protectedEntries = new ArrayDeque<>();
+
+	public BoundedCache(int maxSize) {
+		Contracts.assertTrue( maxSize > 0, "The maximum size of the cache must be strictly positive" );
+		this.maxSize = maxSize;
+		this.maxProtectedSize = maxSize * 4 / 5;
+		this.entries = new ConcurrentHashMap<>( Math.min( maxSize, 256 ) );
+	}
+
+	/**
+	 * @return the value associated with the key, {@code null} if there is none
+	 */
+	public V get(K key) {
+		Entry<K, V> entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( !entry.accessed ) {
+			entry.accessed = true;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Associates the value with the key, unless the key is already associated with a value.
+	 *
+	 * @param value the value, must not be {@code null}
+	 *
+	 * @return the value previously associated with the key, {@code null} if there was none
+	 */
+	public V putIfAbsent(K key, V value) {
+		Contracts.assertNotNull( value, "The value must not be null" );
+
+		Entry<K, V> entry = new Entry<>( key, value );
+		Entry<K, V> previousEntry = entries.putIfAbsent( key, entry );
+		if ( previousEntry != null ) {
+			previousEntry.accessed = true;
+			return previousEntry.value;
+		}
+
+		pendingEntries.add( entry );
+		// the entries queued while another thread held the lock are admitted once it has been released
+		while ( !pendingEntries.isEmpty() && evictionLock.tryLock() ) {
+			try {
+				admitPendingEntries();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value associated with the key, computing it and caching it if there is none. The value is computed
+	 * outside of any lock so it might be computed several times in case of concurrent calls. A {@code null} value is
+	 * returned but not cached.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get( key );
+		if ( value == null ) {
+			value = mappingFunction.apply( key );
+			if ( value == null ) {
+				return null;
+			}
+			V cachedValue = putIfAbsent( key, value );
+			if ( cachedValue != null ) {
+				value = cachedValue;
+			}
+		}
+		return value;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void admitPendingEntries() {
+		Entry<K, V> entry;
+		while ( ( entry = pendingEntries.poll() ) != null ) {
+			probation.addLast( entry );
+		}
+
+		while ( entries.size() > maxSize && !probation.isEmpty() ) {
+			evict();
+		}
+	}
+
+	private void evict() {
+		// bounds the number of chances given to the accessed entries in case they keep being accessed concurrently
+		int remainingChances = entries.size();
+		while ( true ) {
+			Entry<K, V> candidate = probation.pollFirst();
+			if ( candidate == null ) {
+				// all the entries have been promoted, the remaining ones are still being inserted by other threads
+				return;
+			}
+			if ( !candidate.accessed || remainingChances-- <= 0 ) {
+				entries.remove( candidate.key, candidate );
+				return;
+			}
+
+			// the entry has been accessed while in probation: it is promoted
+			candidate.accessed = false;
+			protectedEntries.addLast( candidate );
+			while ( protectedEntries.size() > maxProtectedSize ) {
+				Entry<K, V> demoted = protectedEntries.pollFirst();
+				if ( demoted.accessed && remainingChances-- > 0 ) {
+					// the entry has been accessed since its promotion, it is given another chance
+					demoted.accessed = false;
+					protectedEntries.addLast( demoted );
+				}
+				else {
+					probation.addLast( demoted );
+				}
+			}
+		}
+	}
+
+	private static final class Entry<K, V> {
+
+		private final K key;
+
+		private final V value;
+
+		/**
+		 * Whether the entry has been accessed since it was last admitted, promoted or given another chance.
+		 */
+		private volatile boolean accessed;
+
+		private Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
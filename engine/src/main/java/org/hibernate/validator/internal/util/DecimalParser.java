@@ -0,0 +1,302 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Compares the decimal numbers represented by character sequences, or counts their digits, without creating
+ * {@link BigDecimal} instances.
+ * <p>
+ * The character sequences are parsed as done by {@link BigDecimal#BigDecimal(String)}: an optional sign, a significand
+ * made of digits with an optional decimal point and an optional exponent. Only the character sequences made of ASCII
+ * characters are handled, the other ones, which might contain non ASCII digits, have to be parsed with
+ * {@link BigDecimal}. The comparisons are also limited to the numbers whose unscaled value has at most 18 digits, i.e.
+ * fits in a {@code long} whatever its digits.
+ */
+public final class DecimalParser {
+
+	/**
+	 * Returned by {@link #compare(CharSequence, long, int)} when the character sequence does not represent a decimal
+	 * number.
+	 */
+	public static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+	/**
+	 * Returned by {@link #compare(CharSequence, long, int)} when the comparison has to be done with {@link BigDecimal}.
+	 */
+	public static final int UNSUPPORTED = Integer.MAX_VALUE;
+
+	private static final long INVALID_SCALE = Long.MIN_VALUE;
+
+	private static final long UNSUPPORTED_SCALE = Long.MAX_VALUE;
+
+	private static final int MAX_COMPACT_PRECISION = 18;
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_PRECISION + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1L;
+		for ( int i = 1; i < POWERS_OF_TEN.length; i++ ) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+		}
+	}
+
+	private DecimalParser() {
+	}
+
+	/**
+	 * @return whether the given value can be used as a bound by {@link #compare(CharSequence, long, int)}
+	 */
+	public static boolean isCompact(BigDecimal value) {
+		return value.precision() <= MAX_COMPACT_PRECISION;
+	}
+
+	/**
+	 * @return whether the given value can be used as a bound by {@link #compare(CharSequence, long, int)}
+	 */
+	public static boolean isCompact(long value) {
+		return value > -POWERS_OF_TEN[MAX_COMPACT_PRECISION] && value < POWERS_OF_TEN[MAX_COMPACT_PRECISION];
+	}
+
+	/**
+	 * Compares the decimal number represented by the given character sequence to the bound
+	 * {@code boundUnscaledValue * 10^-boundScale}.
+	 *
+	 * @param value the character sequence to compare
+	 * @param boundUnscaledValue the unscaled value of the bound, at most 18 digits long
+	 * @param boundScale the scale of the bound
+	 *
+	 * @return a negative integer, zero or a positive integer as the number is less than, equal to or greater than the
+	 * bound, {@link #NOT_A_NUMBER} if the character sequence does not represent a decimal number or {@link #UNSUPPORTED}
+	 * if the comparison has to be done with {@link BigDecimal}
+	 */
+	public static int compare(CharSequence value, long boundUnscaledValue, int boundScale) {
+		long scale = scale( value );
+		if ( scale == INVALID_SCALE ) {
+			return NOT_A_NUMBER;
+		}
+		if ( scale == UNSUPPORTED_SCALE ) {
+			return UNSUPPORTED;
+		}
+
+		long unscaledMagnitude = unscaledMagnitude( value );
+		if ( unscaledMagnitude < 0 ) {
+			return UNSUPPORTED;
+		}
+
+		int signum = unscaledMagnitude == 0 ? 0 : ( value.charAt( 0 ) == '-' ? -1 : 1 );
+		int boundSignum = Long.signum( boundUnscaledValue );
+		if ( signum != boundSignum ) {
+			return signum < boundSignum ? -1 : 1;
+		}
+		if ( signum == 0 ) {
+			return 0;
+		}
+
+		return signum * compareMagnitudes( unscaledMagnitude, scale, Math.abs( boundUnscaledValue ), boundScale );
+	}
+
+	/**
+	 * Checks the number of digits of the integer and fraction parts of the decimal number represented by the given
+	 * character sequence, as computed from the precision and scale of the corresponding {@link BigDecimal}.
+	 *
+	 * @param value the character sequence to check
+	 * @param maxIntegerLength the maximum number of digits of the integer part
+	 * @param maxFractionLength the maximum number of digits of the fraction part
+	 * @param stripTrailingZeros whether the trailing zeros of the unscaled value are ignored, as done by
+	 * {@link BigDecimal#stripTrailingZeros()}
+	 *
+	 * @return whether the number of digits are within the limits, {@code false} if the character sequence does not
+	 * represent a decimal number, {@code null} if the check has to be done with {@link BigDecimal}
+	 */
+	public static Boolean hasDigits(CharSequence value, int maxIntegerLength, int maxFractionLength, boolean stripTrailingZeros) {
+		long scale = scale( value );
+		if ( scale == INVALID_SCALE ) {
+			return Boolean.FALSE;
+		}
+		if ( scale == UNSUPPORTED_SCALE ) {
+			return null;
+		}
+
+		int significandEnd = significandEnd( value );
+		int precision = 0;
+		int trailingZeros = 0;
+		for ( int i = 0; i < significandEnd; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '0' ) {
+				if ( precision > 0 ) {
+					precision++;
+					trailingZeros++;
+				}
+			}
+			else if ( c >= '1' && c <= '9' ) {
+				precision++;
+				trailingZeros = 0;
+			}
+		}
+
+		if ( precision == 0 ) {
+			// the precision of zero is 1, whatever its scale
+			precision = 1;
+			if ( stripTrailingZeros ) {
+				scale = 0;
+			}
+		}
+		else if ( stripTrailingZeros ) {
+			precision -= trailingZeros;
+			scale -= trailingZeros;
+		}
+
+		long integerPartLength = precision - scale;
+		long fractionPartLength = scale < 0 ? 0 : scale;
+		return maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength;
+	}
+
+	/**
+	 * Compares two positive decimal numbers whose unscaled values have at most 18 digits.
+	 */
+	private static int compareMagnitudes(long unscaledValue, long scale, long otherUnscaledValue, long otherScale) {
+		int precision = precision( unscaledValue );
+		int otherPrecision = precision( otherUnscaledValue );
+
+		// the position of the most significant digit decides, unless it is the same for both numbers
+		long adjustedExponent = precision - scale;
+		long otherAdjustedExponent = otherPrecision - otherScale;
+		if ( adjustedExponent != otherAdjustedExponent ) {
+			return adjustedExponent < otherAdjustedExponent ? -1 : 1;
+		}
+
+		// the unscaled value with the lower precision is aligned on the other one, thus has at most 18 digits
+		if ( precision < otherPrecision ) {
+			unscaledValue *= POWERS_OF_TEN[otherPrecision - precision];
+		}
+		else if ( otherPrecision < precision ) {
+			otherUnscaledValue *= POWERS_OF_TEN[precision - otherPrecision];
+		}
+		return Long.compare( unscaledValue, otherUnscaledValue );
+	}
+
+	private static int precision(long positiveValue) {
+		int precision = 1;
+		while ( precision < POWERS_OF_TEN.length && positiveValue >= POWERS_OF_TEN[precision] ) {
+			precision++;
+		}
+		return precision;
+	}
+
+	/**
+	 * Validates the character sequence and computes the scale of the decimal number it represents.
+	 *
+	 * @return the scale, {@link #INVALID_SCALE} if the character sequence does not represent a decimal number or
+	 * {@link #UNSUPPORTED_SCALE} if it contains a non ASCII character before being found invalid
+	 */
+	private static long scale(CharSequence value) {
+		int length = value.length();
+		int i = 0;
+		if ( i < length && ( value.charAt( i ) == '-' || value.charAt( i ) == '+' ) ) {
+			i++;
+		}
+
+		boolean digits = false;
+		boolean decimalPoint = false;
+		long fractionLength = 0;
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				digits = true;
+				if ( decimalPoint ) {
+					fractionLength++;
+				}
+			}
+			else if ( c == '.' && !decimalPoint ) {
+				decimalPoint = true;
+			}
+			else if ( c == 'e' || c == 'E' ) {
+				break;
+			}
+			else {
+				return c < 0x80 ? INVALID_SCALE : UNSUPPORTED_SCALE;
+			}
+		}
+		if ( !digits ) {
+			return INVALID_SCALE;
+		}
+
+		long exponent = 0;
+		if ( i < length ) {
+			// skip the exponent marker
+			i++;
+			boolean negativeExponent = false;
+			if ( i < length && ( value.charAt( i ) == '-' || value.charAt( i ) == '+' ) ) {
+				negativeExponent = value.charAt( i ) == '-';
+				i++;
+			}
+			if ( i == length ) {
+				return INVALID_SCALE;
+			}
+			int exponentDigits = 0;
+			for ( ; i < length; i++ ) {
+				char c = value.charAt( i );
+				if ( c < '0' || c > '9' ) {
+					return c < 0x80 ? INVALID_SCALE : UNSUPPORTED_SCALE;
+				}
+				if ( exponentDigits > 0 || c != '0' ) {
+					// more than 10 significant digits do not fit in an int
+					if ( ++exponentDigits > 10 ) {
+						return INVALID_SCALE;
+					}
+					exponent = exponent * 10 + ( c - '0' );
+				}
+			}
+			if ( negativeExponent ) {
+				exponent = -exponent;
+			}
+			if ( (int) exponent != exponent ) {
+				return INVALID_SCALE;
+			}
+		}
+
+		long scale = fractionLength - exponent;
+		return (int) scale != scale ? INVALID_SCALE : scale;
+	}
+
+	/**
+	 * @return the absolute value of the unscaled value of a valid decimal number or -1 if it has more than 18 digits
+	 */
+	private static long unscaledMagnitude(CharSequence value) {
+		int significandEnd = significandEnd( value );
+		long unscaledValue = 0;
+		int precision = 0;
+		for ( int i = 0; i < significandEnd; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				if ( precision > 0 || c != '0' ) {
+					if ( ++precision > MAX_COMPACT_PRECISION ) {
+						return -1;
+					}
+				}
+				unscaledValue = unscaledValue * 10 + ( c - '0' );
+			}
+		}
+		return unscaledValue;
+	}
+
+	/**
+	 * @return the index of the exponent marker or the length of the character sequence if there is no exponent
+	 */
+	private static int significandEnd(CharSequence value) {
+		int length = value.length();
+		for ( int i = 0; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c == 'e' || c == 'E' ) {
+				return i;
+			}
+		}
+		return length;
+	}
+}
@@ -6,13 +6,19 @@
  */
 package org.hibernate.validator.internal.util;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.net.IDN;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Checks the validity of domain names and of the domain part of email addresses.
+ * <p>
+ * A domain name is a sequence of labels separated by dots, each label being made of letters, digits, non ASCII
+ * characters of the basic multilingual plane and the {@code !#$%&'*+/=?^_`{|}~} characters, and possibly dashes
+ * between them. It might also be an IP address: an IPv6 address between square brackets or, for an email, an IPv4
+ * address between square brackets or an IPv6 address prefixed by {@code IPv6:} between square brackets.
+ * <p>
+ * The values are parsed in a single pass, without allocating for ASCII values: {@link IDN#toASCII(String)} is only
+ * called for the domain names containing non ASCII characters.
+ *
  * @author Marko Bekhta
  * @author Guillaume Smet
  */
@@ -24,30 +30,12 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
-	private static final String DOMAIN = DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*";
-
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
-	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
-	private static final String IP_V6_DOMAIN = "(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
-
 	/**
-	 * Regular expression for the domain part of an URL
-	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The maximum length of a label, as verified by {@link IDN#toASCII(String)}.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int MAX_LABEL_LENGTH = 63;
 
-	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
-	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final String EMAIL_IP_V6_PREFIX = "IPv6:";
 
 	private DomainNameUtil() {
 	}
@@ -60,7 +48,22 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, located between the given indexes of the character
+	 * sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index following the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 *
+	 * @see #isValidEmailDomainAddress(String)
+	 */
+	public static boolean isValidEmailDomainAddress(CharSequence value, int start, int end) {
+		return isValidDomainAddress( value, start, end, true );
 	}
 
 	/**
@@ -70,34 +73,378 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length(), false );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+	private static boolean isValidDomainAddress(CharSequence value, int start, int end, boolean email) {
+		if ( start == end ) {
+			return false;
+		}
 		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
-		if ( domain.endsWith( "." ) ) {
+		// the parsing would take care of this, but IDN.toASCII drops the trailing '.'
+		if ( value.charAt( end - 1 ) == '.' ) {
 			return false;
 		}
 
+		if ( value.charAt( start ) == '[' ) {
+			return value.charAt( end - 1 ) == ']' && isValidIpAddressLiteral( value, start + 1, end - 1, email )
+					&& hasValidAsciiLabelLengths( value, start, end );
+		}
+
+		// the labels are validated in a first pass, which also detects whether the domain only contains ASCII
+		// characters
+		boolean ascii = true;
+		int labelStart = start;
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( !isValidLabelEnd( value, labelStart, i ) ) {
+					return false;
+				}
+				labelStart = i + 1;
+				i++;
+				continue;
+			}
+			if ( c == '-' ) {
+				if ( i == labelStart ) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+
+			int codePoint = Character.codePointAt( value, i );
+			if ( !isDomainCharacter( codePoint ) ) {
+				return false;
+			}
+			ascii &= codePoint < 0x80;
+			i += Character.charCount( codePoint );
+		}
+		if ( !isValidLabelEnd( value, labelStart, end ) ) {
+			return false;
+		}
+
+		if ( ascii ) {
+			return hasValidAsciiLabelLengths( value, start, end );
+		}
+
 		String asciiString;
 		try {
-			asciiString = IDN.toASCII( domain );
+			asciiString = IDN.toASCII( value.subSequence( start, end ).toString() );
 		}
 		catch (IllegalArgumentException e) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	/**
+	 * @return whether the label ending at the given index is not empty and does not end with a dash
+	 */
+	private static boolean isValidLabelEnd(CharSequence value, int labelStart, int labelEnd) {
+		return labelEnd > labelStart && value.charAt( labelEnd - 1 ) != '-';
+	}
+
+	/**
+	 * Applies to an ASCII domain the length checks of {@link IDN#toASCII(String)}, which leaves such a domain unchanged.
+	 */
+	private static boolean hasValidAsciiLabelLengths(CharSequence value, int start, int end) {
+		if ( end - start > MAX_DOMAIN_PART_LENGTH ) {
+			return false;
+		}
+		int labelStart = start;
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == '.' ) {
+				if ( i - labelStart > MAX_LABEL_LENGTH ) {
+					return false;
+				}
+				labelStart = i + 1;
+			}
+		}
+		return end - labelStart <= MAX_LABEL_LENGTH;
+	}
+
+	private static boolean isDomainCharacter(int codePoint) {
+		if ( codePoint >= 0x80 ) {
+			return codePoint <= 0xFFFF;
+		}
+		if ( isAsciiLetterOrDigit( codePoint ) ) {
+			return true;
+		}
+		switch ( codePoint ) {
+			case '!':
+			case '#':
+			case '$':
+			case '%':
+			case '&':
+			case '\'':
+			case '*':
+			case '+':
+			case '/':
+			case '=':
+			case '?':
+			case '^':
+			case '_':
+			case '`':
+			case '{':
+			case '|':
+			case '}':
+			case '~':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * @return whether the content of the square brackets is an IPv6 address, or, for an email, an IPv4 address or an
+	 * IPv6 address prefixed by {@code IPv6:}
+	 */
+	private static boolean isValidIpAddressLiteral(CharSequence value, int start, int end, boolean email) {
+		if ( !email ) {
+			return isValidIpV6Address( value, start, end );
+		}
+		if ( regionMatchesIgnoreCase( value, start, end, EMAIL_IP_V6_PREFIX ) ) {
+			return isValidIpV6Address( value, start + EMAIL_IP_V6_PREFIX.length(), end );
+		}
+		return isValidEmailIpV4Address( value, start, end );
+	}
+
+	/**
+	 * @return whether the value is made of 4 groups of 1 to 3 digits separated by dots, the values of the groups not
+	 * being checked
+	 */
+	private static boolean isValidEmailIpV4Address(CharSequence value, int start, int end) {
+		int groupCount = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			while ( i < end && isDigit( value.charAt( i ) ) && i - groupStart < 3 ) {
+				i++;
+			}
+			if ( i == groupStart ) {
+				return false;
+			}
+			groupCount++;
+			if ( i == end ) {
+				return groupCount == 4;
+			}
+			if ( value.charAt( i ) != '.' || groupCount == 4 ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * Checks an IPv6 address: 8 groups of 1 to 4 hexadecimal digits, or at most 7 groups with {@code ::} standing for
+	 * the omitted ones, an IPv4 address possibly ending the address, or a link-local address with a zone index.
+	 */
+	private static boolean isValidIpV6Address(CharSequence value, int start, int end) {
+		int zoneSeparator = indexOf( value, '%', start, end );
+		if ( zoneSeparator >= 0 ) {
+			return isValidLinkLocalIpV6Address( value, start, zoneSeparator, end );
+		}
+
+		int lastColon = lastIndexOf( value, ':', start, end );
+		if ( lastColon < 0 ) {
+			return false;
+		}
+		if ( indexOf( value, '.', lastColon + 1, end ) >= 0 ) {
+			return isValidIpV4EndedIpV6Address( value, start, lastColon, end );
+		}
+
+		int compression = indexOf( value, ':', ':', start, end );
+		if ( compression < 0 ) {
+			return countHexadecimalGroups( value, start, end ) == 8;
+		}
+		int groupsBefore = compression == start ? 0 : countHexadecimalGroups( value, start, compression );
+		int groupsAfter = compression + 2 == end ? 0 : countHexadecimalGroups( value, compression + 2, end );
+		return groupsBefore >= 0 && groupsAfter >= 0 && groupsBefore + groupsAfter <= 7;
+	}
+
+	/**
+	 * Checks an address like {@code fe80::1%eth0}: {@code fe80:}, followed by at most 4 groups made of a colon and at
+	 * most 4 hexadecimal digits, and a zone index made of letters and digits.
+	 */
+	private static boolean isValidLinkLocalIpV6Address(CharSequence value, int start, int zoneSeparator, int end) {
+		if ( !regionMatchesIgnoreCase( value, start, zoneSeparator, "fe80:" ) ) {
+			return false;
+		}
+
+		int groupCount = 0;
+		int i = start + 5;
+		while ( i < zoneSeparator ) {
+			if ( value.charAt( i ) != ':' || ++groupCount > 4 ) {
+				return false;
+			}
+			i++;
+			int groupStart = i;
+			while ( i < zoneSeparator && isHexadecimalDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i - groupStart > 4 ) {
+				return false;
+			}
+		}
+
+		if ( zoneSeparator + 1 == end ) {
+			return false;
+		}
+		for ( int j = zoneSeparator + 1; j < end; j++ ) {
+			if ( !isAsciiLetterOrDigit( value.charAt( j ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an address ending with an IPv4 address: {@code ::}, {@code ::ffff:} or {@code ::ffff:0:} followed by the
+	 * IPv4 address, or 1 to 4 groups of hexadecimal digits followed by {@code ::} and the IPv4 address.
+	 */
+	private static boolean isValidIpV4EndedIpV6Address(CharSequence value, int start, int lastColon, int end) {
+		if ( !isValidIpV4Address( value, lastColon + 1, end ) ) {
 			return false;
 		}
 
-		Matcher matcher = pattern.matcher( domain );
-		if ( !matcher.matches() ) {
+		// the prefix ends with the last colon
+		int prefixEnd = lastColon + 1;
+		if ( prefixEnd - start == 2 ) {
+			return value.charAt( start ) == ':';
+		}
+		if ( regionMatchesIgnoreCase( value, start, prefixEnd, "::ffff:" ) ) {
+			// ::ffff: possibly followed by 1 to 4 zeros and a colon
+			if ( prefixEnd - start == 7 ) {
+				return true;
+			}
+			int zeroCount = prefixEnd - 1 - ( start + 7 );
+			if ( zeroCount < 1 || zeroCount > 4 ) {
+				return false;
+			}
+			for ( int i = start + 7; i < prefixEnd - 1; i++ ) {
+				if ( value.charAt( i ) != '0' ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if ( prefixEnd - start < 2 || value.charAt( prefixEnd - 2 ) != ':' ) {
 			return false;
 		}
+		int groupCount = countHexadecimalGroups( value, start, prefixEnd - 2 );
+		return groupCount >= 1 && groupCount <= 4;
+	}
 
+	/**
+	 * @return whether the value is made of 4 numbers between 0 and 255 separated by dots, a number having at most 3
+	 * digits, i.e. a leading zero is only allowed for the numbers of at most 2 digits
+	 */
+	private static boolean isValidIpV4Address(CharSequence value, int start, int end) {
+		int groupCount = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			int number = 0;
+			while ( i < end && isDigit( value.charAt( i ) ) && i - groupStart < 3 ) {
+				number = number * 10 + value.charAt( i ) - '0';
+				i++;
+			}
+			int digitCount = i - groupStart;
+			if ( digitCount == 0 || number > 255 || ( digitCount == 3 && value.charAt( groupStart ) == '0' ) ) {
+				return false;
+			}
+			groupCount++;
+			if ( i == end ) {
+				return groupCount == 4;
+			}
+			if ( value.charAt( i ) != '.' || groupCount == 4 ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @return the number of groups of 1 to 4 hexadecimal digits separated by colons or -1 if the value is not made of
+	 * such groups
+	 */
+	private static int countHexadecimalGroups(CharSequence value, int start, int end) {
+		int groupCount = 0;
+		int i = start;
+		while ( true ) {
+			int groupStart = i;
+			while ( i < end && isHexadecimalDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == groupStart || i - groupStart > 4 ) {
+				return -1;
+			}
+			groupCount++;
+			if ( i == end ) {
+				return groupCount;
+			}
+			if ( value.charAt( i ) != ':' ) {
+				return -1;
+			}
+			i++;
+		}
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, int end, String prefix) {
+		if ( end - start < prefix.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < prefix.length(); i++ ) {
+			if ( toAsciiLowerCase( value.charAt( start + i ) ) != toAsciiLowerCase( prefix.charAt( i ) ) ) {
+				return false;
+			}
+		}
 		return true;
 	}
 
+	private static int indexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOf(CharSequence value, char c1, char c2, int start, int end) {
+		for ( int i = start; i < end - 1; i++ ) {
+			if ( value.charAt( i ) == c1 && value.charAt( i + 1 ) == c2 ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = end - 1; i >= start; i-- ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static char toAsciiLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) ( c + ( 'a' - 'A' ) ) : c;
+	}
+
+	private static boolean isAsciiLetterOrDigit(int c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || isDigit( c );
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexadecimalDigit(int c) {
+		return isDigit( c ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
 }
@@ -6,30 +6,23 @@
  */
 package org.hibernate.validator.internal.util;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
 import java.lang.annotation.ElementType;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.EnumSet;
 
-import org.hibernate.validator.internal.IgnoreForbiddenApisErrors;
 import org.hibernate.validator.internal.properties.Callable;
 import org.hibernate.validator.internal.properties.Signature;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
-import org.hibernate.validator.internal.util.privilegedactions.GetResolvedMemberMethods;
-
-import com.fasterxml.classmate.Filter;
-import com.fasterxml.classmate.MemberResolver;
-import com.fasterxml.classmate.ResolvedType;
-import com.fasterxml.classmate.ResolvedTypeWithMembers;
+
 import com.fasterxml.classmate.TypeResolver;
-import com.fasterxml.classmate.members.RawMethod;
-import com.fasterxml.classmate.members.ResolvedMethod;
 
 /**
  * Provides shared functionality dealing with executables.
@@ -40,11 +33,29 @@
  */
 public final class ExecutableHelper {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
 	private final TypeResolver typeResolver;
 
+	/**
+	 * The override indexes of the hierarchies for which overriding methods have been looked up, keyed by the type at
+	 * the bottom of the hierarchy. The indexes are only needed while building the metadata, so they are softly
+	 * referenced.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, MethodOverrideIndex> overrideIndexes;
+
 	public ExecutableHelper(TypeResolutionHelper typeResolutionHelper) {
 		this.typeResolver = typeResolutionHelper.getTypeResolver();
+		this.overrideIndexes = new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				WEAK,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
 	}
 
 	public boolean overrides(Callable subTypeMethod, Callable superTypeMethod) {
@@ -232,81 +243,22 @@ private boolean instanceMethodParametersResolveToSameTypes(Class<?> mainSubType,
 			return true;
 		}
 
-		ResolvedType resolvedSubType = typeResolver.resolve( mainSubType );
-
-		MemberResolver memberResolver = new MemberResolver( typeResolver );
-		memberResolver.setMethodFilter( new SimpleMethodFilter( left, right ) );
-		ResolvedTypeWithMembers typeWithMembers = memberResolver.resolve(
-				resolvedSubType,
-				null,
-				null
-		);
-
-		// ClassMate itself doesn't require any special permissions, but it invokes reflection APIs which do.
-		// Wrapping the call into a privileged action to avoid that all calling code bases need to have the required
-		// permission
-		ResolvedMethod[] resolvedMethods = run( GetResolvedMemberMethods.action( typeWithMembers ) );
-
-		// The ClassMate doc says that overridden methods are flattened to one
-		// resolved method. But that is the case only for methods without any
-		// generic parameters.
-		if ( resolvedMethods.length == 1 ) {
+		// Methods with the same raw parameter types are flattened to one resolved method by ClassMate, so they
+		// obviously resolve to the same types. Only methods with generic parameters require the resolution of the
+		// hierarchy.
+		if ( Arrays.equals( left.getParameterTypes(), right.getParameterTypes() ) ) {
 			return true;
 		}
 
-		// For methods with generic parameters I have to compare the argument
-		// types (which are resolved) of the two filtered member methods.
-		try {
-			for ( int i = 0; i < resolvedMethods[0].getArgumentCount(); i++ ) {
-				if ( !resolvedMethods[0].getArgumentType( i )
-						.equals( resolvedMethods[1].getArgumentType( i ) ) ) {
-					return false;
-				}
+		MethodOverrideIndex overrideIndex = overrideIndexes.get( mainSubType );
+		if ( overrideIndex == null ) {
+			overrideIndex = new MethodOverrideIndex( typeResolver, mainSubType );
+			MethodOverrideIndex previousOverrideIndex = overrideIndexes.putIfAbsent( mainSubType, overrideIndex );
+			if ( previousOverrideIndex != null ) {
+				overrideIndex = previousOverrideIndex;
 			}
 		}
-		// Putting this in as a safe guard for HV-861. In case the issue occurs again we will have some
-		// better information
-		catch (ArrayIndexOutOfBoundsException e) {
-			LOG.debug(
-					"Error in ExecutableHelper#instanceMethodParametersResolveToSameTypes comparing "
-							+ left
-							+ " with "
-							+ right
-			);
-		}
 
-		return true;
-	}
-
-	/**
-	 * Runs the given privileged action, using a privileged block if required.
-	 * <p>
-	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
-	 * privileged actions within HV's protection domain.
-	 */
-	@IgnoreForbiddenApisErrors(reason = "SecurityManager is deprecated in JDK17")
-	private <T> T run(PrivilegedAction<T> action) {
-		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
-	}
-
-	/**
-	 * A filter implementation filtering methods matching given methods.
-	 *
-	 * @author Gunnar Morling
-	 */
-	private static class SimpleMethodFilter implements Filter<RawMethod> {
-		private final Method method1;
-		private final Method method2;
-
-		private SimpleMethodFilter(Method method1, Method method2) {
-			this.method1 = method1;
-			this.method2 = method2;
-		}
-
-		@Override
-		public boolean include(RawMethod element) {
-			return element.getRawMember().equals( method1 ) || element.getRawMember()
-					.equals( method2 );
-		}
+		return overrideIndex.parametersResolveToSameTypes( left, right );
 	}
 }
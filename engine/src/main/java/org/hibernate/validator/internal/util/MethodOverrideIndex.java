@@ -0,0 +1,115 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.validator.internal.IgnoreForbiddenApisErrors;
+import org.hibernate.validator.internal.util.privilegedactions.GetRawMemberMethods;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeBindings;
+import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.classmate.members.RawMethod;
+
+/**
+ * Index of the instance methods of a type hierarchy, with their parameter types resolved in the context of the type
+ * at the bottom of the hierarchy.
+ * <p>
+ * Checking whether two methods of a hierarchy override each other requires resolving their generic parameter types.
+ * The index resolves the hierarchy once so that it can be shared by all the comparisons involving this hierarchy,
+ * instead of resolving it again for each pair of methods.
+ * <p>
+ * The hierarchy is traversed the same way ClassMate's {@code MemberResolver} does it: each type is considered once and
+ * {@code java.lang.Object} is ignored. Bridge and synthetic methods are not indexed.
+ */
+final class MethodOverrideIndex {
+
+	private final Map<Method, ResolvedType[]> resolvedParameterTypes;
+
+	MethodOverrideIndex(TypeResolver typeResolver, Class<?> mainSubType) {
+		Map<Method, ResolvedType[]> tmpResolvedParameterTypes = newHashMap();
+		collectMethods( typeResolver, typeResolver.resolve( mainSubType ), newHashSet(), tmpResolvedParameterTypes );
+		this.resolvedParameterTypes = tmpResolvedParameterTypes;
+	}
+
+	/**
+	 * Whether the parameters of the two given methods resolve to the same types in the context of the indexed
+	 * hierarchy.
+	 * <p>
+	 * Methods which are not part of the indexed hierarchy can't be compared and are considered as resolving to the
+	 * same types.
+	 *
+	 * @param left one of the methods to compare
+	 * @param right another of the methods to compare
+	 *
+	 * @return {@code true} if the parameters of the two methods resolve to the same types, {@code false} otherwise
+	 */
+	boolean parametersResolveToSameTypes(Method left, Method right) {
+		ResolvedType[] leftParameterTypes = resolvedParameterTypes.get( left );
+		ResolvedType[] rightParameterTypes = resolvedParameterTypes.get( right );
+
+		if ( leftParameterTypes == null || rightParameterTypes == null ) {
+			return true;
+		}
+
+		return Arrays.equals( leftParameterTypes, rightParameterTypes );
+	}
+
+	private static void collectMethods(TypeResolver typeResolver, ResolvedType type, Set<Class<?>> seenTypes,
+			Map<Method, ResolvedType[]> resolvedParameterTypes) {
+		if ( type == null || type.getErasedType() == Object.class || !seenTypes.add( type.getErasedType() ) ) {
+			return;
+		}
+
+		TypeBindings typeBindings = type.getTypeBindings();
+
+		// ClassMate itself doesn't require any special permissions, but it invokes reflection APIs which do.
+		// Wrapping the call into a privileged action to avoid that all calling code bases need to have the required
+		// permission
+		List<RawMethod> memberMethods = run( GetRawMemberMethods.action( type ) );
+		for ( RawMethod memberMethod : memberMethods ) {
+			Method method = memberMethod.getRawMember();
+			if ( method.isBridge() || method.isSynthetic() ) {
+				continue;
+			}
+
+			Type[] genericParameterTypes = method.getGenericParameterTypes();
+			ResolvedType[] parameterTypes = new ResolvedType[genericParameterTypes.length];
+			for ( int i = 0; i < genericParameterTypes.length; i++ ) {
+				parameterTypes[i] = typeResolver.resolve( typeBindings, genericParameterTypes[i] );
+			}
+			resolvedParameterTypes.put( method, parameterTypes );
+		}
+
+		for ( ResolvedType implementedInterface : type.getImplementedInterfaces() ) {
+			collectMethods( typeResolver, implementedInterface, seenTypes, resolvedParameterTypes );
+		}
+		collectMethods( typeResolver, type.getParentClass(), seenTypes, resolvedParameterTypes );
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	@IgnoreForbiddenApisErrors(reason = "SecurityManager is deprecated in JDK17")
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
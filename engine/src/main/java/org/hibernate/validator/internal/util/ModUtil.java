@@ -6,10 +6,11 @@
  */
 package org.hibernate.validator.internal.util;
 
-import java.util.List;
-
 /**
  * Helper class for modulo 10/11.
+ * <p>
+ * The digits over which the checksums are calculated are the ASCII digits of a character sequence between a start
+ * index (inclusive) and an end index (exclusive), the other characters being ignored.
  *
  * @author Hardy Ferentschik
  */
@@ -20,15 +21,20 @@ private ModUtil() {
 	/**
 	 * Calculate Luhn Modulo 10 checksum (Luhn algorithm implementation)
 	 *
-	 * @param digits The digits over which to calculate the checksum
+	 * @param digits The character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
 	 *
 	 * @return the result of the mod10 checksum calculation
 	 */
-	public static int calculateLuhnMod10Check(final List<Integer> digits) {
+	public static int calculateLuhnMod10Check(final CharSequence digits, int start, int end) {
 		int sum = 0;
 		boolean even = true;
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			int digit = digits.get( index );
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digitAt( digits, index );
+			if ( digit < 0 ) {
+				continue;
+			}
 
 			if ( even ) {
 				digit <<= 1;
@@ -45,17 +51,22 @@ public static int calculateLuhnMod10Check(final List<Integer> digits) {
 	/**
 	 * Calculate Generic Modulo 10 checksum
 	 *
-	 * @param digits The digits over which to calculate the checksum
+	 * @param digits The character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
 	 * @param multiplier Multiplier used for the odd digits in the algorithm
 	 * @param weight Multiplier used for the even digits in the algorithm
 	 *
 	 * @return the result of the mod10 checksum calculation
 	 */
-	public static int calculateMod10Check(final List<Integer> digits, int multiplier, int weight) {
+	public static int calculateMod10Check(final CharSequence digits, int start, int end, int multiplier, int weight) {
 		int sum = 0;
 		boolean even = true;
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			int digit = digits.get( index );
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digitAt( digits, index );
+			if ( digit < 0 ) {
+				continue;
+			}
 
 			if ( even ) {
 				digit *= multiplier;
@@ -73,17 +84,24 @@ public static int calculateMod10Check(final List<Integer> digits, int multiplier
 	/**
 	 * Calculate Modulo 11 checksum
 	 *
-	 * @param digits the digits for which to calculate the checksum
+	 * @param digits the character sequence containing the digits for which to calculate the checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
 	 * @param threshold the threshold for the Mod11 algorithm multiplier growth
 	 *
 	 * @return the result of the mod11 checksum calculation
 	 */
-	public static int calculateMod11Check(final List<Integer> digits, final int threshold) {
+	public static int calculateMod11Check(final CharSequence digits, int start, int end, final int threshold) {
 		int sum = 0;
 		int multiplier = 2;
 
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			sum += digits.get( index ) * multiplier++;
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digitAt( digits, index );
+			if ( digit < 0 ) {
+				continue;
+			}
+
+			sum += digit * multiplier++;
 			if ( multiplier > threshold ) {
 				multiplier = 2;
 			}
@@ -94,31 +112,46 @@ public static int calculateMod11Check(final List<Integer> digits, final int thre
 	/**
 	 * Calculate Modulo 11 checksum assuming that the threshold is Integer.MAX_VALUE
 	 *
-	 * @param digits the digits for which to calculate the checksum
+	 * @param digits the character sequence containing the digits for which to calculate the checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
 	 *
 	 * @return the result of the mod11 checksum calculation
 	 */
-	public static int calculateMod11Check(final List<Integer> digits) {
-		return calculateMod11Check( digits, Integer.MAX_VALUE );
+	public static int calculateMod11Check(final CharSequence digits, int start, int end) {
+		return calculateMod11Check( digits, start, end, Integer.MAX_VALUE );
 	}
 
 	/**
 	 * Calculate Modulo {@code moduloParam} checksum with given weights. If no weights are provided then weights similar to Modulo 11 checksum will be used.
 	 * In case when there will be not enough weights provided the ones provided will be used in a looped manner.
 	 *
-	 * @param digits the digits for which to calculate the checksum
+	 * @param digits the character sequence containing the digits for which to calculate the checksum
+	 * @param start the index of the first character of the digits
+	 * @param end the index following the last character of the digits
+	 * @param leftToRight whether the digits are processed from the left to the right instead of from the right to the
+	 * left, the weights being applied in the processing order
 	 * @param moduloParam modulo parameter to be used
 	 * @param weights weights for the sum.
 	 *
 	 * @return the result of mod checksum calculation
 	 */
-	public static int calculateModXCheckWithWeights(final List<Integer> digits, int moduloParam, final int threshold, int... weights) {
+	public static int calculateModXCheckWithWeights(final CharSequence digits, int start, int end, boolean leftToRight, int moduloParam,
+			final int threshold, int... weights) {
 		int sum = 0;
 		int multiplier = 1;
+		// the weight of a digit depends on the number of digits processed after it
+		int remainingDigits = weights.length != 0 ? countDigits( digits, start, end ) : 0;
+
+		for ( int i = 0; i < end - start; i++ ) {
+			int digit = digitAt( digits, leftToRight ? start + i : end - 1 - i );
+			if ( digit < 0 ) {
+				continue;
+			}
 
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
 			if ( weights.length != 0 ) {
-				multiplier = weights[weights.length - index % weights.length - 1];
+				remainingDigits--;
+				multiplier = weights[weights.length - remainingDigits % weights.length - 1];
 			}
 			else {
 				multiplier++;
@@ -126,8 +159,44 @@ public static int calculateModXCheckWithWeights(final List<Integer> digits, int
 					multiplier = 2;
 				}
 			}
-			sum += digits.get( index ) * multiplier;
+			sum += digit * multiplier;
 		}
 		return moduloParam - ( sum % moduloParam );
 	}
+
+	/**
+	 * @return the number of ASCII digits of the character sequence between the given indexes
+	 */
+	public static int countDigits(final CharSequence value, int start, int end) {
+		int count = 0;
+		for ( int index = start; index < end; index++ ) {
+			if ( digitAt( value, index ) >= 0 ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return whether the character sequence between the given indexes is not empty and made of ASCII digits only
+	 */
+	public static boolean isDigitsOnly(final CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return false;
+		}
+		for ( int index = start; index < end; index++ ) {
+			if ( digitAt( value, index ) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the value of the ASCII digit at the given index or -1 if the character is not an ASCII digit
+	 */
+	public static int digitAt(final CharSequence value, int index) {
+		char c = value.charAt( index );
+		return c >= '0' && c <= '9' ? c - '0' : -1;
+	}
 }
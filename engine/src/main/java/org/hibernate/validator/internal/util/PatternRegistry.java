@@ -0,0 +1,232 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.constraints.RegexpMatching;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+
+/**
+ * Canonicalizes the compiled regular expressions by regular expression, flags and matching engine so that a regular
+ * expression used by several constraints is compiled once.
+ * <p>
+ * A registry is scoped to a validator factory, which defines whether the regular expressions are matched in linear time
+ * by default.
+ */
+public final class PatternRegistry {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final ConcurrentMap<PatternKey, RegisteredPattern> patterns = new ConcurrentHashMap<>();
+
+	private final boolean linearTimeMatchingByDefault;
+
+	public PatternRegistry() {
+		this( false );
+	}
+
+	public PatternRegistry(boolean linearTimeMatchingByDefault) {
+		this.linearTimeMatchingByDefault = linearTimeMatchingByDefault;
+	}
+
+	/**
+	 * @return whether the regular expressions of a constraint with the given payload are matched in linear time
+	 */
+	public boolean isLinearTimeMatching(Class<? extends Payload>[] payload) {
+		return isLinearTimeMatching( payload, linearTimeMatchingByDefault );
+	}
+
+	/**
+	 * @return the compiled regular expression, shared with the other users of the same regular expression and flags,
+	 * matched with the default engine of the registry
+	 *
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 * @throws ConstraintDeclarationException if the regular expression is not supported by the linear time engine
+	 */
+	public RegisteredPattern getPattern(String regexp, int flags) {
+		return getPattern( regexp, flags, linearTimeMatchingByDefault );
+	}
+
+	/**
+	 * @return the compiled regular expression, shared with the other users of the same regular expression, flags and
+	 * engine
+	 *
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 * @throws ConstraintDeclarationException if the regular expression is not supported by the linear time engine
+	 */
+	public RegisteredPattern getPattern(String regexp, int flags, boolean linearTimeMatching) {
+		PatternKey key = new PatternKey( regexp, flags, linearTimeMatching );
+		RegisteredPattern pattern = patterns.get( key );
+		if ( pattern == null ) {
+			pattern = compile( regexp, flags, linearTimeMatching );
+			RegisteredPattern cachedPattern = patterns.putIfAbsent( key, pattern );
+			if ( cachedPattern != null ) {
+				pattern = cachedPattern;
+			}
+		}
+		return pattern;
+	}
+
+	public int size() {
+		return patterns.size();
+	}
+
+	/**
+	 * Compiles a regular expression which is not shared.
+	 *
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 * @throws ConstraintDeclarationException if the regular expression is not supported by the linear time engine
+	 */
+	public static RegisteredPattern compile(String regexp, int flags, boolean linearTimeMatching) {
+		Pattern pattern;
+		try {
+			// the regular expression is also compiled for the linear time engine: it validates its syntax
+			pattern = Pattern.compile( regexp, flags );
+		}
+		catch (PatternSyntaxException e) {
+			throw LOG.getInvalidRegularExpressionException( e );
+		}
+		if ( linearTimeMatching ) {
+			return new RegisteredPattern( regexp, flags, null, LinearTimePattern.compile( regexp, flags ) );
+		}
+		return new RegisteredPattern( regexp, flags, pattern, null );
+	}
+
+	/**
+	 * @param payload the payload of a constraint
+	 * @param linearTimeMatchingByDefault whether the regular expressions are matched in linear time by default
+	 *
+	 * @return whether the regular expressions of a constraint with the given payload are matched in linear time
+	 */
+	public static boolean isLinearTimeMatching(Class<? extends Payload>[] payload, boolean linearTimeMatchingByDefault) {
+		for ( Class<? extends Payload> payloadClass : payload ) {
+			if ( RegexpMatching.LinearTime.class.isAssignableFrom( payloadClass ) ) {
+				return true;
+			}
+			if ( RegexpMatching.Backtracking.class.isAssignableFrom( payloadClass ) ) {
+				return false;
+			}
+		}
+		return linearTimeMatchingByDefault;
+	}
+
+	/**
+	 * A compiled regular expression, either matched in linear time or by a {@link Matcher} reused per thread to match the
+	 * strings.
+	 */
+	public static final class RegisteredPattern {
+
+		private final String regexp;
+
+		private final int flags;
+
+		private final Pattern pattern;
+
+		private final LinearTimePattern linearTimePattern;
+
+		/**
+		 * The matcher available for the current thread. Only JDK types are stored so that the thread local does not
+		 * retain the class loader of Hibernate Validator.
+		 */
+		private final ThreadLocal<Matcher> matchers = new ThreadLocal<>();
+
+		private RegisteredPattern(String regexp, int flags, Pattern pattern, LinearTimePattern linearTimePattern) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.pattern = pattern;
+			this.linearTimePattern = linearTimePattern;
+		}
+
+		/**
+		 * @return whether this pattern has been compiled from the given regular expression and flags, whatever the
+		 * engine
+		 */
+		public boolean isCompiledFrom(String regexp, int flags) {
+			return this.flags == flags && this.regexp.equals( regexp );
+		}
+
+		public boolean isLinearTimeMatching() {
+			return linearTimePattern != null;
+		}
+
+		/**
+		 * @return whether the entire character sequence matches the regular expression
+		 */
+		public boolean matches(CharSequence value) {
+			if ( linearTimePattern != null ) {
+				return linearTimePattern.matches( value );
+			}
+
+			// the matcher is only reused for strings: the other character sequences might call user code while
+			// matching, which could reenter this method and use the same matcher
+			if ( !( value instanceof String ) ) {
+				return pattern.matcher( value ).matches();
+			}
+
+			Matcher matcher = matchers.get();
+			if ( matcher == null ) {
+				matcher = pattern.matcher( value );
+				matchers.set( matcher );
+			}
+			else {
+				matcher.reset( value );
+			}
+
+			boolean matches = matcher.matches();
+			// the matcher should not retain the validated value
+			matcher.reset( "" );
+			return matches;
+		}
+	}
+
+	private static final class PatternKey {
+
+		private final String regexp;
+
+		private final int flags;
+
+		private final boolean linearTimeMatching;
+
+		private final int hashCode;
+
+		private PatternKey(String regexp, int flags, boolean linearTimeMatching) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.linearTimeMatching = linearTimeMatching;
+			this.hashCode = 31 * ( 31 * regexp.hashCode() + flags ) + Boolean.hashCode( linearTimeMatching );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			PatternKey other = (PatternKey) o;
+			return flags == other.flags && linearTimeMatching == other.linearTimeMatching && regexp.equals( other.regexp );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
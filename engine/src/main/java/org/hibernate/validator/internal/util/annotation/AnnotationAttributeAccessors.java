@@ -0,0 +1,103 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.annotation;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The accessors of the attributes of an annotation type, in the form of {@link MethodHandle}s.
+ * <p>
+ * The accessors are built once per annotation type and are then reused to read the attributes of all the annotations
+ * of this type, instead of looking up and invoking the attribute methods reflectively each time.
+ * <p>
+ * The accessors are stored in a {@link ClassValue} so that they don't prevent the annotation types from being unloaded.
+ * <p>
+ * <b>NOTE:</b> Building the accessors makes the attribute methods accessible so {@link #of(Class)} needs to be called
+ * from a privileged block.
+ */
+public final class AnnotationAttributeAccessors {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private static final ClassValue<AnnotationAttributeAccessors> ACCESSORS = new ClassValue<AnnotationAttributeAccessors>() {
+
+		@Override
+		protected AnnotationAttributeAccessors computeValue(Class<?> type) {
+			return new AnnotationAttributeAccessors( type );
+		}
+	};
+
+	private final String[] names;
+
+	private final MethodHandle[] accessors;
+
+	private AnnotationAttributeAccessors(Class<?> annotationType) {
+		List<String> tmpNames = new ArrayList<>();
+		List<MethodHandle> tmpAccessors = new ArrayList<>();
+
+		for ( Method m : annotationType.getDeclaredMethods() ) {
+			// HV-1184 Exclude synthetic methods potentially introduced by jacoco
+			if ( m.isSynthetic() ) {
+				continue;
+			}
+
+			m.setAccessible( true );
+
+			try {
+				tmpAccessors.add( MethodHandles.lookup().unreflect( m ).asType( ACCESSOR_TYPE ) );
+				tmpNames.add( m.getName() );
+			}
+			catch (IllegalAccessException e) {
+				throw LOG.getUnableToGetAnnotationAttributeException( annotationType.asSubclass( Annotation.class ), m.getName(), e );
+			}
+		}
+
+		this.names = tmpNames.toArray( new String[0] );
+		this.accessors = tmpAccessors.toArray( new MethodHandle[0] );
+	}
+
+	public static AnnotationAttributeAccessors of(Class<? extends Annotation> annotationType) {
+		return ACCESSORS.get( annotationType );
+	}
+
+	public Map<String, Object> getAttributes(Annotation annotation) {
+		Map<String, Object> attributes = newHashMap( names.length );
+
+		for ( int i = 0; i < names.length; i++ ) {
+			attributes.put( names[i], getAttribute( annotation, i ) );
+		}
+
+		return CollectionHelper.toImmutableMap( attributes );
+	}
+
+	private Object getAttribute(Annotation annotation, int index) {
+		try {
+			return accessors[index].invokeExact( (Object) annotation );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw LOG.getUnableToGetAnnotationAttributeException( annotation.getClass(), names[index], (Exception) e );
+		}
+	}
+}
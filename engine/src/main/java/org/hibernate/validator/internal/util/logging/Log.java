@@ -64,6 +64,7 @@
 import org.hibernate.validator.internal.util.logging.formatter.TypeFormatter;
 import org.hibernate.validator.internal.xml.mapping.ContainerElementTypePath;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -933,4 +934,23 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 265, value = "Inconsistent show validation value in trace logs configuration. It is enabled via programmatic API, but explicitly disabled via properties.")
 	ValidationException getInconsistentShowValidatedValuesInTraceLogsViolationConfigurationException();
+
+	@Message(id = 266, value = "Unable to find a bean metadata cache policy for value %s.")
+	ValidationException invalidBeanMetaDataCachePolicyValue(String beanMetaDataCachePolicyName, @Cause IllegalArgumentException e);
+
+	@Message(id = 267, value = "Invalid bean metadata cache maximum size %s. A strictly positive integer is expected.")
+	ValidationException getInvalidBeanMetaDataCacheMaxSizeException(String beanMetaDataCacheMaxSize);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 268, value = "Bean metadata cache policy set to %1$s with a maximum size of %2$d.")
+	void logBeanMetaDataCachePolicy(BeanMetaDataCachePolicy beanMetaDataCachePolicy, int beanMetaDataCacheMaxSize);
+
+	@Message(id = 269, value = "Invalid message interpolation cache maximum size %s. A strictly positive integer is expected.")
+	ValidationException getInvalidMessageInterpolationCacheMaxSizeException(String messageInterpolationCacheMaxSize);
+
+	@Message(id = 270, value = "The regular expression %1$s is not supported by the linear time matching engine: %2$s (at index %3$d).")
+	ConstraintDeclarationException getUnsupportedRegexpForLinearTimeMatchingException(String regexp, String reason, int index);
+
+	@Message(id = 271, value = "Invalid script engine pool maximum size %s. A strictly positive integer is expected.")
+	ValidationException getInvalidScriptEnginePoolMaxSizeException(int scriptEnginePoolMaxSize);
 }
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.privilegedactions;
+
+import java.security.PrivilegedAction;
+import java.util.List;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.members.RawMethod;
+
+/**
+ * Returns the member methods declared by a given resolved type, without resolving their type parameters.
+ *
+ * @author Gunnar Morling
+ */
+public final class GetRawMemberMethods implements PrivilegedAction<List<RawMethod>> {
+
+	private final ResolvedType type;
+
+	public static GetRawMemberMethods action(ResolvedType type) {
+		return new GetRawMemberMethods( type );
+	}
+
+	private GetRawMemberMethods(ResolvedType type) {
+		this.type = type;
+	}
+
+	@Override
+	public List<RawMethod> run() {
+		return type.getMemberMethods();
+	}
+}
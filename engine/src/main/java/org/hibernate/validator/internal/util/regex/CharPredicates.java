@@ -0,0 +1,297 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * The predicates on code points used by the linear time patterns, following the semantics of {@link Pattern}.
+ */
+final class CharPredicates {
+
+	private static final Map<String, Integer> CATEGORIES = new HashMap<>();
+
+	static {
+		CATEGORIES.put( "Cn", 1 << Character.UNASSIGNED );
+		CATEGORIES.put( "Lu", 1 << Character.UPPERCASE_LETTER );
+		CATEGORIES.put( "Ll", 1 << Character.LOWERCASE_LETTER );
+		CATEGORIES.put( "Lt", 1 << Character.TITLECASE_LETTER );
+		CATEGORIES.put( "Lm", 1 << Character.MODIFIER_LETTER );
+		CATEGORIES.put( "Lo", 1 << Character.OTHER_LETTER );
+		CATEGORIES.put( "Mn", 1 << Character.NON_SPACING_MARK );
+		CATEGORIES.put( "Me", 1 << Character.ENCLOSING_MARK );
+		CATEGORIES.put( "Mc", 1 << Character.COMBINING_SPACING_MARK );
+		CATEGORIES.put( "Nd", 1 << Character.DECIMAL_DIGIT_NUMBER );
+		CATEGORIES.put( "Nl", 1 << Character.LETTER_NUMBER );
+		CATEGORIES.put( "No", 1 << Character.OTHER_NUMBER );
+		CATEGORIES.put( "Zs", 1 << Character.SPACE_SEPARATOR );
+		CATEGORIES.put( "Zl", 1 << Character.LINE_SEPARATOR );
+		CATEGORIES.put( "Zp", 1 << Character.PARAGRAPH_SEPARATOR );
+		CATEGORIES.put( "Cc", 1 << Character.CONTROL );
+		CATEGORIES.put( "Cf", 1 << Character.FORMAT );
+		CATEGORIES.put( "Co", 1 << Character.PRIVATE_USE );
+		CATEGORIES.put( "Cs", 1 << Character.SURROGATE );
+		CATEGORIES.put( "Pd", 1 << Character.DASH_PUNCTUATION );
+		CATEGORIES.put( "Ps", 1 << Character.START_PUNCTUATION );
+		CATEGORIES.put( "Pe", 1 << Character.END_PUNCTUATION );
+		CATEGORIES.put( "Pc", 1 << Character.CONNECTOR_PUNCTUATION );
+		CATEGORIES.put( "Po", 1 << Character.OTHER_PUNCTUATION );
+		CATEGORIES.put( "Sm", 1 << Character.MATH_SYMBOL );
+		CATEGORIES.put( "Sc", 1 << Character.CURRENCY_SYMBOL );
+		CATEGORIES.put( "Sk", 1 << Character.MODIFIER_SYMBOL );
+		CATEGORIES.put( "So", 1 << Character.OTHER_SYMBOL );
+		CATEGORIES.put( "Pi", 1 << Character.INITIAL_QUOTE_PUNCTUATION );
+		CATEGORIES.put( "Pf", 1 << Character.FINAL_QUOTE_PUNCTUATION );
+		CATEGORIES.put( "L", CATEGORIES.get( "Lu" ) | CATEGORIES.get( "Ll" ) | CATEGORIES.get( "Lt" ) | CATEGORIES.get( "Lm" )
+				| CATEGORIES.get( "Lo" ) );
+		CATEGORIES.put( "M", CATEGORIES.get( "Mn" ) | CATEGORIES.get( "Me" ) | CATEGORIES.get( "Mc" ) );
+		CATEGORIES.put( "N", CATEGORIES.get( "Nd" ) | CATEGORIES.get( "Nl" ) | CATEGORIES.get( "No" ) );
+		CATEGORIES.put( "Z", CATEGORIES.get( "Zs" ) | CATEGORIES.get( "Zl" ) | CATEGORIES.get( "Zp" ) );
+		CATEGORIES.put( "C", CATEGORIES.get( "Cc" ) | CATEGORIES.get( "Cf" ) | CATEGORIES.get( "Co" ) | CATEGORIES.get( "Cs" )
+				| CATEGORIES.get( "Cn" ) );
+		CATEGORIES.put( "P", CATEGORIES.get( "Pd" ) | CATEGORIES.get( "Ps" ) | CATEGORIES.get( "Pe" ) | CATEGORIES.get( "Pc" )
+				| CATEGORIES.get( "Po" ) | CATEGORIES.get( "Pi" ) | CATEGORIES.get( "Pf" ) );
+		CATEGORIES.put( "S", CATEGORIES.get( "Sm" ) | CATEGORIES.get( "Sc" ) | CATEGORIES.get( "Sk" ) | CATEGORIES.get( "So" ) );
+		CATEGORIES.put( "LC", CATEGORIES.get( "Lu" ) | CATEGORIES.get( "Ll" ) | CATEGORIES.get( "Lt" ) );
+		CATEGORIES.put( "LD", CATEGORIES.get( "L" ) | CATEGORIES.get( "Nd" ) );
+	}
+
+	private CharPredicates() {
+	}
+
+	static IntPredicate literal(int c, int flags) {
+		if ( has( flags, Pattern.CASE_INSENSITIVE ) ) {
+			if ( has( flags, Pattern.UNICODE_CASE ) ) {
+				int upper = Character.toUpperCase( c );
+				int lower = Character.toLowerCase( upper );
+				if ( upper != lower ) {
+					return ch -> ch == lower || Character.toLowerCase( Character.toUpperCase( ch ) ) == lower;
+				}
+			}
+			else if ( isAsciiLetter( c ) ) {
+				int lower = asciiToLower( c );
+				int upper = asciiToUpper( c );
+				return ch -> ch == lower || ch == upper;
+			}
+		}
+		return ch -> ch == c;
+	}
+
+	static IntPredicate range(int lower, int upper, int flags) {
+		if ( has( flags, Pattern.CASE_INSENSITIVE ) ) {
+			if ( has( flags, Pattern.UNICODE_CASE ) ) {
+				return ch -> {
+					if ( inRange( lower, ch, upper ) ) {
+						return true;
+					}
+					int up = Character.toUpperCase( ch );
+					return inRange( lower, up, upper ) || inRange( lower, Character.toLowerCase( up ), upper );
+				};
+			}
+			return ch -> inRange( lower, ch, upper )
+					|| ch < 0x80 && ( inRange( lower, asciiToUpper( ch ), upper ) || inRange( lower, asciiToLower( ch ), upper ) );
+		}
+		return ch -> inRange( lower, ch, upper );
+	}
+
+	static IntPredicate dot(int flags) {
+		if ( has( flags, Pattern.DOTALL ) ) {
+			return ch -> true;
+		}
+		if ( has( flags, Pattern.UNIX_LINES ) ) {
+			return ch -> ch != '\n';
+		}
+		return ch -> !isLineTerminator( ch );
+	}
+
+	static IntPredicate digit() {
+		return ch -> ch >= '0' && ch <= '9';
+	}
+
+	static IntPredicate word() {
+		return ch -> ch < 0x80 && ( isAsciiLetter( ch ) || ( ch >= '0' && ch <= '9' ) || ch == '_' );
+	}
+
+	static IntPredicate space() {
+		return ch -> ch == ' ' || ( ch >= '\t' && ch <= '\r' );
+	}
+
+	static IntPredicate union(List<IntPredicate> predicates) {
+		if ( predicates.size() == 1 ) {
+			return predicates.get( 0 );
+		}
+		IntPredicate[] predicateArray = predicates.toArray( new IntPredicate[0] );
+		return ch -> {
+			for ( IntPredicate predicate : predicateArray ) {
+				if ( predicate.test( ch ) ) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	/**
+	 * @param name the name of the property, i.e. what is between the curly braces of {@code \p{...}}
+	 * @param caseInsensitive whether the pattern is case insensitive
+	 *
+	 * @return the predicate or {@code null} if the property is not supported
+	 */
+	static IntPredicate property(String name, boolean caseInsensitive) {
+		if ( caseInsensitive && isCaseSensitiveProperty( name ) ) {
+			// the case insensitive semantics of these properties are specific
+			return null;
+		}
+
+		if ( name.startsWith( "In" ) ) {
+			Character.UnicodeBlock block = forBlock( name.substring( 2 ) );
+			return block == null ? null : ch -> Character.UnicodeBlock.of( ch ) == block;
+		}
+		if ( name.startsWith( "Is" ) ) {
+			String isName = name.substring( 2 );
+			Integer category = CATEGORIES.get( isName );
+			if ( category != null ) {
+				return category( category );
+			}
+			IntPredicate binaryProperty = binaryProperty( isName );
+			if ( binaryProperty != null ) {
+				return binaryProperty;
+			}
+			Character.UnicodeScript script = forScript( isName );
+			return script == null ? null : ch -> Character.UnicodeScript.of( ch ) == script;
+		}
+
+		Integer category = CATEGORIES.get( name );
+		if ( category != null ) {
+			return category( category );
+		}
+		return posixProperty( name );
+	}
+
+	static boolean isLineTerminator(int ch) {
+		return ch == '\n' || ch == '\r' || ch == '\u0085' || ( ch | 1 ) == '\u2029';
+	}
+
+	private static IntPredicate category(int categoryMask) {
+		return ch -> ( categoryMask & ( 1 << Character.getType( ch ) ) ) != 0;
+	}
+
+	private static IntPredicate binaryProperty(String name) {
+		switch ( name.toUpperCase( Locale.ROOT ) ) {
+			case "ALPHABETIC":
+				return Character::isAlphabetic;
+			case "LETTER":
+				return Character::isLetter;
+			case "DIGIT":
+				return Character::isDigit;
+			default:
+				return null;
+		}
+	}
+
+	private static IntPredicate posixProperty(String name) {
+		switch ( name ) {
+			case "Lower":
+				return ch -> ch >= 'a' && ch <= 'z';
+			case "Upper":
+				return ch -> ch >= 'A' && ch <= 'Z';
+			case "ASCII":
+				return ch -> ch < 0x80;
+			case "Alpha":
+				return ch -> ch < 0x80 && isAsciiLetter( ch );
+			case "Digit":
+				return digit();
+			case "Alnum":
+				return ch -> ch < 0x80 && ( isAsciiLetter( ch ) || ( ch >= '0' && ch <= '9' ) );
+			case "Punct":
+				return CharPredicates::isAsciiPunctuation;
+			case "Graph":
+				return ch -> ch < 0x80 && ( isAsciiLetter( ch ) || ( ch >= '0' && ch <= '9' ) || isAsciiPunctuation( ch ) );
+			case "Print":
+				return ch -> ch >= 0x20 && ch <= 0x7E;
+			case "Blank":
+				return ch -> ch == ' ' || ch == '\t';
+			case "Cntrl":
+				return ch -> ch < 0x20 || ch == 0x7F;
+			case "XDigit":
+				return ch -> ( ch >= '0' && ch <= '9' ) || ( ch >= 'a' && ch <= 'f' ) || ( ch >= 'A' && ch <= 'F' );
+			case "Space":
+				return space();
+			case "L1":
+				return ch -> ch <= 0xFF;
+			case "all":
+				return ch -> true;
+			default:
+				return null;
+		}
+	}
+
+	private static boolean isCaseSensitiveProperty(String name) {
+		switch ( name ) {
+			case "Lu":
+			case "Ll":
+			case "Lt":
+			case "LC":
+			case "IsLu":
+			case "IsLl":
+			case "IsLt":
+			case "IsLC":
+			case "Lower":
+			case "Upper":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static Character.UnicodeBlock forBlock(String name) {
+		try {
+			return Character.UnicodeBlock.forName( name );
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static Character.UnicodeScript forScript(String name) {
+		try {
+			return Character.UnicodeScript.forName( name );
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static boolean isAsciiPunctuation(int ch) {
+		return ( ch >= 0x21 && ch <= 0x2F ) || ( ch >= 0x3A && ch <= 0x40 ) || ( ch >= 0x5B && ch <= 0x60 ) || ( ch >= 0x7B && ch <= 0x7E );
+	}
+
+	private static boolean isAsciiLetter(int ch) {
+		return ( ch >= 'a' && ch <= 'z' ) || ( ch >= 'A' && ch <= 'Z' );
+	}
+
+	private static int asciiToLower(int ch) {
+		return ch >= 'A' && ch <= 'Z' ? ch + ( 'a' - 'A' ) : ch;
+	}
+
+	private static int asciiToUpper(int ch) {
+		return ch >= 'a' && ch <= 'z' ? ch - ( 'a' - 'A' ) : ch;
+	}
+
+	private static boolean inRange(int lower, int ch, int upper) {
+		return lower <= ch && ch <= upper;
+	}
+
+	private static boolean has(int flags, int flag) {
+		return ( flags & flag ) != 0;
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+import jakarta.validation.ConstraintDeclarationException;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.Alternation;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.Assertion;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.CharacterMatch;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.Concatenation;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.Node;
+import org.hibernate.validator.internal.util.regex.LinearTimePatternParser.Repetition;
+
+/**
+ * A regular expression matched in a time linear in the length of the input, whatever the regular expression and the
+ * input are.
+ * <p>
+ * The regular expression is compiled to a program of a non-deterministic automaton, which is simulated by following all
+ * its possible states at once (Thompson's construction): each character of the input is examined once. Contrary to
+ * {@link Pattern}, a regular expression prone to catastrophic backtracking cannot lead to a denial of service.
+ * <p>
+ * The common subset of the {@link Pattern} syntax is supported: literals, character classes, predefined character
+ * classes and Unicode properties, groups, alternations, greedy and reluctant quantifiers and the line and input
+ * anchors. The constructs which cannot be matched by an automaton (back references, lookarounds), and a few others
+ * (possessive quantifiers, atomic groups, inline flags, word boundaries, nested character classes) are rejected when the
+ * regular expression is compiled. The {@link Pattern#UNIX_LINES}, {@link Pattern#CASE_INSENSITIVE},
+ * {@link Pattern#MULTILINE}, {@link Pattern#DOTALL} and {@link Pattern#UNICODE_CASE} flags are supported.
+ * <p>
+ * The results are the ones of {@link Pattern}, except for the groups repeated a bounded number of times whose
+ * iterations may match an empty string: {@link Pattern} does not try the other iterations after an empty one, e.g.
+ * {@code (a|^){2}} does not match {@code a} with {@link Pattern} while it does with this engine.
+ */
+public final class LinearTimePattern {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int SUPPORTED_FLAGS = Pattern.UNIX_LINES | Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL
+			| Pattern.UNICODE_CASE;
+
+	/**
+	 * The maximum number of instructions of a program, bounding the cost of the matching per character.
+	 */
+	static final int MAX_INSTRUCTIONS = 10_000;
+
+	private static final byte CHARACTER = 0;
+	private static final byte SPLIT = 1;
+	private static final byte ASSERTION = 2;
+	private static final byte MATCH = 3;
+
+	private final byte[] opcodes;
+
+	/**
+	 * The next instruction, for all the instructions but {@link #MATCH}.
+	 */
+	private final int[] next;
+
+	/**
+	 * The alternative instruction of a {@link #SPLIT} or the kind of an {@link #ASSERTION}.
+	 */
+	private final int[] arguments;
+
+	private final IntPredicate[] predicates;
+
+	private final int start;
+
+	private final boolean unixLines;
+
+	private LinearTimePattern(ProgramBuilder builder, int start, int flags) {
+		this.opcodes = Arrays.copyOf( builder.opcodes, builder.size );
+		this.next = Arrays.copyOf( builder.next, builder.size );
+		this.arguments = Arrays.copyOf( builder.arguments, builder.size );
+		this.predicates = Arrays.copyOf( builder.predicates, builder.size );
+		this.start = start;
+		this.unixLines = ( flags & Pattern.UNIX_LINES ) != 0;
+	}
+
+	/**
+	 * Compiles a regular expression valid for {@link Pattern}.
+	 *
+	 * @throws ConstraintDeclarationException if the regular expression or the flags are not supported
+	 */
+	public static LinearTimePattern compile(String regexp, int flags) {
+		if ( ( flags & ~SUPPORTED_FLAGS ) != 0 ) {
+			throw LOG.getUnsupportedRegexpForLinearTimeMatchingException( regexp, "the flags " + ( flags & ~SUPPORTED_FLAGS ) + " are not supported", 0 );
+		}
+
+		ProgramBuilder builder = new ProgramBuilder( regexp );
+		int match = builder.add( MATCH, -1, 0, null );
+		int start = builder.compile( LinearTimePatternParser.parse( regexp, flags ), match );
+		return new LinearTimePattern( builder, start, flags );
+	}
+
+	/**
+	 * @return whether the entire character sequence matches the regular expression
+	 */
+	public boolean matches(CharSequence input) {
+		int length = input.length();
+		ThreadList current = new ThreadList( opcodes.length );
+		ThreadList following = new ThreadList( opcodes.length );
+		int[] stack = new int[opcodes.length];
+
+		addThread( current, start, input, 0, stack );
+		int position = 0;
+		while ( position < length ) {
+			if ( current.size == 0 ) {
+				return false;
+			}
+
+			int codePoint = Character.codePointAt( input, position );
+			int nextPosition = position + Character.charCount( codePoint );
+			following.clear();
+			for ( int i = 0; i < current.size; i++ ) {
+				int pc = current.dense[i];
+				if ( opcodes[pc] == CHARACTER && predicates[pc].test( codePoint ) ) {
+					addThread( following, next[pc], input, nextPosition, stack );
+				}
+			}
+
+			ThreadList swap = current;
+			current = following;
+			following = swap;
+			position = nextPosition;
+		}
+
+		for ( int i = 0; i < current.size; i++ ) {
+			if ( opcodes[current.dense[i]] == MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the thread at the given instruction and the ones reachable from it without consuming a character.
+	 */
+	private void addThread(ThreadList threads, int pc, CharSequence input, int position, int[] stack) {
+		int stackSize = 0;
+		stack[stackSize++] = pc;
+		while ( stackSize > 0 ) {
+			int current = stack[--stackSize];
+			while ( !threads.contains( current ) ) {
+				threads.add( current );
+				byte opcode = opcodes[current];
+				if ( opcode == SPLIT ) {
+					// the alternative is a distinct instruction which has not been visited yet, and each instruction is
+					// pushed at most once per split pointing to it: the stack is large enough
+					stack[stackSize++] = arguments[current];
+					current = next[current];
+				}
+				else if ( opcode == ASSERTION && holds( arguments[current], input, position ) ) {
+					current = next[current];
+				}
+				else {
+					break;
+				}
+			}
+		}
+	}
+
+	private boolean holds(int assertion, CharSequence input, int position) {
+		int length = input.length();
+		switch ( assertion ) {
+			case Assertion.BEGIN_INPUT:
+				return position == 0;
+			case Assertion.END_INPUT:
+				return position == length;
+			case Assertion.END_INPUT_OR_FINAL_TERMINATOR:
+				if ( position == length ) {
+					return true;
+				}
+				if ( unixLines ) {
+					return position == length - 1 && input.charAt( position ) == '\n';
+				}
+				if ( position == length - 2 ) {
+					return input.charAt( position ) == '\r' && input.charAt( position + 1 ) == '\n';
+				}
+				return position == length - 1 && isLineTerminator( input, position );
+			case Assertion.BEGIN_LINE:
+				if ( position == length ) {
+					// as for Pattern, a line does not begin at the end of the input
+					return false;
+				}
+				if ( position == 0 ) {
+					return true;
+				}
+				char previous = input.charAt( position - 1 );
+				if ( unixLines ) {
+					return previous == '\n';
+				}
+				return CharPredicates.isLineTerminator( previous ) && !( previous == '\r' && input.charAt( position ) == '\n' );
+			case Assertion.END_LINE:
+				if ( position == length ) {
+					return true;
+				}
+				if ( unixLines ) {
+					return input.charAt( position ) == '\n';
+				}
+				return isLineTerminator( input, position );
+			default:
+				throw new IllegalStateException( "Unknown assertion " + assertion );
+		}
+	}
+
+	/**
+	 * @return whether a line terminator begins at the given position, the {@code \n} of {@code \r\n} not being a line
+	 * terminator on its own
+	 */
+	private static boolean isLineTerminator(CharSequence input, int position) {
+		char c = input.charAt( position );
+		if ( c == '\n' ) {
+			return position == 0 || input.charAt( position - 1 ) != '\r';
+		}
+		return CharPredicates.isLineTerminator( c );
+	}
+
+	/**
+	 * The set of the instructions of the threads, in the order of addition, with constant time insertion, lookup and
+	 * clearing.
+	 */
+	private static final class ThreadList {
+
+		private final int[] dense;
+
+		private final int[] sparse;
+
+		private int size;
+
+		private ThreadList(int capacity) {
+			this.dense = new int[capacity];
+			this.sparse = new int[capacity];
+		}
+
+		private boolean contains(int pc) {
+			int i = sparse[pc];
+			return i < size && dense[i] == pc;
+		}
+
+		private void add(int pc) {
+			sparse[pc] = size;
+			dense[size++] = pc;
+		}
+
+		private void clear() {
+			size = 0;
+		}
+	}
+
+	/**
+	 * Compiles the parsed regular expression to a program, from the end to the beginning: each node is compiled knowing
+	 * the instruction following it.
+	 */
+	private static final class ProgramBuilder {
+
+		private final String regexp;
+
+		private byte[] opcodes = new byte[16];
+
+		private int[] next = new int[16];
+
+		private int[] arguments = new int[16];
+
+		private IntPredicate[] predicates = new IntPredicate[16];
+
+		private int size;
+
+		private ProgramBuilder(String regexp) {
+			this.regexp = regexp;
+		}
+
+		/**
+		 * @return the first instruction of the compiled node
+		 */
+		private int compile(Node node, int following) {
+			if ( node instanceof CharacterMatch ) {
+				return add( CHARACTER, following, 0, ( (CharacterMatch) node ).predicate );
+			}
+			if ( node instanceof Assertion ) {
+				return add( ASSERTION, following, ( (Assertion) node ).kind, null );
+			}
+			if ( node instanceof Concatenation ) {
+				int first = following;
+				for ( int i = ( (Concatenation) node ).items.size() - 1; i >= 0; i-- ) {
+					first = compile( ( (Concatenation) node ).items.get( i ), first );
+				}
+				return first;
+			}
+			if ( node instanceof Alternation ) {
+				int alternativeCount = ( (Alternation) node ).alternatives.size();
+				int first = compile( ( (Alternation) node ).alternatives.get( alternativeCount - 1 ), following );
+				for ( int i = alternativeCount - 2; i >= 0; i-- ) {
+					first = add( SPLIT, compile( ( (Alternation) node ).alternatives.get( i ), following ), first, null );
+				}
+				return first;
+			}
+			return compileRepetition( (Repetition) node, following );
+		}
+
+		private int compileRepetition(Repetition repetition, int following) {
+			int first;
+			if ( repetition.max == Repetition.UNBOUNDED ) {
+				int loop = add( SPLIT, -1, following, null );
+				// the arrays might be reallocated when compiling the repeated node
+				int body = compile( repetition.node, loop );
+				next[loop] = body;
+				first = loop;
+			}
+			else {
+				// x{0,2} is compiled as (x(x)?)?
+				first = following;
+				for ( int i = repetition.min; i < repetition.max; i++ ) {
+					first = add( SPLIT, compile( repetition.node, first ), following, null );
+				}
+			}
+			for ( int i = 0; i < repetition.min; i++ ) {
+				first = compile( repetition.node, first );
+			}
+			return first;
+		}
+
+		private int add(byte opcode, int following, int argument, IntPredicate predicate) {
+			if ( size == MAX_INSTRUCTIONS ) {
+				throw LOG.getUnsupportedRegexpForLinearTimeMatchingException( regexp, "the regular expression is too complex", 0 );
+			}
+			if ( size == opcodes.length ) {
+				int capacity = Math.min( size * 2, MAX_INSTRUCTIONS );
+				opcodes = Arrays.copyOf( opcodes, capacity );
+				next = Arrays.copyOf( next, capacity );
+				arguments = Arrays.copyOf( arguments, capacity );
+				predicates = Arrays.copyOf( predicates, capacity );
+			}
+			opcodes[size] = opcode;
+			next[size] = following;
+			arguments[size] = argument;
+			predicates[size] = predicate;
+			return size++;
+		}
+	}
+}
@@ -0,0 +1,540 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+import jakarta.validation.ConstraintDeclarationException;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Parses the subset of the {@link Pattern} syntax supported by {@link LinearTimePattern} into a tree of nodes.
+ * <p>
+ * The regular expression is expected to be valid for {@link Pattern}: the parser only has to detect the constructs
+ * which are not supported.
+ */
+final class LinearTimePatternParser {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The maximum number of repetitions of a bounded quantifier: each repetition is a copy of the repeated expression in
+	 * the compiled program.
+	 */
+	static final int MAX_REPETITIONS = 1000;
+
+	private final String regexp;
+
+	private final int flags;
+
+	private int index;
+
+	private LinearTimePatternParser(String regexp, int flags) {
+		this.regexp = regexp;
+		this.flags = flags;
+	}
+
+	static Node parse(String regexp, int flags) {
+		LinearTimePatternParser parser = new LinearTimePatternParser( regexp, flags );
+		Node node = parser.parseAlternation();
+		if ( parser.index < regexp.length() ) {
+			throw parser.unsupported( "unbalanced parenthesis" );
+		}
+		return node;
+	}
+
+	ConstraintDeclarationException unsupported(String reason) {
+		return LOG.getUnsupportedRegexpForLinearTimeMatchingException( regexp, reason, index );
+	}
+
+	private Node parseAlternation() {
+		List<Node> alternatives = new ArrayList<>();
+		alternatives.add( parseConcatenation() );
+		while ( peek( '|' ) ) {
+			index++;
+			alternatives.add( parseConcatenation() );
+		}
+		return alternatives.size() == 1 ? alternatives.get( 0 ) : new Alternation( alternatives );
+	}
+
+	private Node parseConcatenation() {
+		List<Node> items = new ArrayList<>();
+		while ( index < regexp.length() && !peek( '|' ) && !peek( ')' ) ) {
+			if ( regexp.startsWith( "\\Q", index ) ) {
+				parseQuotation( items );
+			}
+			else {
+				items.add( parseQuantifier( parseAtom() ) );
+			}
+		}
+		return items.size() == 1 ? items.get( 0 ) : new Concatenation( items );
+	}
+
+	private Node parseQuantifier(Node atom) {
+		if ( index >= regexp.length() ) {
+			return atom;
+		}
+
+		int min;
+		int max;
+		switch ( regexp.charAt( index ) ) {
+			case '*':
+				min = 0;
+				max = Repetition.UNBOUNDED;
+				index++;
+				break;
+			case '+':
+				min = 1;
+				max = Repetition.UNBOUNDED;
+				index++;
+				break;
+			case '?':
+				min = 0;
+				max = 1;
+				index++;
+				break;
+			case '{':
+				index++;
+				min = parseRepetitionCount();
+				if ( peek( ',' ) ) {
+					index++;
+					max = peek( '}' ) ? Repetition.UNBOUNDED : parseRepetitionCount();
+				}
+				else {
+					max = min;
+				}
+				if ( !peek( '}' ) ) {
+					throw unsupported( "unclosed repetition" );
+				}
+				index++;
+				break;
+			default:
+				return atom;
+		}
+
+		if ( peek( '?' ) ) {
+			// reluctant quantifiers match the same strings as the greedy ones
+			index++;
+		}
+		else if ( peek( '+' ) ) {
+			throw unsupported( "possessive quantifiers are not supported" );
+		}
+		return new Repetition( atom, min, max );
+	}
+
+	private int parseRepetitionCount() {
+		int start = index;
+		while ( index < regexp.length() && isDigit( regexp.charAt( index ) ) ) {
+			index++;
+		}
+		if ( start == index ) {
+			throw unsupported( "invalid repetition" );
+		}
+		if ( index - start > 4 || Integer.parseInt( regexp.substring( start, index ) ) > MAX_REPETITIONS ) {
+			index = start;
+			throw unsupported( "repetition counts greater than " + MAX_REPETITIONS + " are not supported" );
+		}
+		return Integer.parseInt( regexp.substring( start, index ) );
+	}
+
+	private Node parseAtom() {
+		char c = regexp.charAt( index );
+		switch ( c ) {
+			case '(':
+				return parseGroup();
+			case '[':
+				index++;
+				return new CharacterMatch( parseCharacterClass() );
+			case '.':
+				index++;
+				return new CharacterMatch( CharPredicates.dot( flags ) );
+			case '^':
+				index++;
+				return new Assertion( has( Pattern.MULTILINE ) ? Assertion.BEGIN_LINE : Assertion.BEGIN_INPUT );
+			case '$':
+				index++;
+				return new Assertion( has( Pattern.MULTILINE ) ? Assertion.END_LINE : Assertion.END_INPUT_OR_FINAL_TERMINATOR );
+			case '\\':
+				return parseEscape();
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				throw unsupported( "dangling quantifier" );
+			default:
+				int codePoint = regexp.codePointAt( index );
+				index += Character.charCount( codePoint );
+				return new CharacterMatch( CharPredicates.literal( codePoint, flags ) );
+		}
+	}
+
+	private Node parseGroup() {
+		index++;
+		if ( regexp.startsWith( "?:", index ) ) {
+			index += 2;
+		}
+		else if ( regexp.startsWith( "?<", index ) && index + 2 < regexp.length() && isAsciiLetter( regexp.charAt( index + 2 ) ) ) {
+			int end = regexp.indexOf( '>', index );
+			if ( end < 0 ) {
+				throw unsupported( "unclosed group name" );
+			}
+			index = end + 1;
+		}
+		else if ( peek( '?' ) ) {
+			throw unsupported( "lookarounds, atomic groups and inline flags are not supported" );
+		}
+
+		Node node = parseAlternation();
+		if ( !peek( ')' ) ) {
+			throw unsupported( "unclosed group" );
+		}
+		index++;
+		return node;
+	}
+
+	private Node parseEscape() {
+		int escapeIndex = index;
+		index++;
+		if ( index >= regexp.length() ) {
+			throw unsupported( "unexpected end of the regular expression" );
+		}
+
+		switch ( regexp.charAt( index ) ) {
+			case 'A':
+				index++;
+				return new Assertion( Assertion.BEGIN_INPUT );
+			case 'z':
+				index++;
+				return new Assertion( Assertion.END_INPUT );
+			case 'Z':
+				index++;
+				return new Assertion( Assertion.END_INPUT_OR_FINAL_TERMINATOR );
+			default:
+				index = escapeIndex;
+				int codePoint = parseEscapedCodePoint();
+				if ( codePoint >= 0 ) {
+					return new CharacterMatch( CharPredicates.literal( codePoint, flags ) );
+				}
+				return new CharacterMatch( parseEscapedCharacterClass() );
+		}
+	}
+
+	/**
+	 * Adds the quoted characters to the given items, each one being a separate atom: as done by {@link Pattern}, a
+	 * quantifier following the quotation only applies to the last quoted character.
+	 */
+	private void parseQuotation(List<Node> items) {
+		int start = index + 2;
+		int end = regexp.indexOf( "\\E", start );
+		String quoted = end < 0 ? regexp.substring( start ) : regexp.substring( start, end );
+		index = end < 0 ? regexp.length() : end + 2;
+
+		if ( quoted.isEmpty() ) {
+			if ( index < regexp.length() && "*+?{".indexOf( regexp.charAt( index ) ) >= 0 ) {
+				throw unsupported( "quantifiers following an empty quotation are not supported" );
+			}
+			return;
+		}
+
+		int lastCodePointIndex = quoted.offsetByCodePoints( quoted.length(), -1 );
+		quoted.substring( 0, lastCodePointIndex ).codePoints()
+				.forEach( codePoint -> items.add( new CharacterMatch( CharPredicates.literal( codePoint, flags ) ) ) );
+		items.add( parseQuantifier( new CharacterMatch( CharPredicates.literal( quoted.codePointAt( lastCodePointIndex ), flags ) ) ) );
+	}
+
+	private IntPredicate parseCharacterClass() {
+		boolean negated = false;
+		if ( peek( '^' ) ) {
+			negated = true;
+			index++;
+		}
+
+		List<IntPredicate> items = new ArrayList<>();
+		boolean first = true;
+		while ( true ) {
+			if ( index >= regexp.length() ) {
+				throw unsupported( "unclosed character class" );
+			}
+
+			char c = regexp.charAt( index );
+			if ( c == ']' && !first ) {
+				index++;
+				break;
+			}
+			if ( c == '[' ) {
+				throw unsupported( "nested character classes are not supported" );
+			}
+			if ( c == '&' && regexp.startsWith( "&&", index ) ) {
+				throw unsupported( "character class intersections are not supported" );
+			}
+			first = false;
+
+			int lower;
+			if ( c == '\\' ) {
+				if ( regexp.startsWith( "\\Q", index ) ) {
+					throw unsupported( "quotations in character classes are not supported" );
+				}
+				lower = parseEscapedCodePoint();
+				if ( lower < 0 ) {
+					items.add( parseEscapedCharacterClass() );
+					continue;
+				}
+			}
+			else {
+				lower = regexp.codePointAt( index );
+				index += Character.charCount( lower );
+			}
+
+			if ( peek( '-' ) && index + 1 < regexp.length() && regexp.charAt( index + 1 ) != ']' ) {
+				index++;
+				int upper;
+				if ( peek( '\\' ) ) {
+					upper = parseEscapedCodePoint();
+					if ( upper < 0 ) {
+						throw unsupported( "invalid range" );
+					}
+				}
+				else if ( peek( '[' ) ) {
+					throw unsupported( "nested character classes are not supported" );
+				}
+				else {
+					upper = regexp.codePointAt( index );
+					index += Character.charCount( upper );
+				}
+				items.add( CharPredicates.range( lower, upper, flags ) );
+			}
+			else {
+				items.add( CharPredicates.literal( lower, flags ) );
+			}
+		}
+
+		IntPredicate predicate = CharPredicates.union( items );
+		return negated ? predicate.negate() : predicate;
+	}
+
+	/**
+	 * Parses an escape sequence standing for a single character, the index being on the backslash.
+	 *
+	 * @return the code point or -1 if the escape sequence is not a single character, in which case the index is not
+	 * changed
+	 */
+	private int parseEscapedCodePoint() {
+		int start = index;
+		index++;
+		char c = regexp.charAt( index );
+		index++;
+		switch ( c ) {
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 'f':
+				return '\f';
+			case 'a':
+				return '\u0007';
+			case 'e':
+				return '\u001B';
+			case '0':
+				return parseOctal();
+			case 'x':
+				if ( peek( '{' ) ) {
+					int end = regexp.indexOf( '}', index );
+					int codePoint = Integer.parseInt( regexp.substring( index + 1, end ), 16 );
+					index = end + 1;
+					return codePoint;
+				}
+				return parseHexadecimal( 2 );
+			case 'u':
+				return parseHexadecimal( 4 );
+			case 'c':
+				return regexp.charAt( index++ ) ^ 64;
+			default:
+				if ( !isAsciiLetter( c ) && !isDigit( c ) ) {
+					// an escaped character which has no special meaning
+					int codePoint = regexp.codePointAt( index - 1 );
+					index += Character.charCount( codePoint ) - 1;
+					return codePoint;
+				}
+				index = start;
+				return -1;
+		}
+	}
+
+	/**
+	 * Parses an escape sequence standing for a predefined character class or a Unicode property, the index being on the
+	 * backslash.
+	 */
+	private IntPredicate parseEscapedCharacterClass() {
+		index++;
+		char c = regexp.charAt( index );
+		switch ( c ) {
+			case 'd':
+				index++;
+				return CharPredicates.digit();
+			case 'D':
+				index++;
+				return CharPredicates.digit().negate();
+			case 'w':
+				index++;
+				return CharPredicates.word();
+			case 'W':
+				index++;
+				return CharPredicates.word().negate();
+			case 's':
+				index++;
+				return CharPredicates.space();
+			case 'S':
+				index++;
+				return CharPredicates.space().negate();
+			case 'p':
+			case 'P':
+				IntPredicate property = parseProperty();
+				return c == 'P' ? property.negate() : property;
+			default:
+				if ( isDigit( c ) ) {
+					throw unsupported( "back references are not supported" );
+				}
+				throw unsupported( "\\" + c + " is not supported" );
+		}
+	}
+
+	private IntPredicate parseProperty() {
+		int start = index;
+		index++;
+		String name;
+		if ( peek( '{' ) ) {
+			int end = regexp.indexOf( '}', index );
+			name = regexp.substring( index + 1, end );
+			index = end + 1;
+		}
+		else {
+			name = String.valueOf( regexp.charAt( index ) );
+			index++;
+		}
+
+		IntPredicate property = CharPredicates.property( name, has( Pattern.CASE_INSENSITIVE ) );
+		if ( property == null ) {
+			index = start;
+			throw unsupported( "the property " + name + " is not supported" );
+		}
+		return property;
+	}
+
+	private int parseOctal() {
+		int codePoint = 0;
+		int digits = 0;
+		while ( digits < 3 && index < regexp.length() && regexp.charAt( index ) >= '0' && regexp.charAt( index ) <= '7' ) {
+			int value = codePoint * 8 + regexp.charAt( index ) - '0';
+			if ( value > 0377 ) {
+				break;
+			}
+			codePoint = value;
+			digits++;
+			index++;
+		}
+		return codePoint;
+	}
+
+	private int parseHexadecimal(int digits) {
+		int codePoint = Integer.parseInt( regexp.substring( index, index + digits ), 16 );
+		index += digits;
+		return codePoint;
+	}
+
+	private boolean peek(char c) {
+		return index < regexp.length() && regexp.charAt( index ) == c;
+	}
+
+	private boolean has(int flag) {
+		return ( flags & flag ) != 0;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	/**
+	 * A node of the parsed regular expression.
+	 */
+	abstract static class Node {
+	}
+
+	static final class CharacterMatch extends Node {
+
+		final IntPredicate predicate;
+
+		private CharacterMatch(IntPredicate predicate) {
+			this.predicate = predicate;
+		}
+	}
+
+	static final class Assertion extends Node {
+
+		static final int BEGIN_INPUT = 0;
+		static final int END_INPUT = 1;
+		static final int END_INPUT_OR_FINAL_TERMINATOR = 2;
+		static final int BEGIN_LINE = 3;
+		static final int END_LINE = 4;
+
+		final int kind;
+
+		private Assertion(int kind) {
+			this.kind = kind;
+		}
+	}
+
+	static final class Concatenation extends Node {
+
+		final List<Node> items;
+
+		private Concatenation(List<Node> items) {
+			this.items = Collections.unmodifiableList( items );
+		}
+	}
+
+	static final class Alternation extends Node {
+
+		final List<Node> alternatives;
+
+		private Alternation(List<Node> alternatives) {
+			this.alternatives = Collections.unmodifiableList( alternatives );
+		}
+	}
+
+	static final class Repetition extends Node {
+
+		static final int UNBOUNDED = -1;
+
+		final Node node;
+
+		final int min;
+
+		/**
+		 * The maximum number of repetitions or {@link #UNBOUNDED}.
+		 */
+		final int max;
+
+		private Repetition(Node node, int min, int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
+
+/**
+ * An {@link XMLEventReader} replaying a list of previously recorded events.
+ * <p>
+ * It allows to process the same XML document several times without parsing it again. The recorded events are not
+ * modified so the same list may be replayed concurrently by several readers.
+ */
+public class RecordedXmlEventReader implements XMLEventReader {
+
+	private final List<XMLEvent> events;
+
+	private int position;
+
+	public RecordedXmlEventReader(List<XMLEvent> events) {
+		this.events = events;
+	}
+
+	@Override
+	public XMLEvent nextEvent() throws XMLStreamException {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return events.get( position++ );
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < events.size();
+	}
+
+	@Override
+	public XMLEvent peek() {
+		return hasNext() ? events.get( position ) : null;
+	}
+
+	@Override
+	public String getElementText() throws XMLStreamException {
+		if ( position == 0 || !events.get( position - 1 ).isStartElement() ) {
+			throw new XMLStreamException( "The current event is not a start element" );
+		}
+
+		StringBuilder text = new StringBuilder();
+		XMLEvent event = nextEvent();
+		while ( !event.isEndElement() ) {
+			if ( event.isCharacters() ) {
+				text.append( event.asCharacters().getData() );
+			}
+			else if ( event.getEventType() != XMLStreamConstants.COMMENT
+					&& event.getEventType() != XMLStreamConstants.PROCESSING_INSTRUCTION ) {
+				throw new XMLStreamException( "Unexpected event while reading the element text", event.getLocation() );
+			}
+			event = nextEvent();
+		}
+		return text.toString();
+	}
+
+	@Override
+	public XMLEvent nextTag() throws XMLStreamException {
+		XMLEvent event = nextEvent();
+		while ( ( event.isCharacters() && event.asCharacters().isWhiteSpace() )
+				|| event.getEventType() == XMLStreamConstants.COMMENT
+				|| event.getEventType() == XMLStreamConstants.PROCESSING_INSTRUCTION ) {
+			event = nextEvent();
+		}
+		if ( !event.isStartElement() && !event.isEndElement() ) {
+			throw new XMLStreamException( "Expected a start or end element", event.getLocation() );
+		}
+		return event;
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		throw new IllegalArgumentException( name );
+	}
+
+	@Override
+	public void close() {
+		// nothing to release
+	}
+
+	@Override
+	public Object next() {
+		try {
+			return nextEvent();
+		}
+		catch (XMLStreamException e) {
+			throw new NoSuchElementException( e.getMessage() );
+		}
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml.mapping;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.xml.XmlParserHelper;
+import org.xml.sax.SAXException;
+
+/**
+ * The events of the XML constraint mapping files already parsed and validated, keyed by the content of the files.
+ * <p>
+ * The {@linkplain #getSharedInstance() shared instance} is used by all the validator factories bootstrapped with the
+ * Hibernate Validator classes of a given class loader, so that a mapping file is only parsed and validated once. Both
+ * the contents and the events are softly referenced, so that they may be released under memory pressure.
+ */
+public class MappingEventsCache {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final Map<String, String> SCHEMAS_BY_VERSION = Collections.unmodifiableMap( getSchemasByVersion() );
+
+	private static final MappingEventsCache SHARED_INSTANCE = new MappingEventsCache();
+
+	private final ConcurrentMap<MappingContent, List<XMLEvent>> eventsByContent = new ConcurrentReferenceHashMap<>(
+			16, SOFT, SOFT
+	);
+
+	private final XmlParserHelper xmlParserHelper = new XmlParserHelper();
+
+	public static MappingEventsCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	private static Map<String, String> getSchemasByVersion() {
+		Map<String, String> schemasByVersion = new HashMap<>();
+
+		schemasByVersion.put( "1.0", "META-INF/validation-mapping-1.0.xsd" );
+		schemasByVersion.put( "1.1", "META-INF/validation-mapping-1.1.xsd" );
+		schemasByVersion.put( "2.0", "META-INF/validation-mapping-2.0.xsd" );
+		schemasByVersion.put( "3.0", "META-INF/validation-mapping-3.0.xsd" );
+
+		return schemasByVersion;
+	}
+
+	/**
+	 * Returns the events of the given mapping file.
+	 * <p>
+	 * The mapping file is only parsed and validated against its schema the first time its content is encountered: the
+	 * resulting events are cached and replayed when a mapping with the same content is parsed again, e.g. when
+	 * bootstrapping another validator factory.
+	 *
+	 * @param in the mapping file, fully read by this method
+	 *
+	 * @return the events of the mapping file
+	 */
+	public List<XMLEvent> getEvents(InputStream in) throws XMLStreamException, SAXException, IOException {
+		MappingContent content;
+		try {
+			content = new MappingContent( in.readAllBytes() );
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToCreateXMLEventReader( "constraint mapping file", e );
+		}
+
+		List<XMLEvent> events = eventsByContent.get( content );
+		if ( events != null ) {
+			return events;
+		}
+
+		XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( "constraint mapping file", content.newInputStream() );
+		String schemaVersion = xmlParserHelper.getSchemaVersion( "constraint mapping file", xmlEventReader );
+		xmlEventReader.close();
+
+		// The validation is done first as StAX builders used below are assuming that the XML file is correct and don't
+		// do any validation of the input.
+		String schemaResourceName = getSchemaResourceName( schemaVersion );
+		Schema schema = xmlParserHelper.getSchema( schemaResourceName );
+		if ( schema == null ) {
+			throw LOG.unableToGetXmlSchema( schemaResourceName );
+		}
+
+		Validator validator = schema.newValidator();
+		validator.validate( new StreamSource( content.newInputStream() ) );
+
+		List<XMLEvent> tmpEvents = new ArrayList<>();
+		xmlEventReader = xmlParserHelper.createXmlEventReader( "constraint mapping file", content.newInputStream() );
+		while ( xmlEventReader.hasNext() ) {
+			tmpEvents.add( xmlEventReader.nextEvent() );
+		}
+		xmlEventReader.close();
+
+		events = Collections.unmodifiableList( tmpEvents );
+		List<XMLEvent> previousEvents = eventsByContent.putIfAbsent( content, events );
+		return previousEvents != null ? previousEvents : events;
+	}
+
+	/**
+	 * @param in the mapping file, fully read by this method
+	 *
+	 * @return whether the events of the given mapping file are cached
+	 */
+	public boolean isCached(InputStream in) throws IOException {
+		return eventsByContent.containsKey( new MappingContent( in.readAllBytes() ) );
+	}
+
+	private String getSchemaResourceName(String schemaVersion) {
+		String schemaResource = SCHEMAS_BY_VERSION.get( schemaVersion );
+
+		if ( schemaResource == null ) {
+			throw LOG.getUnsupportedSchemaVersionException( "constraint mapping file", schemaVersion );
+		}
+
+		return schemaResource;
+	}
+
+	/**
+	 * The content of a mapping file, used as key of the cache.
+	 */
+	private static final class MappingContent {
+
+		private final byte[] bytes;
+
+		private final int hashCode;
+
+		private MappingContent(byte[] bytes) {
+			this.bytes = bytes;
+			this.hashCode = Arrays.hashCode( bytes );
+		}
+
+		private InputStream newInputStream() {
+			return new ByteArrayInputStream( bytes );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			MappingContent other = (MappingContent) o;
+			return hashCode == other.hashCode && Arrays.equals( bytes, other.bytes );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -15,16 +15,13 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.Validator;
+import javax.xml.stream.events.XMLEvent;
 
 import org.hibernate.validator.internal.IgnoreForbiddenApisErrors;
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
@@ -36,8 +33,7 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
 import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
-import org.hibernate.validator.internal.xml.CloseIgnoringInputStream;
-import org.hibernate.validator.internal.xml.XmlParserHelper;
+import org.hibernate.validator.internal.xml.RecordedXmlEventReader;
 import org.xml.sax.SAXException;
 
 /**
@@ -58,31 +54,19 @@ public class MappingXmlParser {
 	private final Map<Class<?>, Set<ConstrainedElement>> constrainedElements;
 	private final Set<ConstraintMappingsStaxBuilder> mappingBuilders;
 
-	private final XmlParserHelper xmlParserHelper;
+	private final MappingEventsCache mappingEventsCache;
 
 	private final ClassLoadingHelper classLoadingHelper;
 
-	private static final Map<String, String> SCHEMAS_BY_VERSION = Collections.unmodifiableMap( getSchemasByVersion() );
-
-	private static Map<String, String> getSchemasByVersion() {
-		Map<String, String> schemasByVersion = new HashMap<>();
-
-		schemasByVersion.put( "1.0", "META-INF/validation-mapping-1.0.xsd" );
-		schemasByVersion.put( "1.1", "META-INF/validation-mapping-1.1.xsd" );
-		schemasByVersion.put( "2.0", "META-INF/validation-mapping-2.0.xsd" );
-		schemasByVersion.put( "3.0", "META-INF/validation-mapping-3.0.xsd" );
-
-		return schemasByVersion;
-	}
-
-	public MappingXmlParser(ConstraintCreationContext constraintCreationContext, JavaBeanHelper javaBeanHelper, ClassLoader externalClassLoader) {
+	public MappingXmlParser(ConstraintCreationContext constraintCreationContext, JavaBeanHelper javaBeanHelper, ClassLoader externalClassLoader,
+			MappingEventsCache mappingEventsCache) {
 		this.constraintCreationContext = constraintCreationContext;
 		this.annotationProcessingOptions = new AnnotationProcessingOptionsImpl();
 		this.javaBeanHelper = javaBeanHelper;
 		this.defaultSequences = newHashMap();
 		this.constrainedElements = newHashMap();
 		this.mappingBuilders = newHashSet();
-		this.xmlParserHelper = new XmlParserHelper();
+		this.mappingEventsCache = mappingEventsCache;
 		this.classLoadingHelper = new ClassLoadingHelper( externalClassLoader, run( GetClassLoader.fromContext() ) );
 	}
 
@@ -103,31 +87,14 @@ public final void parse(Set<InputStream> mappingStreams) {
 				// the InputStreams passed in parameters support mark and reset
 				in.mark( Integer.MAX_VALUE );
 
-				XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( "constraint mapping file", new CloseIgnoringInputStream( in ) );
-				String schemaVersion = xmlParserHelper.getSchemaVersion( "constraint mapping file", xmlEventReader );
-				xmlEventReader.close();
-
-				in.reset();
-
-				// The validation is done first as StAX builders used below are assuming that the XML file is correct and don't
-				// do any validation of the input.
-				String schemaResourceName = getSchemaResourceName( schemaVersion );
-				Schema schema = xmlParserHelper.getSchema( schemaResourceName );
-				if ( schema == null ) {
-					throw LOG.unableToGetXmlSchema( schemaResourceName );
-				}
-
-				Validator validator = schema.newValidator();
-				validator.validate( new StreamSource( new CloseIgnoringInputStream( in ) ) );
-
-				in.reset();
+				List<XMLEvent> events = mappingEventsCache.getEvents( in );
 
 				ConstraintMappingsStaxBuilder constraintMappingsStaxBuilder = new ConstraintMappingsStaxBuilder(
 						classLoadingHelper, constraintCreationContext,
 						annotationProcessingOptions, javaBeanHelper, defaultSequences
 				);
 
-				xmlEventReader = xmlParserHelper.createXmlEventReader( "constraint mapping file", new CloseIgnoringInputStream( in ) );
+				XMLEventReader xmlEventReader = new RecordedXmlEventReader( events );
 
 				while ( xmlEventReader.hasNext() ) {
 					constraintMappingsStaxBuilder.process( xmlEventReader, xmlEventReader.nextEvent() );
@@ -142,7 +109,6 @@ public final void parse(Set<InputStream> mappingStreams) {
 				if ( constraintMappingsStaxBuilder.hasBeanBuilders() ) {
 					mappingBuilders.add( constraintMappingsStaxBuilder );
 				}
-				xmlEventReader.close();
 				in.reset();
 			}
 		}
@@ -180,16 +146,6 @@ public final List<Class<?>> getDefaultSequenceForClass(Class<?> beanClass) {
 		return defaultSequences.get( beanClass );
 	}
 
-	private String getSchemaResourceName(String schemaVersion) {
-		String schemaResource = SCHEMAS_BY_VERSION.get( schemaVersion );
-
-		if ( schemaResource == null ) {
-			throw LOG.getUnsupportedSchemaVersionException( "constraint mapping file", schemaVersion );
-		}
-
-		return schemaResource;
-	}
-
 	/**
 	 * Runs the given privileged action, using a privileged block if required.
 	 * <p>
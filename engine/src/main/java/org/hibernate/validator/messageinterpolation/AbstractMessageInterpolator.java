@@ -6,35 +6,37 @@
  */
 package org.hibernate.validator.messageinterpolation;
 
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.validation.MessageInterpolator;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
 import org.hibernate.validator.internal.engine.PredefinedScopeValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessageTemplate;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolverContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.DescriptorLocalizedMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocaleResolutionCache;
 import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
+import org.hibernate.validator.internal.engine.messageinterpolation.MessageCatalog;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.util.BoundedCache;
 import org.hibernate.validator.internal.util.CollectionHelper;
-import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -60,19 +62,12 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	/**
-	 * The default initial capacity for this cache.
-	 */
-	private static final int DEFAULT_INITIAL_CAPACITY = 100;
-
-	/**
-	 * The default load factor for this cache.
-	 */
-	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
-
-	/**
-	 * The default concurrency level for this cache.
+	 * The default maximum number of entries of each cache.
+	 *
+	 * @since 8.0
 	 */
-	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	@Incubating
+	public static final int DEFAULT_CACHE_MAX_SIZE = 2048;
 
 	/**
 	 * The name of the default message bundle.
@@ -117,29 +112,43 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
+	 * Step 1 of message interpolation can be cached. We cache the resolved messages in this map, compiled so that
+	 * steps 2 and 3 can be applied in a single pass.
+	 */
+	private final BoundedCache<LocalizedMessage, CompiledMessageTemplate> compiledMessageTemplates;
+
+	/**
+	 * The interpolated messages which only depend on the constraint descriptor and the locale, e.g. messages without
+	 * EL expressions reported without custom message parameters. The same message instance is returned for all the
+	 * violations of a given descriptor.
 	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
+	private final BoundedCache<DescriptorLocalizedMessage, String> descriptorInterpolatedMessages;
 
 	/**
 	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
 	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
+	private final BoundedCache<String, List<Token>> tokenizedParameterMessages;
 
 	/**
 	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
 	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
+	private final BoundedCache<String, List<Token>> tokenizedELMessages;
 
 	/**
 	 * Flag indicating whether this interpolator should cache some of the interpolation steps.
 	 */
 	private final boolean cachingEnabled;
 
-	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
-	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
-	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
-	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
+	/**
+	 * Step 1 of message interpolation for the messages made of a single key, {@code null} if the message catalog is
+	 * disabled.
+	 */
+	private final MessageCatalog messageCatalog;
+
+	/**
+	 * Interpolates the terms of the compiled message templates.
+	 */
+	private final CompiledMessageTemplate.TermInterpolator termInterpolator = this::interpolate;
 
 	/**
 	 * {@code MessageInterpolator} using the default resource bundle locators.
@@ -267,6 +276,68 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 			LocaleResolver localeResolver,
 			boolean preloadResourceBundles,
 			boolean cacheMessages) {
+		this( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles,
+				cacheMessages, false );
+	}
+
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint
+	 * contributor
+	 * @param locales the set of locales to initialize at bootstrap
+	 * @param defaultLocale the default locale
+	 * @param localeResolver the locale resolver
+	 * @param preloadResourceBundles if the resource bundled should be initialized at initialization time, this is useful in the case of a
+	 * {@link PredefinedScopeValidatorFactoryImpl}
+	 * @param cacheMessages whether resolved messages should be cached or not
+	 * @param messageCatalogEnabled whether the messages of the resource bundles should be flattened in a catalog per
+	 * locale, in which case the catalog of the locales to initialize is built at initialization time
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> locales,
+			Locale defaultLocale,
+			LocaleResolver localeResolver,
+			boolean preloadResourceBundles,
+			boolean cacheMessages,
+			boolean messageCatalogEnabled) {
+		this( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles,
+				cacheMessages, messageCatalogEnabled, DEFAULT_CACHE_MAX_SIZE );
+	}
+
+	/**
+	 * {@code MessageInterpolator} taking two resource bundle locators.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint
+	 * contributor
+	 * @param locales the set of locales to initialize at bootstrap
+	 * @param defaultLocale the default locale
+	 * @param localeResolver the locale resolver
+	 * @param preloadResourceBundles if the resource bundled should be initialized at initialization time, this is useful in the case of a
+	 * {@link PredefinedScopeValidatorFactoryImpl}
+	 * @param cacheMessages whether resolved messages should be cached or not
+	 * @param messageCatalogEnabled whether the messages of the resource bundles should be flattened in a catalog per
+	 * locale, in which case the catalog of the locales to initialize is built at initialization time
+	 * @param cacheMaxSize the maximum number of entries of each cache, must be strictly positive
+	 *
+	 * @since 8.0
+	 */
+	@Incubating
+	public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> locales,
+			Locale defaultLocale,
+			LocaleResolver localeResolver,
+			boolean preloadResourceBundles,
+			boolean cacheMessages,
+			boolean messageCatalogEnabled,
+			int cacheMaxSize) {
 		Contracts.assertNotNull( locales, MESSAGES.parameterMustNotBeNull( "localesToInitialize" ) );
 		Contracts.assertNotNull( defaultLocale, MESSAGES.parameterMustNotBeNull( "defaultLocale" ) );
 		Contracts.assertNotNull( localeResolver, MESSAGES.parameterMustNotBeNull( "localeResolver" ) );
@@ -302,36 +373,28 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedELMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
+			this.compiledMessageTemplates = new BoundedCache<>( cacheMaxSize );
+			this.descriptorInterpolatedMessages = new BoundedCache<>( cacheMaxSize );
+			this.tokenizedParameterMessages = new BoundedCache<>( cacheMaxSize );
+			this.tokenizedELMessages = new BoundedCache<>( cacheMaxSize );
 		}
 		else {
-			resolvedMessages = null;
+			compiledMessageTemplates = null;
+			descriptorInterpolatedMessages = null;
 			tokenizedParameterMessages = null;
 			tokenizedELMessages = null;
 		}
+
+		if ( messageCatalogEnabled ) {
+			this.messageCatalog = new MessageCatalog(
+					Arrays.asList( this.userResourceBundleLocator, this.contributorResourceBundleLocator, this.defaultResourceBundleLocator ),
+					this::resolveBundleMessages,
+					allLocales
+			);
+		}
+		else {
+			this.messageCatalog = null;
+		}
 	}
 
 	@Override
@@ -340,7 +403,7 @@ public String interpolate(String message, Context context) {
 		// is immutable and uniquely built per Validation definition, the comparison has to be based on == and not equals though
 		String interpolatedMessage = message;
 		try {
-			interpolatedMessage = interpolateMessage( message, context, localeResolver.resolve( localeResolverContext ) );
+			interpolatedMessage = interpolateMessage( message, context, resolveLocale( context ) );
 		}
 		catch (MessageDescriptorFormatException e) {
 			LOG.warn( e.getMessage() );
@@ -360,6 +423,20 @@ public String interpolate(String message, Context context, Locale locale) {
 		return interpolatedMessage;
 	}
 
+	/**
+	 * Resolves the locale once per validation call, the resolved locale being kept in the validation call scoped
+	 * cache exposed by the context.
+	 */
+	private Locale resolveLocale(Context context) {
+		if ( context instanceof MessageInterpolatorContext ) {
+			LocaleResolutionCache localeResolutionCache = ( (MessageInterpolatorContext) context ).getLocaleResolutionCache();
+			if ( localeResolutionCache != null ) {
+				return localeResolutionCache.resolve( localeResolver, localeResolverContext );
+			}
+		}
+		return localeResolver.resolve( localeResolverContext );
+	}
+
 	private Set<Locale> getAllLocales(Set<Locale> localesToInitialize, Locale defaultLocale) {
 		if ( localesToInitialize.contains( defaultLocale ) ) {
 			return localesToInitialize;
@@ -391,34 +468,57 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
-
-		// either retrieve message from cache, or if message is not yet there or caching is disabled,
+		// either retrieve the compiled message from cache and render it, or if caching is disabled,
 		// perform message resolution algorithm (step 1)
-		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+		if ( cachingEnabled && !isDynamicMessageTemplate( context ) ) {
+			DescriptorLocalizedMessage descriptorLocalizedMessage = null;
+			if ( isDescriptorBound( context ) ) {
+				descriptorLocalizedMessage = new DescriptorLocalizedMessage( message, locale, context.getConstraintDescriptor() );
+				String interpolatedMessage = descriptorInterpolatedMessages.get( descriptorLocalizedMessage );
+				if ( interpolatedMessage != null ) {
+					return interpolatedMessage;
+				}
+			}
+
+			CompiledMessageTemplate compiledMessageTemplate = compiledMessageTemplates.computeIfAbsent(
+					new LocalizedMessage( message, locale ),
+					lm -> CompiledMessageTemplate.compile( resolveMessage( message, locale ) )
+			);
+
+			// resolve parameter and EL expressions in a single pass (steps 2-3)
+			String renderedMessage = compiledMessageTemplate.render( context, locale, isElEnabled( context ), termInterpolator );
+			if ( renderedMessage != null ) {
+				if ( descriptorLocalizedMessage != null && compiledMessageTemplate.hasParametersOnly() ) {
+					String cachedMessage = descriptorInterpolatedMessages.putIfAbsent( descriptorLocalizedMessage, renderedMessage );
+					if ( cachedMessage != null ) {
+						return cachedMessage;
+					}
+				}
+				return renderedMessage;
+			}
+
+			return interpolateResolvedMessage( compiledMessageTemplate.getResolvedMessage(), context, locale, true );
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			return interpolateResolvedMessage( resolveMessage( message, locale ), context, locale, false );
 		}
+	}
 
+	private String interpolateResolvedMessage(String resolvedMessage, Context context, Locale locale, boolean useCaches)
+			throws MessageDescriptorFormatException {
 		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
 		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
 			// resolve parameter expressions (step 2)
 			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
+					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER, useCaches ) ),
 					context,
 					locale
 			);
 
 			// resolve EL expressions (step 3)
-			// in the standard Hibernate Validator execution flow, the context is always an instance of
-			// HibernateMessageInterpolatorContext
-			// but it can be a spec Context in the Jakarta Bean Validation TCK.
-			if ( !( context instanceof HibernateMessageInterpolatorContext )
-					|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE ) {
+			if ( isElEnabled( context ) ) {
 				resolvedMessage = interpolateExpression(
-						new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
+						new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL, useCaches ) ),
 						context,
 						locale );
 			}
@@ -430,8 +530,45 @@ private String interpolateMessage(String message, Context context, Locale locale
 		return resolvedMessage;
 	}
 
-	private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferenceHashMap<String, List<Token>> cache, InterpolationTermType termType) {
-		if ( cachingEnabled ) {
+	/**
+	 * Whether the message template has been marked as dynamic when building the constraint violation, in which case it
+	 * is not worth caching its interpolation steps.
+	 */
+	private static boolean isDynamicMessageTemplate(Context context) {
+		return context instanceof MessageInterpolatorContext && ( (MessageInterpolatorContext) context ).isDynamicMessageTemplate();
+	}
+
+	/**
+	 * Whether the message parameters of the given context can only be resolved from the attributes of the constraint
+	 * descriptor, in which case a message without EL expressions only depends on the descriptor and the locale.
+	 */
+	private boolean isDescriptorBound(Context context) {
+		return interpolatesParametersFromDescriptor()
+				&& context.getConstraintDescriptor() != null
+				&& context instanceof HibernateMessageInterpolatorContext
+				&& ( (HibernateMessageInterpolatorContext) context ).getMessageParameters().isEmpty();
+	}
+
+	/**
+	 * Whether the parameter terms are only resolved from the message parameters and the attributes of the constraint
+	 * descriptor. As the terms are resolved by {@link #interpolate(Context, Locale, String)}, it is only the case for
+	 * the built-in interpolators, not for the subclasses overriding this method.
+	 */
+	boolean interpolatesParametersFromDescriptor() {
+		return false;
+	}
+
+	private static boolean isElEnabled(Context context) {
+		// in the standard Hibernate Validator execution flow, the context is always an instance of
+		// HibernateMessageInterpolatorContext
+		// but it can be a spec Context in the Jakarta Bean Validation TCK.
+		return !( context instanceof HibernateMessageInterpolatorContext )
+				|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE;
+	}
+
+	private List<Token> getParameterTokens(String resolvedMessage, BoundedCache<String, List<Token>> cache, InterpolationTermType termType,
+			boolean useCaches) {
+		if ( useCaches ) {
 			return cache.computeIfAbsent(
 					resolvedMessage,
 					rm -> new TokenCollector( resolvedMessage, termType ).getTokenList()
@@ -443,6 +580,16 @@ private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferen
 	}
 
 	private String resolveMessage(String message, Locale locale) {
+		if ( messageCatalog != null ) {
+			String resolvedMessage = messageCatalog.getResolvedMessage( message, locale );
+			if ( resolvedMessage != null ) {
+				return resolvedMessage;
+			}
+		}
+		return resolveBundleMessages( message, locale );
+	}
+
+	private String resolveBundleMessages(String message, Locale locale) {
 		String resolvedMessage = message;
 
 		ResourceBundle userResourceBundle = userResourceBundleLocator
@@ -489,13 +636,7 @@ private String resolveMessage(String message, Locale locale) {
 	}
 
 	private String replaceEscapedLiterals(String resolvedMessage) {
-		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
-			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
-			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
-			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
-			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
-		}
-		return resolvedMessage;
+		return CompiledMessageTemplate.replaceEscapedLiterals( resolvedMessage );
 	}
 
 	private boolean hasReplacementTakenPlace(String origMessage, String newMessage) {
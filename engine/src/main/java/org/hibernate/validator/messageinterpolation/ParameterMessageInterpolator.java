@@ -51,6 +51,12 @@ public ParameterMessageInterpolator(Set<Locale> locales, Locale defaultLocale, L
 		super( locales, defaultLocale, localeResolver, preloadResourceBundles );
 	}
 
+	@Override
+	boolean interpolatesParametersFromDescriptor() {
+		// subclasses might resolve the parameters differently
+		return getClass() == ParameterMessageInterpolator.class;
+	}
+
 	@Override
 	protected String interpolate(Context context, Locale locale, String term) {
 		if ( InterpolationTerm.isElExpression( term ) ) {
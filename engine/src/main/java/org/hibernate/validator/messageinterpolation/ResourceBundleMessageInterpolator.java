@@ -16,6 +16,7 @@
 import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.IgnoreForbiddenApisErrors;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElExpressionCache;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -45,6 +46,8 @@ public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolat
 
 	private final ExpressionFactory expressionFactory;
 
+	private final ElExpressionCache expressionCache;
+
 	public ResourceBundleMessageInterpolator() {
 		this( Collections.emptySet(), Locale.getDefault(), new DefaultLocaleResolver(), false );
 	}
@@ -82,6 +85,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 	public ResourceBundleMessageInterpolator(Set<Locale> locales, Locale defaultLocale, LocaleResolver localeResolver, boolean preloadResourceBundles) {
 		super( locales, defaultLocale, localeResolver, preloadResourceBundles );
 		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory );
 	}
 
 	/**
@@ -95,6 +99,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			boolean preloadResourceBundles) {
 		super( userResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles );
 		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory );
 	}
 
 	/**
@@ -109,6 +114,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			boolean preloadResourceBundles) {
 		super( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles );
 		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory );
 	}
 
 	/**
@@ -125,6 +131,42 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 		super( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles,
 				cachingEnabled );
 		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory );
+	}
+
+	/**
+	 * @since 8.0
+	 */
+	@Incubating
+	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> locales,
+			Locale defaultLocale,
+			LocaleResolver localeResolver,
+			boolean preloadResourceBundles,
+			boolean cachingEnabled,
+			boolean messageCatalogEnabled) {
+		this( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles,
+				cachingEnabled, messageCatalogEnabled, DEFAULT_CACHE_MAX_SIZE );
+	}
+
+	/**
+	 * @since 8.0
+	 */
+	@Incubating
+	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> locales,
+			Locale defaultLocale,
+			LocaleResolver localeResolver,
+			boolean preloadResourceBundles,
+			boolean cachingEnabled,
+			boolean messageCatalogEnabled,
+			int cacheMaxSize) {
+		super( userResourceBundleLocator, contributorResourceBundleLocator, locales, defaultLocale, localeResolver, preloadResourceBundles,
+				cachingEnabled, messageCatalogEnabled, cacheMaxSize );
+		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory, cacheMaxSize );
 	}
 
 	/**
@@ -139,6 +181,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			boolean cachingEnabled) {
 		super( userResourceBundleLocator, null, locales, defaultLocale, localeResolver, preloadResourceBundles, cachingEnabled );
 		this.expressionFactory = buildExpressionFactory();
+		this.expressionCache = new ElExpressionCache( this.expressionFactory );
 	}
 
 	/**
@@ -154,11 +197,18 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			ExpressionFactory expressionFactory) {
 		super( userResourceBundleLocator, null, locales, defaultLocale, localeResolver, preloadResourceBundles, cachingEnabled );
 		this.expressionFactory = expressionFactory;
+		this.expressionCache = new ElExpressionCache( expressionFactory );
+	}
+
+	@Override
+	boolean interpolatesParametersFromDescriptor() {
+		// subclasses might resolve the parameters differently
+		return getClass() == ResourceBundleMessageInterpolator.class;
 	}
 
 	@Override
 	protected String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
+		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionCache );
 		return expression.interpolate( context );
 	}
 
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Defines how the bean metadata built on demand by the validator factory is retained.
+ * <p>
+ * Building the metadata of a bean is expensive, so it is cached once built. The policy allows to trade predictable
+ * latency (the metadata is never rebuilt in the validation path) against memory reclamation.
+ * <p>
+ * Except for {@link #DEFAULT}, the policies store the metadata in a {@link ClassValue} attached to the bean class, so
+ * lookups are lock-free and the metadata does not prevent the bean class from being unloaded.
+ *
+ * @since 8.0
+ */
+@Incubating
+public enum BeanMetaDataCachePolicy {
+
+	/**
+	 * The metadata is kept in a concurrent map using soft references for both the bean classes and the metadata.
+	 * <p>
+	 * This is the historical behavior of Hibernate Validator.
+	 */
+	DEFAULT("default"),
+
+	/**
+	 * The metadata is strongly referenced and is only released when the bean class is unloaded or the validator
+	 * factory is closed.
+	 */
+	STRONG("strong"),
+
+	/**
+	 * The metadata is softly referenced and may be released by the garbage collector under memory pressure, in which
+	 * case it is rebuilt on next access.
+	 */
+	SOFT("soft"),
+
+	/**
+	 * The metadata is strongly referenced but the number of cached entries is bounded: when the maximum size is
+	 * reached, the least recently used entries are evicted.
+	 * <p>
+	 * The recency of the entries is approximated with the CLOCK algorithm so that lookups do not require any locking.
+	 */
+	BOUNDED("bounded");
+
+	private final String externalRepresentation;
+
+	BeanMetaDataCachePolicy(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static BeanMetaDataCachePolicy of(String value) {
+		for ( BeanMetaDataCachePolicy policy : values() ) {
+			if ( policy.externalRepresentation.equals( value ) ) {
+				return policy;
+			}
+		}
+
+		return BeanMetaDataCachePolicy.valueOf( value );
+	}
+}
@@ -6,14 +6,20 @@
  */
 package org.hibernate.validator.spi.scripting;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
  * Basic cacheable factory responsible for the creation of {@link ScriptEvaluator}s. This
  * class is thread-safe. Caches {@code ScriptEvaluator} when they are requested.
+ * <p>
+ * The maximum size of the pools of script engine instances used by the script evaluators for the engines not allowing
+ * parallel access from multiple threads defaults to the number of available processors.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -23,11 +29,32 @@
 @Incubating
 public abstract class AbstractCachingScriptEvaluatorFactory implements ScriptEvaluatorFactory {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	/**
 	 * A cache of script evaluators (keyed by language name).
 	 */
 	private final ConcurrentMap<String, ScriptEvaluator> scriptEvaluatorCache = new ConcurrentHashMap<>();
 
+	private final int maxScriptEnginePoolSize;
+
+	protected AbstractCachingScriptEvaluatorFactory() {
+		this( Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * @param maxScriptEnginePoolSize the maximum number of instances of a script engine not allowing parallel access from
+	 * multiple threads
+	 *
+	 * @since 8.0
+	 */
+	protected AbstractCachingScriptEvaluatorFactory(int maxScriptEnginePoolSize) {
+		if ( maxScriptEnginePoolSize <= 0 ) {
+			throw LOG.getInvalidScriptEnginePoolMaxSizeException( maxScriptEnginePoolSize );
+		}
+		this.maxScriptEnginePoolSize = maxScriptEnginePoolSize;
+	}
+
 	/**
 	 * Retrieves a script executor for the given language.
 	 *
@@ -46,6 +73,16 @@ public void clear() {
 		scriptEvaluatorCache.clear();
 	}
 
+	/**
+	 * @return the maximum number of instances of a script engine not allowing parallel access from multiple threads, to be
+	 * used when creating a {@link ScriptEngineScriptEvaluator}
+	 *
+	 * @since 8.0
+	 */
+	protected int getMaxScriptEnginePoolSize() {
+		return maxScriptEnginePoolSize;
+	}
+
 	/**
 	 * Creates a new script evaluator for the given language.
 	 *
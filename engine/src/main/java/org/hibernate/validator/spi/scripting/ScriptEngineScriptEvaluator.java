@@ -7,8 +7,17 @@
 package org.hibernate.validator.spi.scripting;
 
 import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.SimpleBindings;
 
@@ -18,6 +27,13 @@
 
 /**
  * A wrapper around JSR 223 {@link ScriptEngine}s. This class is thread-safe.
+ * <p>
+ * Scripts are compiled once per engine instance if the engine is {@link Compilable}. Engines which do not allow
+ * parallel access from multiple threads are used by one thread at a time: additional instances are created from the
+ * factory of the wrapped engine, up to a maximum pool size, so that several scripts can be evaluated in parallel. The
+ * new instances share the global bindings of the wrapped engine, and use its reader and writers and a copy of its
+ * engine bindings as they are when the instance is created. A script evaluated while the same thread is already
+ * evaluating one, e.g. because the first script triggers a validation, is evaluated with the same instance.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -31,17 +47,70 @@ public class ScriptEngineScriptEvaluator implements ScriptEvaluator {
 	private final ScriptEngine engine;
 
 	/**
-	 * Creates a new script executor.
+	 * The engine instance shared by all the threads if the engine is thread-safe, {@code null} otherwise.
+	 */
+	private final EngineInstance sharedEngineInstance;
+
+	/**
+	 * The engine instances not currently evaluating a script if the engine is not thread-safe.
+	 */
+	private final Queue<EngineInstance> idleEngineInstances;
+
+	/**
+	 * Limits the number of engine instances if the engine is not thread-safe.
+	 */
+	private final Semaphore engineInstancePermits;
+
+	/**
+	 * The engine instance used by the current thread if the engine is not thread-safe, so that nested evaluations
+	 * reuse it instead of waiting for another instance.
+	 */
+	private final ThreadLocal<EngineInstance> engineInstanceInUse;
+
+	/**
+	 * Creates a new script executor, evaluating the scripts with the given engine only.
 	 *
 	 * @param engine the engine to be wrapped
 	 */
 	public ScriptEngineScriptEvaluator(ScriptEngine engine) {
+		this( engine, 1 );
+	}
+
+	/**
+	 * Creates a new script executor.
+	 *
+	 * @param engine the engine to be wrapped
+	 * @param maxEnginePoolSize the maximum number of instances of the engine evaluating scripts in parallel if the
+	 * engine does not allow parallel access from multiple threads
+	 *
+	 * @since 8.0
+	 */
+	public ScriptEngineScriptEvaluator(ScriptEngine engine, int maxEnginePoolSize) {
+		if ( maxEnginePoolSize <= 0 ) {
+			throw LOG.getInvalidScriptEnginePoolMaxSizeException( maxEnginePoolSize );
+		}
+
 		this.engine = engine;
+
+		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
+			this.sharedEngineInstance = new EngineInstance( engine, true );
+			this.idleEngineInstances = null;
+			this.engineInstancePermits = null;
+			this.engineInstanceInUse = null;
+		}
+		else {
+			this.sharedEngineInstance = null;
+			this.idleEngineInstances = new ConcurrentLinkedQueue<>();
+			this.idleEngineInstances.add( new EngineInstance( engine, false ) );
+			this.engineInstancePermits = new Semaphore( maxEnginePoolSize );
+			this.engineInstanceInUse = new ThreadLocal<>();
+		}
 	}
 
 	/**
-	 * Executes the given script, using the given variable bindings. The execution of the script happens either synchronized or
-	 * unsynchronized, depending on the engine's threading abilities.
+	 * Executes the given script, using the given variable bindings. The execution of the script happens either on a
+	 * shared engine or on an engine instance used by one thread at a time, depending on the engine's threading
+	 * abilities.
 	 *
 	 * @param script the script to be executed
 	 * @param bindings the bindings to be used
@@ -52,19 +121,63 @@ public ScriptEngineScriptEvaluator(ScriptEngine engine) {
 	 */
 	@Override
 	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
-		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
-			return doEvaluate( script, bindings );
+		if ( sharedEngineInstance != null ) {
+			return sharedEngineInstance.evaluate( script, bindings );
 		}
-		else {
-			synchronized ( engine ) {
-				return doEvaluate( script, bindings );
+
+		EngineInstance currentEngineInstance = engineInstanceInUse.get();
+		if ( currentEngineInstance != null ) {
+			return currentEngineInstance.evaluate( script, bindings );
+		}
+
+		engineInstancePermits.acquireUninterruptibly();
+		try {
+			EngineInstance engineInstance = idleEngineInstances.poll();
+			if ( engineInstance == null ) {
+				engineInstance = new EngineInstance( createEngine( script ), false );
+			}
+			engineInstanceInUse.set( engineInstance );
+			try {
+				return engineInstance.evaluate( script, bindings );
+			}
+			finally {
+				engineInstanceInUse.remove();
+				idleEngineInstances.add( engineInstance );
 			}
 		}
+		finally {
+			engineInstancePermits.release();
+		}
 	}
 
-	private Object doEvaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+	/**
+	 * Creates a new instance of the wrapped engine, sharing its global bindings and its reader and writers. The engine
+	 * bindings are copied as they may be modified by the evaluations, the entries already defined by the new instance
+	 * being kept.
+	 */
+	private ScriptEngine createEngine(String script) throws ScriptEvaluationException {
 		try {
-			return engine.eval( script, new SimpleBindings( bindings ) );
+			ScriptEngine newEngine = engine.getFactory().getScriptEngine();
+			Bindings globalBindings = engine.getBindings( ScriptContext.GLOBAL_SCOPE );
+			if ( globalBindings != null ) {
+				newEngine.setBindings( globalBindings, ScriptContext.GLOBAL_SCOPE );
+			}
+
+			Bindings engineBindings = engine.getBindings( ScriptContext.ENGINE_SCOPE );
+			Bindings newEngineBindings = newEngine.getBindings( ScriptContext.ENGINE_SCOPE );
+			if ( engineBindings != null && newEngineBindings != null ) {
+				for ( Map.Entry<String, Object> binding : engineBindings.entrySet() ) {
+					newEngineBindings.putIfAbsent( binding.getKey(), binding.getValue() );
+				}
+			}
+
+			ScriptContext context = engine.getContext();
+			ScriptContext newContext = newEngine.getContext();
+			newContext.setReader( context.getReader() );
+			newContext.setWriter( context.getWriter() );
+			newContext.setErrorWriter( context.getErrorWriter() );
+
+			return newEngine;
 		}
 		catch (Exception e) {
 			throw LOG.getErrorExecutingScriptException( script, e );
@@ -81,4 +194,45 @@ private boolean engineAllowsParallelAccessFromMultipleThreads() {
 
 		return "THREAD-ISOLATED".equals( threadingType ) || "STATELESS".equals( threadingType );
 	}
+
+	/**
+	 * An engine and the scripts compiled with it.
+	 */
+	private static final class EngineInstance {
+
+		private final ScriptEngine engine;
+
+		/**
+		 * The compiled scripts keyed by their source, {@code null} if the engine is not {@link Compilable}.
+		 */
+		private final Map<String, CompiledScript> compiledScripts;
+
+		private EngineInstance(ScriptEngine engine, boolean shared) {
+			this.engine = engine;
+			if ( engine instanceof Compilable ) {
+				this.compiledScripts = shared ? new ConcurrentHashMap<>() : new HashMap<>();
+			}
+			else {
+				this.compiledScripts = null;
+			}
+		}
+
+		private Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+			try {
+				if ( compiledScripts == null ) {
+					return engine.eval( script, new SimpleBindings( bindings ) );
+				}
+
+				CompiledScript compiledScript = compiledScripts.get( script );
+				if ( compiledScript == null ) {
+					compiledScript = ( (Compilable) engine ).compile( script );
+					compiledScripts.put( script, compiledScript );
+				}
+				return compiledScript.eval( new SimpleBindings( bindings ) );
+			}
+			catch (Exception e) {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			}
+		}
+	}
 }
@@ -0,0 +1,307 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.constraints.boolcomposition;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.constraints.CompositionType.ALL_FALSE;
+import static org.hibernate.validator.constraints.CompositionType.OR;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.ReportAsSingleViolation;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.constraints.ConstraintComposition;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the evaluation of boolean compositions of composed constraints.
+ */
+public class NestedBoolCompositeConstraintTest {
+
+	private static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+		EVALUATIONS.set( 0 );
+	}
+
+	@Test
+	public void testNestedAndCompositionReportsAllViolations() {
+		assertThat( validator.validate( new AndBean( "x" ) ) ).containsOnlyViolations(
+				violationOf( Contains.class ).withMessage( "a" ),
+				violationOf( Contains.class ).withMessage( "b" ),
+				violationOf( Contains.class ).withMessage( "c" )
+		);
+		assertThat( validator.validate( new AndBean( "ac" ) ) ).containsOnlyViolations(
+				violationOf( Contains.class ).withMessage( "b" )
+		);
+		assertNoViolations( validator.validate( new AndBean( "abc" ) ) );
+	}
+
+	@Test
+	public void testNestedAndCompositionReportedAsSingleViolationStopsAtFirstFailure() {
+		assertThat( validator.validate( new SingleViolationAndBean( "x" ) ) ).containsOnlyViolations(
+				violationOf( ContainsAllAsSingleViolation.class )
+		);
+		assertEquals( EVALUATIONS.get(), 1 );
+
+		EVALUATIONS.set( 0 );
+		assertNoViolations( validator.validate( new SingleViolationAndBean( "abc" ) ) );
+		assertEquals( EVALUATIONS.get(), 3 );
+	}
+
+	@Test
+	public void testNestedOrCompositionStopsAtFirstSuccess() {
+		assertNoViolations( validator.validate( new OrBean( "a" ) ) );
+		assertEquals( EVALUATIONS.get(), 1 );
+
+		EVALUATIONS.set( 0 );
+		assertNoViolations( validator.validate( new OrBean( "c" ) ) );
+		assertEquals( EVALUATIONS.get(), 3 );
+
+		assertThat( validator.validate( new OrBean( "x" ) ) ).containsOnlyViolations(
+				violationOf( Contains.class ).withMessage( "a" ),
+				violationOf( Contains.class ).withMessage( "b" ),
+				violationOf( Contains.class ).withMessage( "c" )
+		);
+	}
+
+	@Test
+	public void testAllFalseCompositionStopsAtFirstSuccess() {
+		assertThat( validator.validate( new AllFalseBean( "a" ) ) ).containsOnlyViolations(
+				violationOf( ContainsNone.class )
+		);
+		assertEquals( EVALUATIONS.get(), 1 );
+
+		EVALUATIONS.set( 0 );
+		assertNoViolations( validator.validate( new AllFalseBean( "x" ) ) );
+		assertEquals( EVALUATIONS.get(), 2 );
+	}
+
+	@Test
+	public void testOrCompositionWithValidatorIsSatisfiedByComposingConstraint() {
+		assertNoViolations( validator.validate( new OrWithValidatorBean( "a" ) ) );
+		assertEquals( EVALUATIONS.get(), 1 );
+
+		EVALUATIONS.set( 0 );
+		assertNoViolations( validator.validate( new OrWithValidatorBean( "xyz" ) ) );
+		assertEquals( EVALUATIONS.get(), 2 );
+
+		assertThat( validator.validate( new OrWithValidatorBean( "x" ) ) ).containsOnlyViolations(
+				violationOf( Contains.class ).withMessage( "a" ),
+				violationOf( ContainsAOrLongerThanTwo.class ).withMessage( "OR" )
+		);
+	}
+
+	private static class AndBean {
+
+		@ContainsAll
+		private final String value;
+
+		private AndBean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class SingleViolationAndBean {
+
+		@ContainsAllAsSingleViolation
+		private final String value;
+
+		private SingleViolationAndBean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class OrBean {
+
+		@ContainsAny
+		private final String value;
+
+		private OrBean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class AllFalseBean {
+
+		@ContainsNone
+		private final String value;
+
+		private AllFalseBean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class OrWithValidatorBean {
+
+		@ContainsAOrLongerThanTwo
+		private final String value;
+
+		private OrWithValidatorBean(String value) {
+			this.value = value;
+		}
+	}
+
+	@Contains("a")
+	@Contains("b")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsAAndB {
+		String message() default "AND";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ContainsAAndB
+	@Contains("c")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsAll {
+		String message() default "AND";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ContainsAll
+	@ReportAsSingleViolation
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsAllAsSingleViolation {
+		String message() default "AND";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(OR)
+	@Contains("a")
+	@Contains("b")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsAOrB {
+		String message() default "OR";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(OR)
+	@ContainsAOrB
+	@Contains("c")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsAny {
+		String message() default "OR";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(ALL_FALSE)
+	@Contains("a")
+	@Contains("b")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { })
+	public @interface ContainsNone {
+		String message() default "ALL_FALSE";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(OR)
+	@Contains("a")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = LongerThanTwoValidator.class)
+	public @interface ContainsAOrLongerThanTwo {
+		String message() default "OR";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@Repeatable(Contains.List.class)
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = ContainsValidator.class)
+	public @interface Contains {
+		String value();
+
+		String message() default "{value}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+
+		@Target({ FIELD, ANNOTATION_TYPE })
+		@Retention(RUNTIME)
+		@interface List {
+			Contains[] value();
+		}
+	}
+
+	public static class ContainsValidator implements ConstraintValidator<Contains, String> {
+
+		private String substring;
+
+		@Override
+		public void initialize(Contains constraintAnnotation) {
+			this.substring = constraintAnnotation.value();
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			EVALUATIONS.incrementAndGet();
+			return value.contains( substring );
+		}
+	}
+
+	public static class LongerThanTwoValidator implements ConstraintValidator<ContainsAOrLongerThanTwo, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			EVALUATIONS.incrementAndGet();
+			return value.length() > 2;
+		}
+	}
+}
@@ -6,15 +6,23 @@
  */
 package org.hibernate.validator.test.internal.constraintvalidators.bv;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Pattern;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraints.RegexpMatching;
 import org.hibernate.validator.internal.constraintvalidators.bv.PatternValidator;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.testutil.MyCustomStringImpl;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.hibernate.validator.testutils.ValidatorUtil;
 import org.testng.annotations.Test;
 
 /**
@@ -78,4 +86,109 @@ public void testInvalidRegularExpression() {
 		PatternValidator constraint = new PatternValidator();
 		constraint.initialize( p );
 	}
+
+	@Test
+	public void testLinearTimeMatchingEnabledForTheValidatorFactory() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.linearTimeRegexpMatching( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		// would take a very long time with a backtracking engine
+		assertThat( validator.validate( new Word( repeat( 'a', 100 ) + "!" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class ).withProperty( "value" )
+		);
+		assertThat( validator.validate( new Word( repeat( 'a', 100 ) + "b" ) ) ).isEmpty();
+
+		assertThatThrownBy( () -> validator.validate( new Repetition( "abab" ) ) )
+				.isInstanceOf( ConstraintDeclarationException.class )
+				.hasMessageStartingWith( "HV000270" );
+	}
+
+	@Test
+	public void testLinearTimeMatchingEnabledUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.LINEAR_TIME_REGEXP_MATCHING, "true" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThatThrownBy( () -> validator.validate( new Repetition( "abab" ) ) )
+				.isInstanceOf( ConstraintDeclarationException.class )
+				.hasMessageStartingWith( "HV000270" );
+	}
+
+	@Test
+	public void testMatchingEngineSelectedByPayload() {
+		Validator validator = ValidatorUtil.getConfiguration().buildValidatorFactory().getValidator();
+
+		assertThatThrownBy( () -> validator.validate( new LinearTimeRepetition( "abab" ) ) )
+				.isInstanceOf( ConstraintDeclarationException.class )
+				.hasMessageStartingWith( "HV000270" );
+
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.linearTimeRegexpMatching( true );
+		Validator linearTimeValidator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( linearTimeValidator.validate( new BacktrackingRepetition( "abab" ) ) ).isEmpty();
+		assertThat( linearTimeValidator.validate( new BacktrackingRepetition( "abba" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class ).withProperty( "value" )
+		);
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000270.*")
+	public void testLinearTimeMatchingSelectedByPayloadWhenInitializedWithTheAnnotation() {
+		ConstraintAnnotationDescriptor.Builder<Pattern> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Pattern.class );
+		descriptorBuilder.setAttribute( "regexp", "(a)\\1" );
+		descriptorBuilder.setAttribute( "payload", new Class<?>[] { RegexpMatching.LinearTime.class } );
+		Pattern p = descriptorBuilder.build().getAnnotation();
+
+		PatternValidator constraint = new PatternValidator();
+		constraint.initialize( p );
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder sb = new StringBuilder( count );
+		for ( int i = 0; i < count; i++ ) {
+			sb.append( c );
+		}
+		return sb.toString();
+	}
+
+	private static class Word {
+
+		@Pattern(regexp = "(a+)+b")
+		private final String value;
+
+		private Word(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class Repetition {
+
+		@Pattern(regexp = "(\\w+)\\1")
+		private final String value;
+
+		private Repetition(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class LinearTimeRepetition {
+
+		@Pattern(regexp = "(\\w+)\\1", payload = RegexpMatching.LinearTime.class)
+		private final String value;
+
+		private LinearTimeRepetition(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class BacktrackingRepetition {
+
+		@Pattern(regexp = "(\\w+)\\1", payload = RegexpMatching.Backtracking.class)
+		private final String value;
+
+		private BacktrackingRepetition(String value) {
+			this.value = value;
+		}
+	}
 }
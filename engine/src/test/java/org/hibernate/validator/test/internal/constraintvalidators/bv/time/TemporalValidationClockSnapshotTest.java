@@ -0,0 +1,206 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reading the current time once per validation call for the temporal constraints.
+ */
+public class TemporalValidationClockSnapshotTest {
+
+	private static final Instant START = Instant.parse( "2020-06-15T12:00:00Z" );
+
+	@Test
+	public void testCurrentTimeIsReadForEachConstraintByDefault() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Event() );
+
+		assertThat( clockProvider.clock.reads ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testCurrentTimeIsReadOncePerValidationCall() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.temporalValidationClockSnapshot( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertNoViolations( validator.validate( new Event() ) );
+		assertThat( clockProvider.clock.reads ).isEqualTo( 1 );
+
+		assertNoViolations( validator.validate( new Event() ) );
+		assertThat( clockProvider.clock.reads ).isEqualTo( 2 );
+
+		assertNoViolations( validator.validateProperty( new Event(), "start" ) );
+		assertThat( clockProvider.clock.reads ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testAllValuesAreComparedToTheSameReferenceTime() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.temporalValidationClockSnapshot( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		// each value is in the future of the snapshot but would be in the past of a later read of the ticking clock
+		Deadlines deadlines = new Deadlines( START.plusSeconds( 1 ) );
+
+		assertNoViolations( validator.validate( deadlines ) );
+		assertThat( clockProvider.clock.reads ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCurrentTimeIsReadOncePerValidationCallWhenEnabledByProperty() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.addProperty( HibernateValidatorConfiguration.TEMPORAL_VALIDATION_CLOCK_SNAPSHOT, "true" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Event() );
+
+		assertThat( clockProvider.clock.reads ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCurrentTimeIsReadOncePerValidationCallWhenEnabledForTheValidator() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.temporalValidationClockSnapshot( true )
+				.getValidator();
+
+		validator.validate( new Event() );
+
+		assertThat( clockProvider.clock.reads ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testViolationsAreReportedAgainstTheSnapshot() {
+		TickingClockProvider clockProvider = new TickingClockProvider();
+		Validator validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.temporalValidationClockSnapshot( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Deadlines deadlines = new Deadlines( START );
+
+		assertThat( validator.validate( deadlines ) )
+				.extracting( ConstraintViolation::getPropertyPath )
+				.extracting( Object::toString )
+				.containsExactlyInAnyOrder( "first", "second", "third" );
+		assertThat( clockProvider.clock.reads ).isEqualTo( 1 );
+	}
+
+	private static class Event {
+
+		@Past
+		private final Instant created = START.minusSeconds( 3600 );
+
+		@Past
+		private final Instant updated = START.minusSeconds( 60 );
+
+		@Past
+		private final LocalDate creationDate = LocalDate.of( 2020, 6, 1 );
+
+		@Past
+		private final LocalDate updateDate = LocalDate.of( 2020, 6, 14 );
+
+		@Future
+		private final LocalDateTime start = LocalDateTime.of( 2020, 7, 1, 9, 0 );
+
+		@PastOrPresent
+		private final Date published = Date.from( START.minusSeconds( 7200 ) );
+	}
+
+	private static class Deadlines {
+
+		@Future
+		private final Instant first;
+
+		@Future
+		private final Instant second;
+
+		@Future
+		private final Instant third;
+
+		private Deadlines(Instant deadline) {
+			this.first = deadline;
+			this.second = deadline;
+			this.third = deadline;
+		}
+	}
+
+	private static class TickingClockProvider implements ClockProvider {
+
+		private final TickingClock clock = new TickingClock();
+
+		@Override
+		public Clock getClock() {
+			return clock;
+		}
+	}
+
+	/**
+	 * A clock moving forward by one second each time it is read.
+	 */
+	private static class TickingClock extends Clock {
+
+		private int reads;
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return START.plusSeconds( reads++ );
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.IDN;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the email addresses and the domain names accepted by the parsers of {@link EmailValidator} and
+ * {@link DomainNameUtil} are the ones accepted by the regular expressions they replaced.
+ */
+public class EmailValidatorRegexpEquivalenceTest {
+
+	private static final String[] LOCAL_PARTS = {
+			"", "a", "A", "emmanuel", "emma-n_uel", "first.last", "first..last", ".first", "first.", "a+b", "!#$%&'*+/=?^_`{|}~-",
+			"\u00e9l\u00e8ve", "\u4e2d\u6587", "\ud83d\ude00", "a\ud83d\ude00", "\ud800", "a b", "a,b", "a\"b", "\"a b\"", "\"\"",
+			"\"a\"", "\"a\".b", "a.\"b\"", "\"a\"b", "\"a\\\\b\"", "\"a\\\"b\"", "\"a\\b\"", "\"a\\\"", "\"a@b\"", "\"a\"\"b\"",
+			"\"(),:;<>[]\"", "\"a.b\"", "\"\u00e9\"", "\"\ud83d\ude00\"", "a@b", "\"", "\"a", "a\"", "a\tb", "\"a\tb\"",
+			"1234567890123456789012345678901234567890123456789012345678901234",
+			"12345678901234567890123456789012345678901234567890123456789012345"
+	};
+
+	private static final String[] DOMAINS = {
+			"", "a", "hibernate.org", "HIBERNATE.ORG", "hi-bernate.org", "hi--bernate.org", "-hibernate.org", "hibernate-.org",
+			"hibernate..org", ".hibernate.org", "hibernate.org.", "hibernate.org-", "a.b.c.d.e", "h!#$%&'*+/=?^_`{|}~.org",
+			"h_b.org", "h b.org", "h@b.org", "h\"b.org", "xn--bcher-kva.com", "b\u00fccher.com", "\u4f8b\u3048.\u30c6\u30b9\u30c8",
+			"\ud83d\ude00.com", "a\u3002b", "\u00e9-.com", "\u00e9", "[1.2.3.4]", "[1.2.3.]", "[1.2.3]", "[1.2.3.4.5]",
+			"[1234.2.3.4]", "[999.999.999.999]", "[a.2.3.4]", "[1.2.3.4", "1.2.3.4]", "1.2.3.4", "[]", "[IPv6:::1]",
+			"[ipv6:::1]", "[IPv6:2001:db8::1]", "[IPv6:2001:0db8:85a3:0000:0000:8a2e:0370:7334]", "[IPv6:1:2:3:4:5:6:7:8:9]",
+			"[IPv6:1:2:3:4:5:6:7]", "[IPv6:1::2::3]", "[IPv6:12345::1]", "[IPv6:g::1]", "[IPv6:::]", "[IPv6::]", "[IPv6:1:]",
+			"[IPv6:1:2:3:4:5:6:7::]", "[IPv6:1:2:3:4:5:6:7:8::]", "[IPv6::1:2:3:4:5:6:7]", "[IPv6:::1:2:3:4:5:6:7]",
+			"[IPv6:::1:2:3:4:5:6:7:8]", "[IPv6:fe80::1%eth0]", "[IPv6:FE80::1%25]", "[IPv6:fe80::1%]", "[IPv6:fe80:%a]",
+			"[IPv6:fe80:::::%a]", "[IPv6:fe80::::::%a]", "[IPv6:fe80::12345%a]", "[IPv6:fe80::1%a.b]", "[IPv6:fe81::1%a]",
+			"[IPv6:::1.2.3.4]", "[IPv6:::ffff:1.2.3.4]", "[IPv6:::FFFF:1.2.3.4]", "[IPv6:::ffff:0:1.2.3.4]",
+			"[IPv6:::ffff:0000:1.2.3.4]", "[IPv6:::ffff:00000:1.2.3.4]", "[IPv6:::ffff:1:1.2.3.4]", "[IPv6:::ffff::1.2.3.4]",
+			"[IPv6:1::1.2.3.4]", "[IPv6:1:2:3:4::1.2.3.4]", "[IPv6:1:2:3:4:5::1.2.3.4]", "[IPv6:1:1.2.3.4]",
+			"[IPv6:::255.255.255.255]", "[IPv6:::256.1.1.1]", "[IPv6:::01.1.1.1]", "[IPv6:::001.1.1.1]", "[IPv6:::1.2.3]",
+			"[::1]", "[2001:db8::1]", "[fe80::1%eth0]", "[IPv6:1.2.3.4]",
+			"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.com",
+			"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.com",
+			"[IPv6:fe80::1%aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa]"
+	};
+
+	private static final String[] LOCAL_PART_ALPHABET = { "a", "Z", "0", ".", "\"", "\\", "@", " ", "-", "(", "\u00e9", "\ud83d\ude00", "\t" };
+
+	private static final String[] DOMAIN_ALPHABET = { "a", "F", "0", "1", "9", ".", "-", ":", "::", "%", "[", "]", "IPv6:", "fe80:", "ffff",
+			"255", "\u00e9", "_", "@" };
+
+	private final EmailValidator validator = new EmailValidator();
+
+	@Test
+	public void testCorpus() {
+		for ( String localPart : LOCAL_PARTS ) {
+			for ( String domain : DOMAINS ) {
+				assertSameResult( localPart + "@" + domain );
+			}
+		}
+		for ( String domain : DOMAINS ) {
+			assertSameResult( domain );
+			assertThat( DomainNameUtil.isValidDomainAddress( domain ) )
+					.as( domain )
+					.isEqualTo( RegexpDomainNameUtil.isValidDomainAddress( domain ) );
+		}
+		// 255 and 256 characters
+		assertSameResult( "a@" + String.join( ".", label( 63 ), label( 63 ), label( 63 ), label( 63 ) ) );
+		assertSameResult( "a@" + String.join( ".", label( 63 ), label( 63 ), label( 63 ), label( 62 ), label( 1 ) ) );
+		assertThat( DomainNameUtil.isValidDomainAddress( String.join( ".", label( 63 ), label( 63 ), label( 63 ), label( 63 ) ) ) ).isTrue();
+		assertThat( DomainNameUtil.isValidDomainAddress( String.join( ".", label( 63 ), label( 63 ), label( 63 ), label( 62 ), label( 1 ) ) ) )
+				.isFalse();
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 50_000; i++ ) {
+			String domain = randomString( random, DOMAIN_ALPHABET, 12 );
+			assertSameResult( randomString( random, LOCAL_PART_ALPHABET, 6 ) + "@" + domain );
+			assertSameResult( "a@[IPv6:" + randomString( random, DOMAIN_ALPHABET, 10 ) + "]" );
+			assertThat( DomainNameUtil.isValidDomainAddress( "[" + domain + "]" ) )
+					.as( domain )
+					.isEqualTo( RegexpDomainNameUtil.isValidDomainAddress( "[" + domain + "]" ) );
+		}
+	}
+
+	private void assertSameResult(String email) {
+		boolean expected = RegexpEmailValidator.isValid( email );
+		assertThat( validator.isValid( email, null ) ).as( email ).isEqualTo( expected );
+		assertThat( validator.isValid( new MyCustomStringImpl( email ), null ) ).as( email ).isEqualTo( expected );
+	}
+
+	private static String randomString(Random random, String[] alphabet, int maxLength) {
+		StringBuilder sb = new StringBuilder();
+		int length = random.nextInt( maxLength + 1 );
+		for ( int i = 0; i < length; i++ ) {
+			sb.append( alphabet[random.nextInt( alphabet.length )] );
+		}
+		return sb.toString();
+	}
+
+	private static String label(int length) {
+		StringBuilder sb = new StringBuilder();
+		for ( int i = 0; i < length; i++ ) {
+			sb.append( 'a' );
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The regular expression based implementation of the email validation previously used.
+	 */
+	private static class RegexpEmailValidator {
+
+		private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uffff-]";
+		private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uffff-]|\\\\\\\\|\\\\\\\")";
+		private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+				"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+						"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
+		);
+
+		private static boolean isValid(String value) {
+			if ( value.length() == 0 ) {
+				return true;
+			}
+			int splitPosition = value.lastIndexOf( '@' );
+			if ( splitPosition < 0 ) {
+				return false;
+			}
+			String localPart = value.substring( 0, splitPosition );
+			if ( localPart.length() > 64 || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+				return false;
+			}
+			return RegexpDomainNameUtil.isValidEmailDomainAddress( value.substring( splitPosition + 1 ) );
+		}
+	}
+
+	/**
+	 * The regular expression based implementation of the domain validation previously used.
+	 */
+	private static class RegexpDomainNameUtil {
+
+		private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uffff0-9!#$%&'*+/=?^_`{|}~]";
+		private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+		private static final String DOMAIN = DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*";
+		private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+		private static final String IP_V6_DOMAIN = "(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+		private static final Pattern DOMAIN_PATTERN = Pattern.compile( DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE );
+		private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+
+		private static boolean isValidEmailDomainAddress(String domain) {
+			return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain) {
+			return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+			if ( domain.endsWith( "." ) ) {
+				return false;
+			}
+			String asciiString;
+			try {
+				asciiString = IDN.toASCII( domain );
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+			if ( asciiString.length() > 255 ) {
+				return false;
+			}
+			return pattern.matcher( domain ).matches();
+		}
+	}
+}
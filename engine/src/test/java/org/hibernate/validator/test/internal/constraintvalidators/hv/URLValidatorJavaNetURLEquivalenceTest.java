@@ -0,0 +1,162 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.MalformedURLException;
+import java.util.Random;
+
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.internal.constraintvalidators.hv.URLValidator;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the URLs accepted by {@link URLValidator} and the protocols, hosts and ports it extracts from them are
+ * the ones of the {@code java.net.URL} constructor.
+ */
+public class URLValidatorJavaNetURLEquivalenceTest {
+
+	private static final String[] URLS = {
+			"", " ", "http", "http:", "http:/", "http://", "http:///", "http:////", "http://///a", "http://a", "HTTP://a",
+			"hTtPs://a", "ftp://a", "file://a", "FILE:/a", "file:a", "file:///a", "file:////a/b", "file://a\\b",
+			"file:\\\\a\\b", "https://www.hibernate.org/validator/?a=b#c", "http://a:80", "http://a:", "http://a:080",
+			"http://a:+80", "http://a:-1", "http://a:-0", "http://a:-2", "http://a:+", "http://a:-", "http://a:8a",
+			"http://a:2147483647", "http://a:2147483648", "http://a:99999999999999999999", "http://a:\u0668\u0660",
+			"http://a:\uff18\uff10", "http://a:80:80", "http://a::80", "http://:80", "http://@", "http://@a", "http://u@a",
+			"http://u:p@a:21", "http://u@v@a", "http://u@v@a:x", "http://u@[x]", "http://u@v@[x]", "http://a@b/c@d",
+			"http://a?b@c", "http://a#b@c", "http://a/b?c#d", "http://a?b/c", "http://a#b?c", "http://a?", "http://a#",
+			"http://?a", "http://#a", "http:?a", "http:#a", "http:a", "http:/a", "http://[::1]", "http://[::1]:80",
+			"http://[::1]:", "http://[::1]80", "http://[::1", "http://::1]", "http://[]", "http://[:]", "http://[::]",
+			"http://[1]", "http://[12]", "http://[::1]]", "http://[[::1]]", "http://[1:2:3:4:5:6:7:8]",
+			"http://[1:2:3:4:5:6:7:8:9]", "http://[1:2:3:4:5:6:7]", "http://[1::2::3]", "http://[12345::1]",
+			"http://[g::1]", "http://[1:]", "http://[:1]", "http://[1:2:3:4:5:6:7::]", "http://[::1:2:3:4:5:6:7]",
+			"http://[1:2:3:4:5:6:7:8::]", "http://[fe80::1%eth0]", "http://[fe80::1%25eth0]:8080", "http://[fe80::1%]",
+			"http://[::%a]", "http://[:%a]", "http://[fe80::1%a/b]", "http://[fe80::1%\u0001]", "http://[::1.2.3.4]",
+			"http://[::ffff:1.2.3.4]", "http://[::ffff:255.255.255.255]", "http://[::256.1.1.1]", "http://[::1.2.3]",
+			"http://[::1.2.3.4.5]", "http://[::01.002.0003.4]", "http://[::0000000001.2.3.4]", "http://[::1.2.3.4:1]",
+			"http://[1:2:3:4:5:6:1.2.3.4]", "http://[1:2:3:4:5:6:7:1.2.3.4]", "http://[1:2:3:4:5::1.2.3.4]",
+			"http://[::a.2.3.4]", "http://[::1.2.3.\u0664]", "http://[::\uff11]", "http://[ABCD:EF::1]", "http://a b",
+			"http://a\u0000b", "http://a\u001fb", "http://a\u007fb", "http://a\u0080b", "http://a\u2047b", "http://a\uff0fb",
+			"http://a\uff20b", "http://a\ufe6bb", "http://a\u2a74b", "http://\u00e9t\u00e9.fr", "http://\u4f8b\u3048.jp",
+			"http://\ud83d\ude00.com", " http://a ", "\thttp://a\n", "\u0000http://a\u0000", "url:http://a", "URL:http://a",
+			"Url:Url:http://a", "url:", "url:#a", "#http://a", " #http://a", "http#://a", "/http://a", "ht/tp://a",
+			"ht tp://a", ":http://a", "1http://a", "h1+.-://a", "\u00e9http://a", "\u0130http://a", "h\u0130://a",
+			"\u212ahttp://a", "httpS://a", "https\u0000://a", "foo://a", "foo:", "FOO://a:80", "jar:file:/a!/b", "jar:a",
+			"mailto:a@b", "jrt:/java.base", "rdar://1234", "h://test", "ftps://a", "http://a.b.c/d/e/f?g=h&i=j#k",
+			"http://-.~_!$&'()*+,;=:%40:80%2f::::::@example.com", "http://\u27a1.ws/\u4a39", "file://Users/foobar/tmp",
+			"http://www.hibernate.org:80", "http://[2001:0db8:0a0b:12f0:0000:0000:0000:0001]", "http://1.2.3.4:65536",
+			"http://a/\\b", "http://a\\b", "http://a\\b:80", "https:////a", "http:a/b:80"
+	};
+
+	private static final String[] ALPHABET = {
+			"http", "HTTP", "https", "ftp", "file", "foo", "url:", ":", "/", "//", "\\", "@", "[", "]", "::", "0", "1", "80", "65536",
+			"ffff", "fe80", ".", "%", "?", "#", "-", "+", "a", "\u00e9", " ", "\t", "\u0000", "\uff0f", "\u0663"
+	};
+
+	@Test
+	public void testCorpus() {
+		for ( String url : URLS ) {
+			assertSameResult( url );
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			StringBuilder url = new StringBuilder();
+			int length = random.nextInt( 12 );
+			for ( int j = 0; j < length; j++ ) {
+				url.append( ALPHABET[random.nextInt( ALPHABET.length )] );
+			}
+			assertSameResult( url.toString() );
+		}
+	}
+
+	private void assertSameResult(String value) {
+		assertSameResult( value, "", "", -1 );
+		assertSameResult( value, "http", "", -1 );
+		assertSameResult( value, "foo", "", -1 );
+		assertSameResult( value, "", "a", -1 );
+		assertSameResult( value, "", "[::1]", -1 );
+		assertSameResult( value, "", "", 80 );
+		assertSameResult( value, "", "", 0 );
+
+		java.net.URL url = createURL( value );
+		if ( url != null ) {
+			// the components extracted are the ones of java.net.URL
+			assertThat( validator( url.getProtocol(), url.getHost(), url.getPort() ).isValid( value, null ) )
+					.as( "%s with the protocol %s, the host %s and the port %s", value, url.getProtocol(), url.getHost(), url.getPort() )
+					.isTrue();
+		}
+	}
+
+	private void assertSameResult(String value, String protocol, String host, int port) {
+		URLValidator validator = validator( protocol, host, port );
+		boolean expected = JavaNetURLValidator.isValid( value, protocol, host, port );
+		assertThat( validator.isValid( value, null ) )
+				.as( "%s with the protocol %s, the host %s and the port %s", value, protocol, host, port )
+				.isEqualTo( expected );
+		assertThat( validator.isValid( new MyCustomStringImpl( value ), null ) )
+				.as( "%s with the protocol %s, the host %s and the port %s", value, protocol, host, port )
+				.isEqualTo( value.isEmpty() || expected );
+	}
+
+	private static URLValidator validator(String protocol, String host, int port) {
+		ConstraintAnnotationDescriptor.Builder<URL> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( URL.class );
+		descriptorBuilder.setAttribute( "protocol", protocol );
+		descriptorBuilder.setAttribute( "host", host );
+		descriptorBuilder.setAttribute( "port", port );
+
+		URLValidator validator = new URLValidator();
+		validator.initialize( descriptorBuilder.build().getAnnotation() );
+		return validator;
+	}
+
+	private static java.net.URL createURL(String value) {
+		try {
+			return new java.net.URL( value );
+		}
+		catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The implementation of {@link URLValidator} creating a {@code java.net.URL}.
+	 */
+	private static class JavaNetURLValidator {
+
+		private static boolean isValid(String value, String protocol, String host, int port) {
+			if ( value.length() == 0 ) {
+				return true;
+			}
+
+			java.net.URL url = createURL( value );
+			if ( url == null ) {
+				return false;
+			}
+
+			if ( protocol.length() > 0 && !url.getProtocol().equals( protocol ) ) {
+				return false;
+			}
+
+			if ( host.length() > 0 && !url.getHost().equals( host ) ) {
+				return false;
+			}
+
+			if ( port != -1 && url.getPort() != port ) {
+				return false;
+			}
+
+			return true;
+		}
+	}
+}
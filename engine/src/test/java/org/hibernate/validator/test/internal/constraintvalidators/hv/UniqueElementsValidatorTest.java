@@ -26,6 +26,7 @@
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.constraints.UniqueElements;
 import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.internal.constraintvalidators.hv.UniqueElementsValidator;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.resourceloading.AggregateResourceBundleLocator;
 import org.hibernate.validator.testutils.ValidatorUtil;
@@ -134,6 +135,55 @@ public void testDymanicPayloadContainsDuplicatedValue() {
 				.containsOnly( duplicate );
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDynamicPayloadContainsAllDuplicatedValuesInOrder() {
+		List<Object> smallCollection = Arrays.asList( "a", "b", "a", null, "c", "b", null, "a" );
+		List<Object> largeCollection = new ArrayList<>( smallCollection );
+		for ( int i = 0; i < 20; i++ ) {
+			largeCollection.add( 3, "unique" + i );
+		}
+
+		for ( List<Object> value : Arrays.asList( smallCollection, largeCollection ) ) {
+			Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( value ) );
+
+			assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+
+			ConstraintViolation<?> violation = violations.iterator().next();
+			Assertions.assertThat( ( (HibernateConstraintViolation<UniqueElements>) violation.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class ) )
+					.containsExactly( "a", "b", null, "a" );
+		}
+	}
+
+	@Test
+	public void testValidatorWithoutHibernateContext() {
+		UniqueElementsValidator validator = new UniqueElementsValidator();
+
+		Assertions.assertThat( validator.isValid( Arrays.asList( "a", "b", "a" ), null ) ).isFalse();
+		Assertions.assertThat( validator.isValid( Arrays.asList( "a", "b", "c" ), null ) ).isTrue();
+
+		List<Object> largeCollection = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			largeCollection.add( i );
+		}
+		Assertions.assertThat( validator.isValid( largeCollection, null ) ).isTrue();
+		largeCollection.add( 10 );
+		Assertions.assertThat( validator.isValid( largeCollection, null ) ).isFalse();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReportedDuplicatesAreNotAffectedByLaterChangesOfTheCollection() {
+		List<Object> value = new ArrayList<>( Arrays.asList( "a", "a", "b", "b" ) );
+		Set<ConstraintViolation<AnnotationContainer>> violations = ValidatorUtil.getValidator().validate( new AnnotationContainer( value ) );
+		value.clear();
+
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+		List<Object> duplicates = ( (HibernateConstraintViolation<UniqueElements>) violations.iterator().next()
+				.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class );
+		Assertions.assertThat( duplicates ).containsExactly( "a", "b" );
+	}
+
 	private static class TestObject {
 
 		private final int value;
@@ -0,0 +1,248 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.DetachedConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the constraint violations not retaining the validated objects.
+ */
+public class DetachedConstraintViolationTest {
+
+	@Test
+	public void testDetachedConstraintViolationsDoNotRetainTheValidatedObjects() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.detachedConstraintViolations( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Order order = new Order( new Item( null, 0 ) );
+		Set<ConstraintViolation<Order>> violations = validator.validate( order );
+
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith().property( "items" ).property( "name", true, null, 0, List.class, 0 ) )
+						.withMessage( "must not be null" )
+						.withRootBeanClass( Order.class ),
+				violationOf( Min.class )
+						.withPropertyPath( pathWith().property( "items" ).property( "quantity", true, null, 0, List.class, 0 ) )
+						.withMessage( "must be greater than or equal to 1" )
+						.withRootBeanClass( Order.class )
+		);
+
+		for ( ConstraintViolation<Order> violation : violations ) {
+			assertThat( violation ).isInstanceOf( DetachedConstraintViolationImpl.class );
+			assertThat( violation.getRootBean() ).isNull();
+			assertThat( violation.getLeafBean() ).isNull();
+			assertThat( violation.getInvalidValue() ).isNull();
+			assertThat( violation.getPropertyPath().toString() ).startsWith( "items[0]." );
+			for ( Path.Node node : violation.getPropertyPath() ) {
+				assertThat( ( (NodeImpl) node ).getValue() ).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void testDetachedConstraintViolationsForDistinctValuesAtTheSamePathAreNotMerged() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.detachedConstraintViolations( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Tags>> violations = validator.validate( new Tags( "", " " ) );
+
+		assertThat( violations ).hasSize( 2 );
+		assertThat( violations ).allMatch( violation -> violation.getPropertyPath().toString().equals( "tags[].<iterable element>" ) );
+	}
+
+	@Test
+	public void testDetachedConstraintViolationsDoNotRetainTheMapKeys() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.detachedConstraintViolations( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Labels>> violations = validator.validate( new Labels( new Label( "color" ), "" ) );
+
+		assertThat( violations ).hasSize( 1 );
+		ConstraintViolation<Labels> violation = violations.iterator().next();
+		assertThat( violation.getPropertyPath().toString() ).isEqualTo( "labels[color].<map value>" );
+		// the key is replaced by its string representation
+		Path.Node leafNode = null;
+		for ( Path.Node node : violation.getPropertyPath() ) {
+			leafNode = node;
+		}
+		assertThat( leafNode.getKey() ).isEqualTo( "color" );
+	}
+
+	@Test
+	public void testDuplicatedDetachedConstraintViolationsAreMerged() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.detachedConstraintViolations( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Sku>> violations = validator.validate( new Sku( "x" ) );
+
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( ReportedTwice.class ).withProperty( "code" ).withMessage( "invalid" )
+		);
+		assertThat( violations.iterator().next() ).isNotEqualTo( validator.validate( new Sku( "x" ) ).iterator().next() );
+	}
+
+	@Test
+	public void testDetachedConstraintViolationsEnabledUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.DETACHED_CONSTRAINT_VIOLATIONS, "true" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Item>> violations = validator.validate( new Item( null, 1 ) );
+
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+		assertThat( violations.iterator().next() ).isInstanceOf( DetachedConstraintViolationImpl.class );
+	}
+
+	@Test
+	public void testDetachedConstraintViolationsEnabledForAValidator() {
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration().buildValidatorFactory();
+
+		Validator detachingValidator = validatorFactory.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.detachedConstraintViolations( true )
+				.getValidator();
+		Item item = new Item( null, 1 );
+
+		ConstraintViolation<Item> violation = detachingValidator.validate( item ).iterator().next();
+		assertThat( violation ).isInstanceOf( DetachedConstraintViolationImpl.class );
+		assertThat( violation.getRootBean() ).isNull();
+
+		violation = validatorFactory.getValidator().validate( item ).iterator().next();
+		assertThat( violation ).isInstanceOf( ConstraintViolationImpl.class );
+		assertThat( violation.getRootBean() ).isSameAs( item );
+	}
+
+	private static class Order {
+
+		private final List<@Valid Item> items;
+
+		private Order(Item... items) {
+			this.items = new ArrayList<>( Arrays.asList( items ) );
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private final String name;
+
+		@Min(1)
+		private final int quantity;
+
+		private Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Labels {
+
+		private final Map<Label, @NotBlank String> labels;
+
+		private Labels(Label label, String value) {
+			this.labels = Collections.singletonMap( label, value );
+		}
+	}
+
+	private static class Label {
+
+		private final String name;
+
+		private Label(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static class Sku {
+
+		@ReportedTwice
+		private final String code;
+
+		private Sku(String code) {
+			this.code = code;
+		}
+	}
+
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = ReportedTwiceValidator.class)
+	public @interface ReportedTwice {
+		String message() default "invalid";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ReportedTwiceValidator implements ConstraintValidator<ReportedTwice, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "invalid" ).addConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "invalid" ).addConstraintViolation();
+			return false;
+		}
+	}
+
+	private static class Tags {
+
+		private final Set<@NotBlank String> tags;
+
+		private Tags(String... tags) {
+			this.tags = new HashSet<>( Arrays.asList( tags ) );
+		}
+	}
+}
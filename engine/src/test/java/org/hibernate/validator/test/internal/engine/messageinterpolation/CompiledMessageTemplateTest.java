@@ -0,0 +1,172 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that interpolating a message through a cached compiled template gives the same result as the regular
+ * interpolation algorithm, including when the template cannot be rendered in a single pass.
+ */
+public class CompiledMessageTemplateTest {
+
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	private MessageInterpolator cachingInterpolator;
+
+	private MessageInterpolator nonCachingInterpolator;
+
+	@BeforeClass
+	public void setUp() {
+		ConstraintAnnotationDescriptor.Builder<Size> sizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		sizeAnnotationDescriptorBuilder.setAttribute( "min", 2 );
+		sizeAnnotationDescriptorBuilder.setAttribute( "max", 10 );
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				sizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		cachingInterpolator = new ResourceBundleMessageInterpolator( null, true );
+		nonCachingInterpolator = new ResourceBundleMessageInterpolator( null, false );
+	}
+
+	@DataProvider(name = "messages")
+	public Object[][] messages() {
+		return new Object[][] {
+				{ "constant message" },
+				{ "constant \\{escaped\\} message" },
+				{ "size must be between {min} and {max}" },
+				{ "{min}{max}" },
+				{ "${min} and ${max}" },
+				{ "${min + max} and ${validatedValue}" },
+				{ "${unknown} and {unknown}" },
+				{ "value {plain} and ${plain}" },
+				{ "value {braces} and ${braces}" },
+				{ "value {dollar} and ${dollar}" },
+				{ "value {backslash} and ${backslash}" },
+				{ "value {empty} and ${empty}" },
+				{ "value {elExpression}" },
+				{ "price: \\$ {min}" },
+				{ "price: $ {min}" },
+				{ "price: $$ {min}" },
+				{ "{min} \\{max\\}" },
+				{ "{jakarta.validation.constraints.Size.message}" },
+				{ "${validatedValue == null ? 'null' : 'not null'}" },
+				{ "unbalanced {min" },
+		};
+	}
+
+	@Test(dataProvider = "messages")
+	public void testCompiledTemplateRendersTheSameMessageAsTheRegularAlgorithm(String message) {
+		for ( ExpressionLanguageFeatureLevel featureLevel : ExpressionLanguageFeatureLevel.values() ) {
+			if ( featureLevel == ExpressionLanguageFeatureLevel.DEFAULT ) {
+				continue;
+			}
+			MessageInterpolator.Context context = createContext( featureLevel );
+
+			String expected = interpolate( nonCachingInterpolator, message, context );
+			// render twice to make sure the cached template is used
+			assertEquals( interpolate( cachingInterpolator, message, context ), expected, featureLevel.name() );
+			assertEquals( interpolate( cachingInterpolator, message, context ), expected, featureLevel.name() );
+		}
+	}
+
+	@Test(dataProvider = "messages")
+	public void testMessageCachedPerDescriptorIsTheSameAsTheRegularAlgorithm(String message) {
+		for ( Object validatedValue : new Object[] { "validated", 42, null } ) {
+			MessageInterpolator.Context context = createContextWithoutMessageParameters( validatedValue );
+
+			assertEquals( interpolate( cachingInterpolator, message, context ), interpolate( nonCachingInterpolator, message, context ) );
+		}
+	}
+
+	@Test
+	public void testMessageIndependentOfTheValidatedValueIsSharedByTheViolations() {
+		String message = "{jakarta.validation.constraints.Size.message}";
+		String firstMessage = interpolate( cachingInterpolator, message, createContextWithoutMessageParameters( "first" ) );
+		String secondMessage = interpolate( cachingInterpolator, message, createContextWithoutMessageParameters( "second" ) );
+
+		assertEquals( firstMessage, "size must be between 2 and 10" );
+		assertSame( secondMessage, firstMessage );
+
+		String valueDependentMessage = "${validatedValue} {jakarta.validation.constraints.Size.message}";
+		assertEquals( interpolate( cachingInterpolator, valueDependentMessage, createContextWithoutMessageParameters( "first" ) ),
+				"first size must be between 2 and 10" );
+		assertEquals( interpolate( cachingInterpolator, valueDependentMessage, createContextWithoutMessageParameters( "second" ) ),
+				"second size must be between 2 and 10" );
+
+		// the messages reported with custom message parameters are not shared
+		assertNotSame( interpolate( cachingInterpolator, message, createContext( ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ) ),
+				interpolate( cachingInterpolator, message, createContext( ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ) ) );
+	}
+
+	private MessageInterpolator.Context createContextWithoutMessageParameters(Object validatedValue) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>emptyMap(),
+				ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+				false
+		);
+	}
+
+	private MessageInterpolator.Context createContext(ExpressionLanguageFeatureLevel featureLevel) {
+		Map<String, Object> messageParameters = new HashMap<>();
+		messageParameters.put( "plain", "plain value" );
+		messageParameters.put( "braces", "{min}" );
+		messageParameters.put( "dollar", "$" );
+		messageParameters.put( "backslash", "\\" );
+		messageParameters.put( "empty", "" );
+		messageParameters.put( "elExpression", "${min}" );
+
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				"validated",
+				null,
+				null,
+				messageParameters,
+				Collections.<String, Object>emptyMap(),
+				featureLevel,
+				true
+		);
+	}
+
+	private static String interpolate(MessageInterpolator interpolator, String message, MessageInterpolator.Context context) {
+		try {
+			return interpolator.interpolate( message, context, Locale.ENGLISH );
+		}
+		catch (RuntimeException e) {
+			return e.getClass().getName();
+		}
+	}
+}
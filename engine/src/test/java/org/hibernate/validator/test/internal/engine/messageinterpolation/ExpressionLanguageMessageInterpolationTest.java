@@ -367,6 +367,24 @@ public void testSingleEscapedQuoteInELExpression() {
 		);
 	}
 
+	@Test
+	public void testCachedExpressionIsEvaluatedWithTheVariablesOfEachContext() {
+		for ( int i = 0; i < 3; i++ ) {
+			MessageInterpolator.Context context = new MessageInterpolatorContext(
+					sizeDescriptor,
+					"value" + i,
+					null,
+					null,
+					Collections.<String, Object>emptyMap(),
+					Collections.<String, Object>singletonMap( "count", i ),
+					ExpressionLanguageFeatureLevel.VARIABLES,
+					false );
+
+			String actual = interpolatorUnderTest.interpolate( "${validatedValue} ${count} ${min + 1}", context );
+			assertEquals( actual, "value" + i + " " + i + " 1", "Wrong substitution" );
+		}
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContextELBeanMethods(ConstraintDescriptorImpl<?> descriptor) {
 		return createMessageInterpolatorContext( descriptor, ExpressionLanguageFeatureLevel.BEAN_METHODS );
 	}
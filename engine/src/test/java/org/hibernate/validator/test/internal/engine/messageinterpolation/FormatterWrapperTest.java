@@ -0,0 +1,85 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.testng.Assert.assertEquals;
+
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the {@link FormatterWrapper} reusing the formatters behaves as a dedicated {@link Formatter}.
+ */
+public class FormatterWrapperTest {
+
+	@Test
+	public void testFormatsWithTheLocaleOfTheWrapper() {
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%1$.2f", 1.5 ), "1.50" );
+		assertEquals( new FormatterWrapper( Locale.FRENCH ).format( "%1$.2f", 1.5 ), "1,50" );
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%1$.2f", 1.5 ), "1.50" );
+	}
+
+	@Test
+	public void testFormatsWithAlternatingLocales() {
+		Locale[] locales = { Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ITALIAN, Locale.JAPANESE, Locale.US, Locale.CANADA_FRENCH };
+
+		for ( int i = 0; i < 3; i++ ) {
+			for ( Locale locale : locales ) {
+				assertEquals( new FormatterWrapper( locale ).format( "%1$.2f", 1.5 ), String.format( locale, "%1$.2f", 1.5 ), locale.toString() );
+			}
+		}
+	}
+
+	@Test
+	public void testOutputIsAppendedToTheOutputOfThePreviousCalls() {
+		FormatterWrapper formatterWrapper = new FormatterWrapper( Locale.ENGLISH );
+		Formatter formatter = new Formatter( Locale.ENGLISH );
+
+		assertEquals( formatterWrapper.format( "%s", "first" ), formatter.format( "%s", "first" ).toString() );
+		assertEquals( formatterWrapper.format( "-%s", "second" ), formatter.format( "-%s", "second" ).toString() );
+
+		// another wrapper does not see the output of the first one
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%s", "third" ), "third" );
+	}
+
+	@Test
+	public void testNestedFormattingDoesNotShareTheFormatter() {
+		Object nested = new Object() {
+
+			@Override
+			public String toString() {
+				return new FormatterWrapper( Locale.ENGLISH ).format( "<%s>", "nested" );
+			}
+		};
+
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "before %s after", nested ), "before <nested> after" );
+	}
+
+	@Test
+	public void testLargeOutputs() {
+		StringBuilder largeValue = new StringBuilder();
+		for ( int i = 0; i < 5000; i++ ) {
+			largeValue.append( 'a' );
+		}
+
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%s", largeValue ), largeValue.toString() );
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%s", "small" ), "small" );
+	}
+
+	@Test
+	public void testFailedFormattingDoesNotAffectTheNextCalls() {
+		assertThatThrownBy( () -> new FormatterWrapper( Locale.ENGLISH ).format( "%d", "not a number" ) )
+				.isInstanceOf( IllegalFormatException.class );
+
+		assertEquals( new FormatterWrapper( Locale.ENGLISH ).format( "%d", 42 ), "42" );
+	}
+}
@@ -9,10 +9,15 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertFalse;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.HibernateValidator;
@@ -42,6 +47,23 @@ public void testLocaleResolver() {
 				.isEqualTo( "deve essere false" );
 	}
 
+	@Test
+	public void testLocaleIsResolvedOncePerValidationCall() {
+		CountingLocaleResolver localeResolver = new CountingLocaleResolver();
+		Validator validator = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.localeResolver( localeResolver )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Bean() ) ).extracting( violation -> violation.getMessage() )
+				.containsOnly( "doit avoir la valeur faux", "ne doit pas être nul", "la taille doit être comprise entre 2 et 10" );
+		assertThat( localeResolver.invocations.get() ).isEqualTo( 1 );
+
+		validator.validate( new Bean() );
+		assertThat( localeResolver.invocations.get() ).isEqualTo( 2 );
+	}
+
 	@Test
 	public void shouldApplyLocaleResolverConfiguredInValidationXml() {
 		runWithCustomValidationXml( "locale-resolver-validation.xml", new Runnable() {
@@ -79,6 +101,29 @@ public Locale resolve(LocaleResolverContext context) {
 		}
 	}
 
+	private static class CountingLocaleResolver implements LocaleResolver {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public Locale resolve(LocaleResolverContext context) {
+			invocations.incrementAndGet();
+			return Locale.FRANCE;
+		}
+	}
+
+	private static class Bean {
+
+		@AssertFalse
+		private boolean assertFalse = true;
+
+		@NotNull
+		private String notNull;
+
+		@Size(min = 2, max = 10)
+		private String size = "a";
+	}
+
 	private static class TestContext implements MessageInterpolator.Context {
 
 		@Override
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.MessageCatalog;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the message catalog flattening the resource bundles per locale.
+ */
+public class MessageCatalogTest {
+
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	@BeforeClass
+	public void setUp() {
+		ConstraintAnnotationDescriptor.Builder<Size> sizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		sizeAnnotationDescriptorBuilder.setAttribute( "min", 2 );
+		sizeAnnotationDescriptorBuilder.setAttribute( "max", 10 );
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				sizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+	}
+
+	@Test
+	public void testCatalogResolvesTheSameMessagesAsTheResourceBundles() {
+		RecordingResourceBundleLocator userResourceBundleLocator = new RecordingResourceBundleLocator();
+		Set<Locale> locales = new HashSet<>( Arrays.asList( Locale.FRENCH, Locale.GERMAN ) );
+
+		MessageInterpolator withCatalog = new ResourceBundleMessageInterpolator( userResourceBundleLocator, null, locales, Locale.ENGLISH,
+				new DefaultLocaleResolver(), false, false, true );
+		MessageInterpolator withoutCatalog = new ResourceBundleMessageInterpolator( userResourceBundleLocator, null, locales, Locale.ENGLISH,
+				new DefaultLocaleResolver(), false, false, false );
+
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				sizeDescriptor,
+				"value",
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>emptyMap(),
+				ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+				false
+		);
+
+		for ( Locale locale : Arrays.asList( Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ITALIAN ) ) {
+			for ( String message : Arrays.asList(
+					"{jakarta.validation.constraints.Size.message}",
+					"{jakarta.validation.constraints.NotNull.message}",
+					"{custom.message}",
+					"{custom.reference}",
+					"{unknown.key}",
+					"{custom.message} and {custom.reference}",
+					"{org.hibernate.validator.constraints.Length.message}"
+			) ) {
+				assertEquals(
+						withCatalog.interpolate( message, context, locale ),
+						withoutCatalog.interpolate( message, context, locale ),
+						message + " for " + locale
+				);
+			}
+		}
+
+		assertEquals( withCatalog.interpolate( "{custom.reference}", context, Locale.ENGLISH ), "Size must be between 2 and 10" );
+	}
+
+	@Test
+	public void testCatalogOfTheConfiguredLocalesIsBuiltAtInitialization() {
+		RecordingResourceBundleLocator userResourceBundleLocator = new RecordingResourceBundleLocator();
+
+		new ResourceBundleMessageInterpolator( userResourceBundleLocator, null, Collections.singleton( Locale.FRENCH ), Locale.ENGLISH,
+				new DefaultLocaleResolver(), false, true, true );
+
+		assertTrue( userResourceBundleLocator.requestedLocales.contains( Locale.FRENCH ) );
+		assertTrue( userResourceBundleLocator.requestedLocales.contains( Locale.ENGLISH ) );
+	}
+
+	@Test
+	public void testNumberOfCatalogsIsBounded() {
+		RecordingResourceBundleLocator resourceBundleLocator = new RecordingResourceBundleLocator();
+		MessageCatalog messageCatalog = new MessageCatalog( Collections.singletonList( resourceBundleLocator ),
+				(message, locale) -> message, Collections.singleton( Locale.FRENCH ) );
+
+		Locale firstLocale = new Locale( "xx", "0" );
+		messageCatalog.getResolvedMessage( "{custom.message}", firstLocale );
+		for ( int i = 1; i < 1000; i++ ) {
+			messageCatalog.getResolvedMessage( "{custom.message}", new Locale( "xx", String.valueOf( i ) ) );
+		}
+
+		resourceBundleLocator.requestedLocales.clear();
+		messageCatalog.getResolvedMessage( "{custom.message}", Locale.FRENCH );
+		messageCatalog.getResolvedMessage( "{custom.message}", firstLocale );
+
+		assertEquals( resourceBundleLocator.requestedLocales, Collections.singleton( firstLocale ) );
+	}
+
+	@Test
+	public void testMessageCatalogEnabledInConfiguration() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.messageCatalogEnabled( true );
+		configuration.defaultLocale( Locale.ENGLISH );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( validator.validate( new Bean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withMessage( "must not be null" )
+		);
+	}
+
+	@Test
+	public void testMessageCatalogEnabledUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.MESSAGE_CATALOG_ENABLED, "true" );
+		configuration.defaultLocale( Locale.ENGLISH );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( validator.validate( new Bean() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withMessage( "must not be null" )
+		);
+	}
+
+	private static class Bean {
+
+		@NotNull
+		private String property;
+	}
+
+	private static class RecordingResourceBundleLocator implements ResourceBundleLocator {
+
+		private final Set<Locale> requestedLocales = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public ResourceBundle getResourceBundle(Locale locale) {
+			requestedLocales.add( locale );
+			return new ListResourceBundle() {
+
+				@Override
+				protected Object[][] getContents() {
+					return new Object[][] {
+							{ "custom.message", "Custom message for " + locale },
+							{ "custom.reference", "Size must be between {min} and {max}" },
+							{ "jakarta.validation.constraints.NotNull.message", "Custom not null" },
+							{ "invalid.message", "{unbalanced" }
+					};
+				}
+			};
+		}
+	}
+}
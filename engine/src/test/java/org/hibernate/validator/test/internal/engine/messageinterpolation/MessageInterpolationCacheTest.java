@@ -0,0 +1,166 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the configuration of the caches of the message interpolator and the exclusion of the dynamic message
+ * templates.
+ */
+public class MessageInterpolationCacheTest {
+
+	@Test
+	public void testDynamicMessageTemplatesAreInterpolated() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.messageInterpolationCacheMaxSize( 1 );
+		configuration.customViolationExpressionLanguageFeatureLevel( ExpressionLanguageFeatureLevel.VARIABLES );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( validator.validate( new Bean( "value" + i ) ) ).containsOnlyViolations(
+					violationOf( DynamicMessage.class ).withMessage( "Invalid value" + i + " (2 characters)" ),
+					violationOf( DynamicMessage.class ).withMessage( "must not be null" )
+			);
+		}
+	}
+
+	@Test
+	public void testDynamicMessageTemplateIsExposedToTheMessageInterpolator() {
+		RecordingMessageInterpolator messageInterpolator = new RecordingMessageInterpolator(
+				ValidatorUtil.getConfiguration().getDefaultMessageInterpolator() );
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.customViolationExpressionLanguageFeatureLevel( ExpressionLanguageFeatureLevel.VARIABLES )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Bean( "value" ) );
+
+		assertEquals( messageInterpolator.dynamicMessageTemplates, Collections.singletonList( "Invalid value (${length} characters)" ) );
+		assertEquals( messageInterpolator.staticMessageTemplates, Collections.singletonList( "{jakarta.validation.constraints.NotNull.message}" ) );
+	}
+
+	@Test
+	public void testInvalidMaxSize() {
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.MESSAGE_INTERPOLATION_CACHE_MAX_SIZE, "none" )
+				.buildValidatorFactory() )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000269" );
+
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration().messageInterpolationCacheMaxSize( 0 ) )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000269" );
+	}
+
+	@Test
+	public void testMaxSizeDefinedUsingProperty() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.MESSAGE_INTERPOLATION_CACHE_MAX_SIZE, "1" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Bean( "value" ) ) ).containsOnlyViolations(
+				violationOf( DynamicMessage.class ).withMessage( "Invalid value (${length} characters)" ),
+				violationOf( DynamicMessage.class ).withMessage( "must not be null" )
+		);
+	}
+
+	@DynamicMessage
+	private static class Bean {
+
+		private final String value;
+
+		private Bean(String value) {
+			this.value = value;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = DynamicMessageValidator.class)
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	public @interface DynamicMessage {
+
+		String message() default "{jakarta.validation.constraints.NotNull.message}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class DynamicMessageValidator implements ConstraintValidator<DynamicMessage, Bean> {
+
+		@Override
+		public boolean isValid(Bean bean, ConstraintValidatorContext context) {
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.addExpressionVariable( "length", 2 );
+			hibernateContext.buildConstraintViolationWithTemplate( "Invalid " + bean.value + " (${length} characters)" )
+					.dynamicMessageTemplate()
+					.addConstraintViolation();
+			return false;
+		}
+	}
+
+	private static class RecordingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate;
+
+		private final List<String> dynamicMessageTemplates = new ArrayList<>();
+
+		private final List<String> staticMessageTemplates = new ArrayList<>();
+
+		private RecordingMessageInterpolator(MessageInterpolator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			if ( ( (MessageInterpolatorContext) context ).isDynamicMessageTemplate() ) {
+				dynamicMessageTemplates.add( messageTemplate );
+			}
+			else {
+				staticMessageTemplates.add( messageTemplate );
+			}
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+}
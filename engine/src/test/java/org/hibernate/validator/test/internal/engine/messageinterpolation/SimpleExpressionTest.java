@@ -0,0 +1,151 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.el.ELContext;
+import jakarta.el.ExpressionFactory;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.ElExpressionCache;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationVariables;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.sun.el.ExpressionFactoryImpl;
+
+/**
+ * Checks that the built-in evaluator gives the same results as the Expression Language implementation for the
+ * supported subset of expressions.
+ */
+public class SimpleExpressionTest {
+
+	private ElExpressionCache expressionCache;
+
+	private Map<String, Object> attributes;
+
+	@BeforeClass
+	public void setUp() {
+		expressionCache = new ElExpressionCache( new ExpressionFactoryImpl() );
+
+		attributes = new HashMap<>();
+		attributes.put( "min", 2 );
+		attributes.put( "max", 10L );
+		attributes.put( "message", "{jakarta.validation.constraints.Size.message}" );
+		attributes.put( "nullAttribute", null );
+		attributes.put( "enabled", true );
+		attributes.put( "decimal", new BigDecimal( "2.5" ) );
+		attributes.put( "enumValue", Thread.State.NEW );
+	}
+
+	@DataProvider(name = "supportedExpressions")
+	public Object[][] supportedExpressions() {
+		return new Object[][] {
+				{ "${validatedValue}" },
+				{ "${ validatedValue }" },
+				{ "${min}" },
+				{ "${message}" },
+				{ "${nullAttribute}" },
+				{ "${enumValue}" },
+				{ "${'literal'}" },
+				{ "${\"double quoted\"}" },
+				{ "${'it\\'s'}" },
+				{ "${42}" },
+				{ "${true}" },
+				{ "${null}" },
+				{ "${min == 2}" },
+				{ "${min != max}" },
+				{ "${min < max}" },
+				{ "${min >= 2}" },
+				{ "${max <= 9}" },
+				{ "${validatedValue == null}" },
+				{ "${null >= null}" },
+				{ "${nullAttribute < 1}" },
+				{ "${'a' < 'b'}" },
+				{ "${enabled == true}" },
+				{ "${min > 1 ? 'items' : 'item'}" },
+				{ "${validatedValue == null ? 'null' : validatedValue}" },
+				{ "${nullAttribute ? 'yes' : 'no'}" },
+				{ "${enabled ? min == 1 ? 'one' : 'several' : 'disabled'}" },
+				{ "${formatter.format('Max %s, min %s', max, min)}" },
+				{ "${formatter.format('%1$.2f', 1.5 == 1 ? 0 : decimal)}" },
+				{ "${formatter.format('%s', validatedValue == null ? 'none' : validatedValue)}" },
+		};
+	}
+
+	@Test(dataProvider = "supportedExpressions")
+	public void testSupportedExpressionGivesTheSameResultAsExpressionLanguage(String expression) {
+		for ( Object validatedValue : new Object[] { null, "value", 3 } ) {
+			SimpleExpression simpleExpression = expressionCache.getSimpleExpression( expression );
+			String expected = evaluateWithExpressionLanguage( expression, validatedValue );
+			String actual = simpleExpression.evaluate( createVariables( validatedValue ) );
+
+			if ( actual != null ) {
+				assertEquals( actual, expected, expression );
+			}
+		}
+	}
+
+	@Test
+	public void testExpressionsOfTheSubsetAreEvaluated() {
+		assertEquals( evaluate( "${validatedValue}", "value" ), "value" );
+		assertEquals( evaluate( "${min > 1 ? 'items' : 'item'}", null ), "items" );
+		assertEquals( evaluate( "${formatter.format('Max %s, min %s', max, min)}", null ), "Max 10, min 2" );
+		assertEquals( evaluate( "${enumValue}", null ), "NEW" );
+		assertEquals( evaluate( "${nullAttribute}", null ), "" );
+	}
+
+	@Test
+	public void testExpressionsOutsideOfTheSubsetAreNotSupported() {
+		assertSame( SimpleExpression.parse( "${validatedValue.length()}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${validatedValue.name}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${list[0]}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${1 + 1}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${1.5}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${empty validatedValue}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${min lt max}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${'unterminated}" ), SimpleExpression.UNSUPPORTED );
+		assertSame( SimpleExpression.parse( "${formatter.format()}" ), SimpleExpression.UNSUPPORTED );
+		assertNotSame( SimpleExpression.parse( "${formatter.format('%s', min)}" ), SimpleExpression.UNSUPPORTED );
+	}
+
+	@Test
+	public void testEvaluationIsDelegatedWhenTheValuesRequireTypeCoercion() {
+		// comparisons between decimals and integers follow the coercion rules of the Expression Language
+		assertNull( evaluate( "${decimal > min}", null ) );
+		// unknown variables might be resolved differently depending on the feature level
+		assertNull( evaluate( "${unknown}", null ) );
+		// the error is reported when evaluating the expression with the Expression Language implementation
+		assertNull( evaluate( "${formatter.format('%d', message)}", null ) );
+	}
+
+	private String evaluate(String expression, Object validatedValue) {
+		return expressionCache.getSimpleExpression( expression ).evaluate( createVariables( validatedValue ) );
+	}
+
+	private String evaluateWithExpressionLanguage(String expression, Object validatedValue) {
+		ExpressionFactory expressionFactory = expressionCache.getExpressionFactory();
+		ELContext elContext = new VariablesELContext( expressionFactory );
+		elContext.putContext( InterpolationVariables.class, createVariables( validatedValue ) );
+		return (String) expressionCache.getValueExpression( expression ).getValue( elContext );
+	}
+
+	private InterpolationVariables createVariables(Object validatedValue) {
+		return new InterpolationVariables( validatedValue, Locale.ENGLISH, attributes, null );
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCache;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.metadata.BeanMetaDataCachePolicy;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the different {@link BeanMetaDataCachePolicy}s.
+ */
+public class BeanMetaDataCacheTest {
+
+	@DataProvider(name = "policies")
+	public Object[][] policies() {
+		return new Object[][] {
+				{ BeanMetaDataCachePolicy.DEFAULT },
+				{ BeanMetaDataCachePolicy.STRONG },
+				{ BeanMetaDataCachePolicy.SOFT },
+				{ BeanMetaDataCachePolicy.BOUNDED }
+		};
+	}
+
+	@Test(dataProvider = "policies")
+	public void testMetaDataIsCachedAndCleared(BeanMetaDataCachePolicy policy) {
+		BeanMetaDataCache cache = BeanMetaDataCache.of( policy, 16 );
+		BeanMetaDataManagerImpl metaDataManager = createBeanMetaDataManager( cache );
+
+		BeanMetaData<Engine> engineMetaData = metaDataManager.getBeanMetaData( Engine.class );
+		assertSame( metaDataManager.getBeanMetaData( Engine.class ), engineMetaData );
+		assertSame( cache.get( Engine.class ), engineMetaData );
+		assertEquals( metaDataManager.numberOfCachedBeanMetaDataInstances(), 1 );
+
+		metaDataManager.getBeanMetaData( Order.class );
+		assertEquals( metaDataManager.numberOfCachedBeanMetaDataInstances(), 2 );
+
+		metaDataManager.clear();
+		assertNull( cache.get( Engine.class ) );
+		assertEquals( metaDataManager.numberOfCachedBeanMetaDataInstances(), 0 );
+
+		metaDataManager.getBeanMetaData( Engine.class );
+		assertEquals( metaDataManager.numberOfCachedBeanMetaDataInstances(), 1 );
+	}
+
+	@Test(dataProvider = "policies")
+	public void testPutIfAbsentKeepsExistingMetaData(BeanMetaDataCachePolicy policy) {
+		BeanMetaDataCache cache = BeanMetaDataCache.of( policy, 16 );
+		BeanMetaDataManagerImpl metaDataManager = createBeanMetaDataManager( BeanMetaDataCache.of( policy, 16 ) );
+		BeanMetaData<?> engineMetaData = metaDataManager.getBeanMetaData( Engine.class );
+		BeanMetaData<?> otherEngineMetaData = createBeanMetaDataManager( BeanMetaDataCache.of( policy, 16 ) ).getBeanMetaData( Engine.class );
+		assertNotSame( otherEngineMetaData, engineMetaData );
+
+		assertNull( cache.putIfAbsent( Engine.class, engineMetaData ) );
+		assertSame( cache.putIfAbsent( Engine.class, otherEngineMetaData ), engineMetaData );
+		assertSame( cache.get( Engine.class ), engineMetaData );
+	}
+
+	@Test
+	public void testBoundedPolicyEvictsNotRecentlyUsedEntries() {
+		BeanMetaDataCache cache = BeanMetaDataCache.of( BeanMetaDataCachePolicy.BOUNDED, 2 );
+		BeanMetaDataManagerImpl metaDataManager = createBeanMetaDataManager( cache );
+
+		BeanMetaData<?> engineMetaData = metaDataManager.getBeanMetaData( Engine.class );
+		metaDataManager.getBeanMetaData( Order.class );
+		assertEquals( cache.size(), 2 );
+
+		// Engine has been recently used so Order is the one evicted
+		assertSame( cache.get( Engine.class ), engineMetaData );
+		metaDataManager.getBeanMetaData( Customer.class );
+
+		assertEquals( cache.size(), 2 );
+		assertSame( cache.get( Engine.class ), engineMetaData );
+		assertNull( cache.get( Order.class ) );
+		assertEquals( cache.get( Customer.class ).getBeanClass(), Customer.class );
+	}
+
+	@DataProvider(name = "weaklyKeyedPolicies")
+	public Object[][] weaklyKeyedPolicies() {
+		// the default policy softly references the bean classes, so they are only unloaded under memory pressure
+		return new Object[][] {
+				{ BeanMetaDataCachePolicy.STRONG },
+				{ BeanMetaDataCachePolicy.SOFT },
+				{ BeanMetaDataCachePolicy.BOUNDED }
+		};
+	}
+
+	@Test(dataProvider = "weaklyKeyedPolicies")
+	public void testCachedMetaDataDoesNotPreventClassUnloading(BeanMetaDataCachePolicy policy) throws Exception {
+		BeanMetaDataCache cache = BeanMetaDataCache.of( policy, 16 );
+		WeakReference<ClassLoader> classLoader = cacheMetaDataOfIsolatedClass( cache );
+
+		for ( int i = 0; i < 50 && classLoader.get() != null; i++ ) {
+			System.gc();
+			Thread.sleep( 10 );
+		}
+
+		for ( int i = 0; i < 50 && cache.size() > 0; i++ ) {
+			Thread.sleep( 10 );
+		}
+
+		assertNull( classLoader.get() );
+		assertEquals( cache.size(), 0 );
+	}
+
+	@Test(dataProvider = "weaklyKeyedPolicies")
+	public void testClearReleasesTheCachedMetaData(BeanMetaDataCachePolicy policy) throws Exception {
+		BeanMetaDataCache cache = BeanMetaDataCache.of( policy, 16 );
+		WeakReference<BeanMetaData<?>> beanMetaData = cacheMetaData( cache, Customer.class );
+		assertEquals( cache.size(), 1 );
+
+		cache.clear();
+		assertEquals( cache.size(), 0 );
+
+		for ( int i = 0; i < 50 && beanMetaData.get() != null; i++ ) {
+			System.gc();
+			Thread.sleep( 10 );
+		}
+
+		assertNull( beanMetaData.get() );
+	}
+
+	@Test
+	public void testPolicyCanBeConfiguredWithProperties() {
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_POLICY, "bounded" )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "1" )
+				.buildValidatorFactory();
+		Validator validator = validatorFactory.getValidator();
+
+		assertEquals( validator.validate( new Engine() ).size(), 0 );
+		assertEquals( validator.validate( new Order() ).size(), 1 );
+		assertEquals( validator.validate( new Engine() ).size(), 0 );
+
+		validatorFactory.close();
+	}
+
+	@Test
+	public void testInvalidPolicyProperty() {
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_POLICY, "weak" )
+				.buildValidatorFactory() )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000266" );
+	}
+
+	@Test
+	public void testInvalidMaxSize() {
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "0" )
+				.buildValidatorFactory() )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000267" );
+
+		assertThatThrownBy( () -> ValidatorUtil.getConfiguration().beanMetaDataCacheMaxSize( -1 ) )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000267" );
+	}
+
+	private static WeakReference<ClassLoader> cacheMetaDataOfIsolatedClass(BeanMetaDataCache cache) throws Exception {
+		ClassLoader classLoader = new IsolatingClassLoader( Engine.class.getName() );
+		Class<?> beanClass = classLoader.loadClass( Engine.class.getName() );
+		assertNotSame( beanClass, Engine.class );
+
+		BeanMetaData<?> beanMetaData = createBeanMetaDataManager( cache ).getBeanMetaData( beanClass );
+		assertSame( cache.get( beanClass ), beanMetaData );
+
+		return new WeakReference<>( classLoader );
+	}
+
+	private static WeakReference<BeanMetaData<?>> cacheMetaData(BeanMetaDataCache cache, Class<?> beanClass) {
+		// the metadata is built with a cache not retaining it once the manager is released
+		BeanMetaData<?> beanMetaData = createBeanMetaDataManager( BeanMetaDataCache.of( BeanMetaDataCachePolicy.DEFAULT, 16 ) )
+				.getBeanMetaData( beanClass );
+		assertNull( cache.putIfAbsent( beanClass, beanMetaData ) );
+
+		return new WeakReference<>( beanMetaData );
+	}
+
+	private static BeanMetaDataManagerImpl createBeanMetaDataManager(BeanMetaDataCache cache) {
+		return new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new DefaultBeanMetaDataClassNormalizer(),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build(),
+				cache
+		);
+	}
+
+	/**
+	 * Defines the given class itself instead of delegating to its parent so that the class can be unloaded.
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+
+		private final String isolatedClassName;
+
+		private IsolatingClassLoader(String isolatedClassName) {
+			super( BeanMetaDataCacheTest.class.getClassLoader() );
+			this.isolatedClassName = isolatedClassName;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !isolatedClassName.equals( name ) ) {
+				return super.loadClass( name, resolve );
+			}
+
+			synchronized ( getClassLoadingLock( name ) ) {
+				Class<?> loadedClass = findLoadedClass( name );
+				if ( loadedClass == null ) {
+					try ( InputStream in = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) ) {
+						byte[] bytes = in.readAllBytes();
+						loadedClass = defineClass( name, bytes, 0, bytes.length );
+					}
+					catch (IOException e) {
+						throw new ClassNotFoundException( name, e );
+					}
+				}
+				return loadedClass;
+			}
+		}
+	}
+}
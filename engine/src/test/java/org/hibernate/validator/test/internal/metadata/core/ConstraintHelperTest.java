@@ -9,17 +9,23 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.test.internal.metadata.Engine;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -62,4 +68,106 @@ public void testGetConstraintsFromMultiValueConstraint() throws Exception {
 		assertTrue( multiValueConstraintAnnotations.get( 1 ) instanceof Pattern, "Wrong constraint annotation" );
 		assertEquals( ( (Pattern) multiValueConstraintAnnotations.get( 1 ) ).regexp(), "^....-....-....$" );
 	}
+
+	@Test
+	public void testEqualConstraintAnnotationsShareTheSameDescriptor() throws Exception {
+		NotNull first = Foo.class.getDeclaredField( "first" ).getAnnotation( NotNull.class );
+		NotNull second = Foo.class.getDeclaredField( "second" ).getAnnotation( NotNull.class );
+		NotNull third = Foo.class.getDeclaredField( "third" ).getAnnotation( NotNull.class );
+
+		ConstraintHelper helper = ConstraintHelper.forAllBuiltinConstraints();
+		ConstraintAnnotationDescriptor<NotNull> firstDescriptor = helper.getConstraintAnnotationDescriptor( first );
+
+		assertSame( firstDescriptor.getAnnotation(), first );
+		assertEquals( firstDescriptor.getMessage(), "{jakarta.validation.constraints.NotNull.message}" );
+		assertEquals( firstDescriptor.getGroups().length, 0 );
+		assertSame( helper.getConstraintAnnotationDescriptor( second ), firstDescriptor );
+
+		ConstraintAnnotationDescriptor<NotNull> thirdDescriptor = helper.getConstraintAnnotationDescriptor( third );
+		assertNotSame( thirdDescriptor, firstDescriptor );
+		assertEquals( thirdDescriptor.getMessage(), "custom" );
+
+		helper.clear();
+		assertNotSame( helper.getConstraintAnnotationDescriptor( first ), firstDescriptor );
+		assertEquals( helper.getConstraintAnnotationDescriptor( first ), firstDescriptor );
+	}
+
+	@Test
+	public void testConstraintAnnotationsAreNotComparedOnLookup() {
+		ConstraintHelper helper = ConstraintHelper.forAllBuiltinConstraints();
+		CountingNotNull first = new CountingNotNull();
+		CountingNotNull second = new CountingNotNull();
+
+		ConstraintAnnotationDescriptor<NotNull> firstDescriptor = helper.getConstraintAnnotationDescriptor( first );
+		assertSame( helper.getConstraintAnnotationDescriptor( second ), firstDescriptor );
+		assertEquals( first.invocations.get(), 0 );
+		assertEquals( second.invocations.get(), 0 );
+
+		// the attributes are read once per annotation instance
+		assertEquals( first.attributeReads.get(), 3 );
+		assertSame( helper.getConstraintAnnotationDescriptor( first ), firstDescriptor );
+		assertSame( helper.getConstraintAnnotationDescriptor( second ), firstDescriptor );
+		assertEquals( first.attributeReads.get(), 3 );
+		assertEquals( second.attributeReads.get(), 3 );
+		assertEquals( first.invocations.get(), 0 );
+	}
+
+	/**
+	 * A {@link NotNull} counting the invocations of its attribute methods and of {@code equals()}/{@code hashCode()}.
+	 */
+	@SuppressWarnings("all")
+	private static class CountingNotNull implements NotNull {
+
+		private final AtomicInteger attributeReads = new AtomicInteger();
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public String message() {
+			attributeReads.incrementAndGet();
+			return "{jakarta.validation.constraints.NotNull.message}";
+		}
+
+		@Override
+		public Class<?>[] groups() {
+			attributeReads.incrementAndGet();
+			return new Class<?>[0];
+		}
+
+		@Override
+		public Class<? extends Payload>[] payload() {
+			attributeReads.incrementAndGet();
+			return new Class[0];
+		}
+
+		@Override
+		public Class<? extends Annotation> annotationType() {
+			return NotNull.class;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			invocations.incrementAndGet();
+			return super.equals( obj );
+		}
+
+		@Override
+		public int hashCode() {
+			invocations.incrementAndGet();
+			return super.hashCode();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class Foo {
+
+		@NotNull
+		private String first;
+
+		@NotNull
+		private String second;
+
+		@NotNull(message = "custom")
+		private String third;
+	}
 }
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.internal.util.BoundedCache;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link BoundedCache}.
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void testSizeIsBounded() {
+		BoundedCache<Integer, String> cache = new BoundedCache<>( 10 );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.putIfAbsent( i, String.valueOf( i ) );
+			cache.get( i );
+		}
+
+		assertEquals( cache.size(), 10 );
+	}
+
+	@Test
+	public void testPutIfAbsentKeepsTheExistingValue() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 10 );
+
+		assertNull( cache.putIfAbsent( "key", "first" ) );
+		assertEquals( cache.putIfAbsent( "key", "second" ), "first" );
+		assertEquals( cache.get( "key" ), "first" );
+	}
+
+	@Test
+	public void testComputeIfAbsentComputesTheValueOnce() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 10 );
+		AtomicInteger computations = new AtomicInteger();
+
+		String value = cache.computeIfAbsent( "key", k -> k + computations.incrementAndGet() );
+
+		assertEquals( value, "key1" );
+		assertSame( cache.computeIfAbsent( "key", k -> k + computations.incrementAndGet() ), value );
+		assertEquals( computations.get(), 1 );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesAreNotEvictedByEntriesUsedOnce() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.putIfAbsent( "frequent" + i, "value" );
+		}
+
+		for ( int i = 0; i < 10_000; i++ ) {
+			for ( int j = 0; j < 50; j++ ) {
+				cache.get( "frequent" + j );
+			}
+			cache.putIfAbsent( "once" + i, "value" );
+		}
+
+		for ( int i = 0; i < 50; i++ ) {
+			assertEquals( cache.get( "frequent" + i ), "value", "frequent" + i );
+		}
+		assertEquals( cache.size(), 100 );
+	}
+
+	@Test
+	public void testNullComputedValueIsNotCached() {
+		BoundedCache<String, String> cache = new BoundedCache<>( 10 );
+
+		assertNull( cache.computeIfAbsent( "key", k -> null ) );
+		assertEquals( cache.size(), 0 );
+		assertEquals( cache.computeIfAbsent( "key", k -> "value" ), "value" );
+	}
+
+	@Test
+	public void testSizeIsBoundedWithConcurrentInsertions() throws Exception {
+		BoundedCache<Integer, String> cache = new BoundedCache<>( 100 );
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				int offset = t * 10_000;
+				tasks.add( () -> {
+					for ( int i = 0; i < 10_000; i++ ) {
+						cache.computeIfAbsent( offset + i, String::valueOf );
+						cache.get( offset + i / 2 );
+					}
+					return null;
+				} );
+			}
+			for ( Future<Void> future : executor.invokeAll( tasks ) ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( cache.size(), 100 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxSizeMustBeStrictlyPositive() {
+		new BoundedCache<>( 0 );
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.internal.util.DecimalParser;
+
+/**
+ * Unit test for {@link DecimalParser}, checking its results against the ones of {@link BigDecimal}.
+ */
+public class DecimalParserTest {
+
+	private static final String[] VALUES = {
+			"0", "-0", "+0", "0.000", "00", "0e10", "0E-10", "1", "-1", "+1", "10", "100", "1e2", "1E+2", "1.e2", ".1",
+			"-.1", "1.", "0.1", "0.10", "0.01", "10.5", "-10.5", "10.50", "999999999999999999", "-999999999999999999",
+			"1000000000000000000", "123456789012345678.9", "0.000000000000000001", "12345.6789e-3", "1e2147483647",
+			"1e-2147483648", "1e2147483648", "1e-2147483649", "0.1e-2147483648", "1e0000000000002", "1e+", "1e", "e1",
+			".", "-", "+", "", " 1", "1 ", "1,5", "1..5", "1.5.", "--1", "+-1", "1e1.5", "1ee1", "abc", "0x10",
+			"\u0661\u0662", "1\u0662", "\u0661e1", "1e\u0661", "\u00e91"
+	};
+
+	private static final BigDecimal[] BOUNDS = {
+			BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE.negate(), BigDecimal.TEN, new BigDecimal( "10.5" ),
+			new BigDecimal( "-10.5" ), new BigDecimal( "0.01" ), new BigDecimal( "1e3" ), new BigDecimal( "-1e-3" ),
+			new BigDecimal( "999999999999999999" ), new BigDecimal( "-0.999999999999999999" ),
+			BigDecimal.valueOf( Long.MAX_VALUE / 10 ), BigDecimal.valueOf( Long.MIN_VALUE / 10 )
+	};
+
+	@Test
+	public void testCompareIsConsistentWithBigDecimal() {
+		for ( String value : VALUES ) {
+			for ( BigDecimal bound : BOUNDS ) {
+				assertCompareIsConsistentWithBigDecimal( value, bound );
+			}
+		}
+	}
+
+	@Test
+	public void testHasDigitsIsConsistentWithBigDecimal() {
+		for ( String value : VALUES ) {
+			for ( int maxIntegerLength = 0; maxIntegerLength < 22; maxIntegerLength++ ) {
+				for ( int maxFractionLength = 0; maxFractionLength < 22; maxFractionLength++ ) {
+					assertHasDigitsIsConsistentWithBigDecimal( value, maxIntegerLength, maxFractionLength );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRandomValuesAreConsistentWithBigDecimal() {
+		Random random = new Random( 42L );
+		String alphabet = "0123456789012345678901234567890.-+eE \u0661";
+		for ( int i = 0; i < 100_000; i++ ) {
+			StringBuilder value = new StringBuilder();
+			int length = random.nextInt( 24 );
+			for ( int j = 0; j < length; j++ ) {
+				value.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+			}
+
+			assertCompareIsConsistentWithBigDecimal( value, BOUNDS[random.nextInt( BOUNDS.length )] );
+			assertHasDigitsIsConsistentWithBigDecimal( value, random.nextInt( 20 ), random.nextInt( 20 ) );
+		}
+	}
+
+	@Test
+	public void testBoundsOfMoreThanEighteenDigitsAreNotCompact() {
+		assertThat( DecimalParser.isCompact( new BigDecimal( "999999999999999999" ) ) ).isTrue();
+		assertThat( DecimalParser.isCompact( new BigDecimal( "1000000000000000000" ) ) ).isFalse();
+		assertThat( DecimalParser.isCompact( new BigDecimal( "0.1234567890123456789" ) ) ).isFalse();
+		assertThat( DecimalParser.isCompact( 999_999_999_999_999_999L ) ).isTrue();
+		assertThat( DecimalParser.isCompact( -999_999_999_999_999_999L ) ).isTrue();
+		assertThat( DecimalParser.isCompact( Long.MAX_VALUE ) ).isFalse();
+		assertThat( DecimalParser.isCompact( Long.MIN_VALUE ) ).isFalse();
+	}
+
+	@Test
+	public void testValuesOfMoreThanEighteenDigitsAreNotSupportedByCompare() {
+		assertThat( DecimalParser.compare( "1234567890123456789", 1L, 0 ) ).isEqualTo( DecimalParser.UNSUPPORTED );
+		assertThat( DecimalParser.compare( "\u0661", 1L, 0 ) ).isEqualTo( DecimalParser.UNSUPPORTED );
+		assertThat( DecimalParser.compare( "12\u0661", 1L, 0 ) ).isEqualTo( DecimalParser.UNSUPPORTED );
+		assertThat( DecimalParser.compare( "1x\u0661", 1L, 0 ) ).isEqualTo( DecimalParser.NOT_A_NUMBER );
+	}
+
+	private static void assertCompareIsConsistentWithBigDecimal(CharSequence value, BigDecimal bound) {
+		int result = DecimalParser.compare( value, bound.unscaledValue().longValueExact(), bound.scale() );
+		if ( result == DecimalParser.UNSUPPORTED ) {
+			return;
+		}
+
+		BigDecimal expected = toBigDecimal( value );
+		if ( expected == null ) {
+			assertThat( result ).as( "compare(%s, %s)", value, bound ).isEqualTo( DecimalParser.NOT_A_NUMBER );
+		}
+		else {
+			assertThat( Integer.signum( result ) ).as( "compare(%s, %s)", value, bound )
+					.isEqualTo( expected.compareTo( bound ) );
+		}
+	}
+
+	private static void assertHasDigitsIsConsistentWithBigDecimal(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		BigDecimal expected = toBigDecimal( value );
+		assertHasDigitsIsConsistentWithBigDecimal( value, expected, maxIntegerLength, maxFractionLength, false );
+		assertHasDigitsIsConsistentWithBigDecimal(
+				value, expected == null ? null : expected.stripTrailingZeros(), maxIntegerLength, maxFractionLength, true
+		);
+	}
+
+	private static void assertHasDigitsIsConsistentWithBigDecimal(CharSequence value, BigDecimal expected,
+			int maxIntegerLength, int maxFractionLength, boolean stripTrailingZeros) {
+		Boolean result = DecimalParser.hasDigits( value, maxIntegerLength, maxFractionLength, stripTrailingZeros );
+		if ( result == null ) {
+			return;
+		}
+
+		boolean expectedResult = expected != null
+				&& maxIntegerLength >= (long) expected.precision() - expected.scale()
+				&& maxFractionLength >= Math.max( expected.scale(), 0 );
+		assertThat( result ).as( "hasDigits(%s, %s, %s, %s)", value, maxIntegerLength, maxFractionLength, stripTrailingZeros )
+				.isEqualTo( expectedResult );
+	}
+
+	private static BigDecimal toBigDecimal(CharSequence value) {
+		try {
+			return new BigDecimal( value.toString() );
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -174,6 +174,19 @@ public void methodWithGenericsAndMultipleIntermediateClasses() throws Exception
 		assertThat( executableHelper.overrides( methodFromImpl, methodFromBase ) ).isFalse();
 	}
 
+	@Test
+	public void methodWithGenericsIsResolvedToSameMethodInHierarchy() throws Exception {
+		Method methodFromBase = GenericServiceBase.class.getDeclaredMethods()[0];
+		Method numberMethodFromImpl = GenericServiceImpl3.class.getDeclaredMethod( "doSomething", Number.class );
+		Method integerMethodFromImpl = GenericServiceImpl3.class.getDeclaredMethod( "doSomething", Integer.class );
+
+		// the same hierarchy is looked up several times, in both directions
+		assertThat( executableHelper.isResolvedToSameMethodInHierarchy( GenericServiceImpl3.class, numberMethodFromImpl, methodFromBase ) ).isTrue();
+		assertThat( executableHelper.isResolvedToSameMethodInHierarchy( GenericServiceImpl3.class, methodFromBase, numberMethodFromImpl ) ).isTrue();
+		assertThat( executableHelper.isResolvedToSameMethodInHierarchy( GenericServiceImpl3.class, integerMethodFromImpl, methodFromBase ) ).isFalse();
+		assertThat( executableHelper.isResolvedToSameMethodInHierarchy( GenericServiceImpl3.class, methodFromBase, integerMethodFromImpl ) ).isFalse();
+	}
+
 	@Test
 	public void methodWithParameterizedSubType() throws Exception {
 		Method methodFromBase = GenericServiceBase.class.getDeclaredMethods()[0];
@@ -6,9 +6,6 @@
  */
 package org.hibernate.validator.test.internal.util;
 
-import java.util.Arrays;
-import java.util.List;
-
 import org.testng.annotations.Test;
 
 import org.hibernate.validator.internal.util.ModUtil;
@@ -26,78 +23,89 @@ public class ModUtilTest {
 
 	@Test
 	public void testPassLuhnSum() throws Exception {
-		List<Integer> digits = Arrays.asList( 7 );
-		assertEquals( ModUtil.calculateLuhnMod10Check( digits ), 5 );
+		String digits = "7";
+		assertEquals( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ), 5 );
 
-		digits = Arrays.asList( 7, 9, 9, 2, 7, 3, 9, 8, 7, 1 );
-		assertEquals( ModUtil.calculateLuhnMod10Check( digits ), 3 );
+		digits = "7992739871";
+		assertEquals( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ), 3 );
 
-		digits = Arrays.asList( 3, 3, 1, 8, 1, 4, 2, 9, 6 );
-		assertEquals( ModUtil.calculateLuhnMod10Check( digits ), 9 );
+		digits = "331814296";
+		assertEquals( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ), 9 );
 	}
 
 	@Test
 	public void testFailLuhnSum() throws Exception {
-		List<Integer> digits = Arrays.asList( 7 );
-		assertFalse( ModUtil.calculateLuhnMod10Check( digits ) == 2 );
+		String digits = "7";
+		assertFalse( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ) == 2 );
 
-		digits = Arrays.asList( 7, 9, 9, 2, 7, 3, 9, 8, 7, 1 );
-		assertFalse( ModUtil.calculateLuhnMod10Check( digits ) == 4 );
+		digits = "7992739871";
+		assertFalse( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ) == 4 );
 
-		digits = Arrays.asList( 3, 3, 1, 8, 1, 4, 2, 9, 6 );
-		assertFalse( ModUtil.calculateLuhnMod10Check( digits ) == 0 );
+		digits = "331814296";
+		assertFalse( ModUtil.calculateLuhnMod10Check( digits, 0, digits.length() ) == 0 );
 	}
 
 	@Test
 	public void testPassMod11Sum() throws Exception {
-		List<Integer> digits = Arrays.asList( 2 );
-		assertEquals( ModUtil.calculateMod11Check( digits ), 7 );
+		String digits = "2";
+		assertEquals( ModUtil.calculateMod11Check( digits, 0, digits.length() ), 7 );
 
-		digits = Arrays.asList( 0, 3, 6, 5, 3, 2 );
-		assertEquals( ModUtil.calculateMod11Check( digits ), 7 );
+		digits = "036532";
+		assertEquals( ModUtil.calculateMod11Check( digits, 0, digits.length() ), 7 );
 
-		digits = Arrays.asList( 1, 3, 4, 2, 4, 1, 3, 1, 3 );
-		assertEquals( ModUtil.calculateMod11Check( digits ), 10 );
+		digits = "134241313";
+		assertEquals( ModUtil.calculateMod11Check( digits, 0, digits.length() ), 10 );
 	}
 
 	@Test
 	public void testFailMod11Sum() throws Exception {
-		List<Integer> digits = Arrays.asList( 2 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 6 );
+		String digits = "2";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 6 );
 
-		digits = Arrays.asList( 0, 3, 6, 5, 3, 2 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 1 );
+		digits = "036532";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 1 );
 
-		digits = Arrays.asList( 1, 3, 4, 2, 4, 1, 3, 1, 3 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 9 );
+		digits = "134241313";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 9 );
 	}
 
 	@Test
 	@TestForIssue(jiraKey = "HV-808")
 	public void testFailMod11SelfValidation() throws Exception {
-		List<Integer> digits = Arrays.asList( 0 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 1 );
-		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 1 );
+		String digits = "0";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 1 );
+		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ) == 1 );
 
-		digits = Arrays.asList( 0, 0, 0, 0, 0, 0 );
-		assertEquals( ModUtil.calculateMod11Check( digits ), 11 );
-		assertEquals( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ), 11 );
+		digits = "000000";
+		assertEquals( ModUtil.calculateMod11Check( digits, 0, digits.length() ), 11 );
+		assertEquals( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ), 11 );
 
-		digits = Arrays.asList( 0, 0, 0, 0, 0, 0 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 1 );
-		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 1 );
+		digits = "000000";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 1 );
+		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ) == 1 );
 
-		digits = Arrays.asList( 3, 3, 1, 8, 1, 4, 2, 9, 6 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 5 );
-		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 5 );
+		digits = "331814296";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 5 );
+		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ) == 5 );
 
-		digits = Arrays.asList( 3, 7, 8, 7, 9, 6, 9, 5, 0, 0 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 2 );
-		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 2 );
+		digits = "3787969500";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 2 );
+		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ) == 2 );
 
-		digits = Arrays.asList( 3, 3, 1, 8, 1, 4, 2, 9, 6, 5 );
-		assertFalse( ModUtil.calculateMod11Check( digits ) == 2 );
-		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 2 );
+		digits = "3318142965";
+		assertFalse( ModUtil.calculateMod11Check( digits, 0, digits.length() ) == 2 );
+		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 0, digits.length(), false, 11, Integer.MAX_VALUE ) == 2 );
 	}
 
+	@Test
+	public void testOnlyDigitsBetweenIndexesAreTakenIntoAccount() throws Exception {
+		assertEquals( ModUtil.calculateLuhnMod10Check( "x7-992 739-871y", 1, 14 ), 3 );
+		assertEquals( ModUtil.calculateMod11Check( "9-036532-9", 1, 8 ), 7 );
+		assertEquals( ModUtil.calculateMod10Check( "7-992-739", 0, 9, 3, 1 ), ModUtil.calculateMod10Check( "7992739", 0, 7, 3, 1 ) );
+		assertEquals(
+				ModUtil.calculateModXCheckWithWeights( "12-34-56", 0, 8, true, 11, Integer.MAX_VALUE, 6, 5, 7 ),
+				ModUtil.calculateModXCheckWithWeights( "123456", 0, 6, true, 11, Integer.MAX_VALUE, 6, 5, 7 )
+		);
+		assertEquals( ModUtil.countDigits( "12-34-56", 2, 8 ), 4 );
+	}
 }
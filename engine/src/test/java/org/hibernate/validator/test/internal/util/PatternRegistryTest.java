@@ -0,0 +1,77 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.util.PatternRegistry;
+import org.hibernate.validator.internal.util.PatternRegistry.RegisteredPattern;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link PatternRegistry}.
+ */
+public class PatternRegistryTest {
+
+	@Test
+	public void testPatternsAreSharedByRegexpAndFlags() {
+		PatternRegistry registry = new PatternRegistry();
+
+		RegisteredPattern pattern = registry.getPattern( "[A-Z]{3}", 0 );
+
+		assertSame( registry.getPattern( "[A-Z]{3}", 0 ), pattern );
+		assertNotSame( registry.getPattern( "[A-Z]{3}", Pattern.CASE_INSENSITIVE ), pattern );
+		assertNotSame( registry.getPattern( "[A-Z]{2}", 0 ), pattern );
+		assertEquals( registry.size(), 3 );
+	}
+
+	@Test
+	public void testMatcherReuse() {
+		RegisteredPattern pattern = new PatternRegistry().getPattern( "[A-Z]{3}-[0-9]+", 0 );
+
+		assertTrue( pattern.matches( "ABC-123" ) );
+		assertFalse( pattern.matches( "ABC-" ) );
+		assertTrue( pattern.matches( "XYZ-9" ) );
+		assertFalse( pattern.matches( "abc-123" ) );
+		assertTrue( pattern.matches( new StringBuilder( "DEF-42" ) ) );
+		assertFalse( pattern.matches( new StringBuilder( "DEF" ) ) );
+	}
+
+	@Test
+	public void testFlags() {
+		RegisteredPattern pattern = new PatternRegistry().getPattern( "[A-Z]{3}", Pattern.CASE_INSENSITIVE );
+
+		assertTrue( pattern.matches( "abc" ) );
+		assertTrue( pattern.isCompiledFrom( "[A-Z]{3}", Pattern.CASE_INSENSITIVE ) );
+		assertFalse( pattern.isCompiledFrom( "[A-Z]{3}", 0 ) );
+	}
+
+	@Test
+	public void testLinearTimeMatching() {
+		PatternRegistry registry = new PatternRegistry( true );
+
+		RegisteredPattern pattern = registry.getPattern( "[A-Z]{3}", 0 );
+
+		assertTrue( pattern.isLinearTimeMatching() );
+		assertTrue( pattern.matches( "ABC" ) );
+		assertFalse( pattern.matches( "ABCD" ) );
+		assertSame( registry.getPattern( "[A-Z]{3}", 0, true ), pattern );
+		assertFalse( registry.getPattern( "[A-Z]{3}", 0, false ).isLinearTimeMatching() );
+		assertEquals( registry.size(), 2 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000022.*")
+	public void testInvalidRegexp() {
+		new PatternRegistry().getPattern( "(unbalanced", 0 );
+	}
+}
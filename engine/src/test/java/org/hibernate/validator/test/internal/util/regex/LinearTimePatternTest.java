@@ -0,0 +1,250 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import jakarta.validation.ConstraintDeclarationException;
+
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link LinearTimePattern}, comparing its results to the ones of {@link Pattern}.
+ */
+public class LinearTimePatternTest {
+
+	private static final String[] INPUTS = {
+			"", "a", "A", "b", "ab", "aB", "abc", "ABC", "aaa", "aaaa", "abab", "abcabc", "ba", "cab", "a1", "z9", "_",
+			"0", "42", "123", "1234", "-1", "+33", "3.14", "1e10", "0x1F", " ", "\t", "a b", "a\n", "a\r\n", "a\r", "\n",
+			"\na", "a\nb", "a\r\nb", "a\u2028b", "a\u0085", "\u00e9", "\u00c9", "\u212a", "k", "K", "\u0130", "\u00df",
+			"\ud83d\ude00", "a\ud83d\ude00b", "[", "]", "-", "^", "$", ".", "\\", "|", "(", ")", "{", "}", "*", "?", "a.b",
+			"foo@bar.com", "john.doe@example.org", "@example.org", "foo@", "2024-01-31", "31/12/1999", "ABC-123", "abc-123",
+			"http://hibernate.org", "\u0391\u03b2\u03b3", "\u0416", "\u4e2d\u6587", "\u0661\u0662", "\u0007\u001b", "a\u0000",
+			"abbb", "xabb", "xabab", "a.", "a..", "(((", "ab\ud83d\ude00\ud83d\ude00"
+	};
+
+	@DataProvider(name = "patterns")
+	public Object[][] patterns() {
+		return new Object[][] {
+				{ "", 0 },
+				{ "a", 0 },
+				{ "abc", 0 },
+				{ "a|b", 0 },
+				{ "a|ab|abc", 0 },
+				{ "(a|b)*", 0 },
+				{ "(?:ab)+", 0 },
+				{ "(?<name>a|b)c?", 0 },
+				{ "a*", 0 },
+				{ "a+", 0 },
+				{ "a?", 0 },
+				{ "a*?", 0 },
+				{ "a+?b?", 0 },
+				{ "a{2}", 0 },
+				{ "a{2,}", 0 },
+				{ "a{1,3}", 0 },
+				{ "a{0,2}b{0}", 0 },
+				{ "(ab){1,2}", 0 },
+				{ "(a*)*", 0 },
+				{ "(a|a)*b", 0 },
+				{ "(a+)+", 0 },
+				{ "(|a)+", 0 },
+				{ ".", 0 },
+				{ ".*", 0 },
+				{ "a.b", 0 },
+				{ ".*", Pattern.DOTALL },
+				{ ".*", Pattern.UNIX_LINES },
+				{ "[abc]+", 0 },
+				{ "[a-c]*", 0 },
+				{ "[^a-c]", 0 },
+				{ "[]a]", 0 },
+				{ "[^]a]", 0 },
+				{ "[a-]", 0 },
+				{ "[-a]", 0 },
+				{ "[a-zA-Z_0-9]+", 0 },
+				{ "[\\d-]+", 0 },
+				{ "[\\x41-\\x43]+", 0 },
+				{ "[\\u0391-\\u03c9]+", 0 },
+				{ "[\\[\\]\\\\^$.|?*+(){}-]", 0 },
+				{ "\\d+", 0 },
+				{ "\\D", 0 },
+				{ "\\w+", 0 },
+				{ "\\W", 0 },
+				{ "\\s", 0 },
+				{ "\\S+", 0 },
+				{ "[\\w.]+@[\\w.]+", 0 },
+				{ "\\p{L}+", 0 },
+				{ "\\pL", 0 },
+				{ "\\PL", 0 },
+				{ "\\p{Lu}\\p{Ll}*", 0 },
+				{ "\\p{IsLu}", 0 },
+				{ "\\p{N}+", 0 },
+				{ "\\p{Nd}+", 0 },
+				{ "\\p{Punct}", 0 },
+				{ "\\p{Alpha}+", 0 },
+				{ "\\p{Alnum}+", 0 },
+				{ "\\p{XDigit}+", 0 },
+				{ "\\p{Cntrl}+", 0 },
+				{ "\\p{Graph}+", 0 },
+				{ "\\p{Print}+", 0 },
+				{ "\\p{Space}", 0 },
+				{ "\\p{Lower}+", 0 },
+				{ "\\p{IsGreek}+", 0 },
+				{ "\\p{IsLatin}+", 0 },
+				{ "\\p{InGreek}+", 0 },
+				{ "\\p{IsAlphabetic}+", 0 },
+				{ "\\p{L1}+", 0 },
+				{ "[^\\p{L}\\d]", 0 },
+				{ "\\t|\\n|\\r\\n", 0 },
+				{ "\\a\\e", 0 },
+				{ "a\\00", 0 },
+				{ "\\x61\\x{62}\\u0063", 0 },
+				{ "\\cG\\c[", 0 },
+				{ "\\Qa.b\\E", 0 },
+				{ "\\Q(\\E+", 0 },
+				{ "\\Qa.b", 0 },
+				{ "\\Qab\\E+", 0 },
+				{ "\\Qab\\E*", 0 },
+				{ "\\Qa.\\E?", 0 },
+				{ "\\Qa.\\E{2}", 0 },
+				{ "x\\Qab\\E{2}", 0 },
+				{ "x\\Qab\\E{1,2}?", 0 },
+				{ "(\\Qab\\E)+", 0 },
+				{ "\\Qa\\E\\Qb\\E+", 0 },
+				{ "\\Qab\ud83d\ude00\\E+", 0 },
+				{ "a\\Q\\E", 0 },
+				{ "\\Q\\E", 0 },
+				{ "\\.\\*\\\\", 0 },
+				{ "a\\.b", 0 },
+				{ "\ud83d\ude00", 0 },
+				{ "a\\p{So}b", 0 },
+				{ "]", 0 },
+				{ "}", 0 },
+				{ "a}", 0 },
+				{ "^a$", 0 },
+				{ "a$", 0 },
+				{ "a\\Z", 0 },
+				{ "a\\z", 0 },
+				{ "\\Aa", 0 },
+				{ "a$\\n?", 0 },
+				{ "a$\\r?\\n?", 0 },
+				{ "a$\\s*", 0 },
+				{ "a$\\s*", Pattern.UNIX_LINES },
+				{ "a\\Z\\s*", 0 },
+				{ "a^", 0 },
+				{ "^", 0 },
+				{ "^", Pattern.MULTILINE },
+				{ "$", Pattern.MULTILINE },
+				{ "a$\\s^b", Pattern.MULTILINE },
+				{ "a$\\s+^b", Pattern.MULTILINE },
+				{ "a$\\s+^b", Pattern.MULTILINE | Pattern.UNIX_LINES },
+				{ "(^a$\\s*)+", Pattern.MULTILINE },
+				{ "a$.*", Pattern.MULTILINE | Pattern.DOTALL },
+				{ ".*^b", Pattern.MULTILINE | Pattern.DOTALL },
+				{ ".*^b", Pattern.MULTILINE | Pattern.DOTALL | Pattern.UNIX_LINES },
+				{ "abc", Pattern.CASE_INSENSITIVE },
+				{ "[a-c]+", Pattern.CASE_INSENSITIVE },
+				{ "[A-Z]", Pattern.CASE_INSENSITIVE },
+				{ "[^a]", Pattern.CASE_INSENSITIVE },
+				{ "k", Pattern.CASE_INSENSITIVE },
+				{ "k", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "[k]", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "[a-z]", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "\u00e9", Pattern.CASE_INSENSITIVE },
+				{ "\u00e9", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "[\u00e0-\u00ff]", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "\\w+", Pattern.CASE_INSENSITIVE },
+				{ "\\p{L}", Pattern.CASE_INSENSITIVE },
+				{ "[A-Z]{3}-[0-9]+", 0 },
+				{ "\\d{4}-\\d{2}-\\d{2}", 0 },
+				{ "[a-z]+://[a-z.]+", 0 },
+				{ "([a-z0-9._%+-]+)@([a-z0-9.-]+)\\.[a-z]{2,}", Pattern.CASE_INSENSITIVE },
+				{ "(\\+|-)?\\d+(\\.\\d+)?([eE][+-]?\\d+)?", 0 },
+				{ "0[xX][0-9a-fA-F]+", 0 },
+		};
+	}
+
+	@Test(dataProvider = "patterns")
+	public void testMatchesLikePattern(String regexp, int flags) {
+		Pattern pattern = Pattern.compile( regexp, flags );
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+
+		for ( String input : INPUTS ) {
+			assertThat( linearTimePattern.matches( input ) )
+					.as( "%s matching %s", regexp, input )
+					.isEqualTo( pattern.matcher( input ).matches() );
+			assertThat( linearTimePattern.matches( new StringBuilder( input ) ) )
+					.as( "%s matching %s", regexp, input )
+					.isEqualTo( pattern.matcher( input ).matches() );
+		}
+	}
+
+	@Test
+	public void testNoCatastrophicBacktracking() {
+		StringBuilder input = new StringBuilder();
+		for ( int i = 0; i < 10_000; i++ ) {
+			input.append( 'a' );
+		}
+		input.append( '!' );
+
+		assertFalse( LinearTimePattern.compile( "(a+)+b", 0 ).matches( input ) );
+		assertFalse( LinearTimePattern.compile( "(a|aa)*", 0 ).matches( input ) );
+		assertFalse( LinearTimePattern.compile( "(\\w+\\s?)*$", 0 ).matches( input ) );
+		assertTrue( LinearTimePattern.compile( "(a|aa)*!", 0 ).matches( input ) );
+	}
+
+	@DataProvider(name = "unsupportedPatterns")
+	public Object[][] unsupportedPatterns() {
+		return new Object[][] {
+				{ "(a)\\1", 0 },
+				{ "a(?=b)", 0 },
+				{ "a(?!b)", 0 },
+				{ "(?<=a)b", 0 },
+				{ "(?<!a)b", 0 },
+				{ "(?>a)", 0 },
+				{ "(?i)a", 0 },
+				{ "a*+", 0 },
+				{ "a{1,2}+", 0 },
+				{ "\\ba\\b", 0 },
+				{ "\\Ga", 0 },
+				{ "\\R", 0 },
+				{ "\\X", 0 },
+				{ "\\h", 0 },
+				{ "(?<name>a)\\k<name>", 0 },
+				{ "[a-c&&b]", 0 },
+				{ "[a[b]]", 0 },
+				{ "[\\Qa\\E]", 0 },
+				{ "a\\Q\\E+", 0 },
+				{ "a{1001}", 0 },
+				{ "a{2,100000}", 0 },
+				{ "(a{1000}){1000}", 0 },
+				{ "\\p{IsWhite_Space}", 0 },
+				{ "\\p{Lu}", Pattern.CASE_INSENSITIVE },
+				{ "\\p{Lower}", Pattern.CASE_INSENSITIVE },
+				{ "a", Pattern.COMMENTS },
+				{ "a", Pattern.CANON_EQ },
+				{ "a", Pattern.LITERAL },
+				{ "a", Pattern.UNICODE_CHARACTER_CLASS },
+		};
+	}
+
+	@Test(dataProvider = "unsupportedPatterns")
+	public void testUnsupportedPatternsAreRejected(String regexp, int flags) {
+		// the regular expression is valid for Pattern
+		Pattern.compile( regexp, flags );
+
+		assertThatThrownBy( () -> LinearTimePattern.compile( regexp, flags ) )
+				.isInstanceOf( ConstraintDeclarationException.class )
+				.hasMessageStartingWith( "HV000270" );
+	}
+}
@@ -10,12 +10,18 @@
 import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+
+import javax.xml.stream.events.XMLEvent;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -27,8 +33,10 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorDescriptor;
 import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.xml.mapping.MappingEventsCache;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.hibernate.validator.testutils.ValidatorUtil;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -45,7 +53,8 @@ public void setupParserHelper() {
 		constraintCreationContext = getDummyConstraintCreationContext();
 		xmlMappingParser = new MappingXmlParser(
 				constraintCreationContext,
-				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ), null
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ), null,
+				new MappingEventsCache()
 		);
 	}
 
@@ -70,6 +79,61 @@ public void testAdditionalConstraintValidatorsGetAddedAndAreLastInList() {
 				"The custom validator must be last" );
 	}
 
+	@Test
+	public void testSameMappingCanBeParsedByDifferentParsers() throws Exception {
+		MappingEventsCache mappingEventsCache = new MappingEventsCache();
+		List<XMLEvent> events = null;
+
+		for ( int i = 0; i < 2; i++ ) {
+			ConstraintCreationContext context = getDummyConstraintCreationContext();
+			MappingXmlParser parser = new MappingXmlParser(
+					context,
+					new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ), null,
+					mappingEventsCache
+			);
+
+			Set<InputStream> mappingStreams = newHashSet();
+			mappingStreams.add( MappingXmlParserTest.class.getResourceAsStream( "decimal-min-mapping-1.xml" ) );
+			parser.parse( mappingStreams );
+
+			List<ConstraintValidatorDescriptor<DecimalMin>> validatorDescriptors = context.getConstraintHelper()
+					.getAllValidatorDescriptors( DecimalMin.class );
+			assertEquals( getIndex( validatorDescriptors, DecimalMinValidatorForFoo.class ), validatorDescriptors.size() - 1,
+					"The custom validator must be last" );
+
+			// the events recorded by the first parser are replayed by the second one
+			try ( InputStream in = MappingXmlParserTest.class.getResourceAsStream( "decimal-min-mapping-1.xml" ) ) {
+				assertTrue( mappingEventsCache.isCached( in ) );
+			}
+			try ( InputStream in = MappingXmlParserTest.class.getResourceAsStream( "decimal-min-mapping-1.xml" ) ) {
+				List<XMLEvent> cachedEvents = mappingEventsCache.getEvents( in );
+				if ( events == null ) {
+					events = cachedEvents;
+				}
+				assertSame( cachedEvents, events );
+			}
+		}
+	}
+
+	@Test
+	public void testMappingEventsAreReusedByTheFactoriesBootstrappedLater() throws Exception {
+		byte[] mapping;
+		try ( InputStream in = MappingXmlParserTest.class.getResourceAsStream( "decimal-min-mapping-1.xml" ) ) {
+			// make the content unique so that the mapping has not been cached by another test
+			mapping = ( new String( in.readAllBytes(), StandardCharsets.UTF_8 ) + "<!-- " + UUID.randomUUID() + " -->" )
+					.getBytes( StandardCharsets.UTF_8 );
+		}
+		MappingEventsCache mappingEventsCache = MappingEventsCache.getSharedInstance();
+		assertFalse( mappingEventsCache.isCached( new ByteArrayInputStream( mapping ) ) );
+
+		ValidatorUtil.getConfiguration().addMapping( new ByteArrayInputStream( mapping ) ).buildValidatorFactory().close();
+		assertTrue( mappingEventsCache.isCached( new ByteArrayInputStream( mapping ) ) );
+		List<XMLEvent> events = mappingEventsCache.getEvents( new ByteArrayInputStream( mapping ) );
+
+		ValidatorUtil.getConfiguration().addMapping( new ByteArrayInputStream( mapping ) ).buildValidatorFactory().close();
+		assertSame( mappingEventsCache.getEvents( new ByteArrayInputStream( mapping ) ), events );
+	}
+
 	private int getIndex(Iterable<? extends ConstraintValidatorDescriptor<?>> descriptors, Class<?> validatorType) {
 		int i = 0;
 
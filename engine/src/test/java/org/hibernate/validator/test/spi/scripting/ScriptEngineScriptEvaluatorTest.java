@@ -0,0 +1,404 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.spi.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.spi.scripting.ScriptEngineScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the compilation of the scripts and the pooling of the engines of {@link ScriptEngineScriptEvaluator}.
+ */
+public class ScriptEngineScriptEvaluatorTest {
+
+	/**
+	 * A script waiting for all the threads to evaluate it and returning whether they did in time.
+	 */
+	private static final String AWAIT_PARALLEL_EVALUATION = "awaitParallelEvaluation";
+
+	/**
+	 * How long the threads evaluating scripts in parallel wait for each other, long enough for slow environments.
+	 */
+	private static final long PARALLEL_EVALUATION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis( 10 );
+
+	/**
+	 * How long the threads wait for each other when they are not expected to evaluate scripts in parallel.
+	 */
+	private static final long SEQUENTIAL_EVALUATION_TIMEOUT_MILLIS = 200;
+
+	@Test
+	public void testScriptIsCompiledOncePerEngine() {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine() );
+
+		assertThat( evaluator.evaluate( "value", Collections.singletonMap( "value", "first" ) ) ).isEqualTo( "first" );
+		assertThat( evaluator.evaluate( "value", Collections.singletonMap( "value", "second" ) ) ).isEqualTo( "second" );
+		assertThat( evaluator.evaluate( "other", Collections.singletonMap( "other", "third" ) ) ).isEqualTo( "third" );
+
+		assertThat( factory.compilations ).hasValue( 2 );
+		assertThat( factory.evaluations ).hasValue( 3 );
+		assertThat( factory.engines ).hasValue( 1 );
+	}
+
+	@Test
+	public void testCompilationErrorIsReported() {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine() );
+
+		assertThatThrownBy( () -> evaluator.evaluate( "", Collections.emptyMap() ) )
+				.isInstanceOf( ScriptEvaluationException.class )
+				.hasCauseInstanceOf( ScriptException.class );
+	}
+
+	@Test
+	public void testNonThreadSafeEngineIsPooled() throws Exception {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine(), 2 );
+
+		assertThat( evaluateInParallel( evaluator, 2, PARALLEL_EVALUATION_TIMEOUT_MILLIS ) ).containsOnly( Boolean.TRUE );
+		assertThat( factory.maxParallelEvaluations ).hasValue( 2 );
+		assertThat( factory.engines ).hasValue( 2 );
+		assertThat( factory.compilations ).hasValue( 2 );
+
+		// the engine instances are reused
+		assertThat( evaluateInParallel( evaluator, 2, PARALLEL_EVALUATION_TIMEOUT_MILLIS ) ).containsOnly( Boolean.TRUE );
+		assertThat( factory.maxParallelEvaluations ).hasValue( 2 );
+		assertThat( factory.engines ).hasValue( 2 );
+		assertThat( factory.compilations ).hasValue( 2 );
+	}
+
+	@Test
+	public void testNonThreadSafeEngineIsUsedByOneThreadAtATime() throws Exception {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine() );
+
+		// the second evaluation only starts once the first one gave up waiting
+		assertThat( evaluateInParallel( evaluator, 2, SEQUENTIAL_EVALUATION_TIMEOUT_MILLIS ) )
+				.containsExactlyInAnyOrder( Boolean.FALSE, Boolean.TRUE );
+		assertThat( factory.engines ).hasValue( 1 );
+		assertThat( factory.maxParallelEvaluations ).hasValue( 1 );
+	}
+
+	@Test
+	public void testThreadSafeEngineIsShared() throws Exception {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( "STATELESS" );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine() );
+
+		assertThat( evaluateInParallel( evaluator, 2, PARALLEL_EVALUATION_TIMEOUT_MILLIS ) ).containsOnly( Boolean.TRUE );
+		assertThat( factory.maxParallelEvaluations ).hasValue( 2 );
+		assertThat( factory.engines ).hasValue( 1 );
+		assertThat( factory.compilations.get() ).isBetween( 1, 2 );
+	}
+
+	@Test
+	public void testNestedEvaluationReusesTheEngineOfTheThread() {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( factory.getScriptEngine() );
+
+		Supplier<Object> nestedEvaluation = () -> evaluator.evaluate( "value", Collections.singletonMap( "value", "nested" ) );
+
+		assertThat( evaluator.evaluate( "nestedEvaluation", Collections.singletonMap( "nestedEvaluation", nestedEvaluation ) ) )
+				.isEqualTo( "nested" );
+		assertThat( factory.engines ).hasValue( 1 );
+
+		// the engine has been released
+		assertThat( evaluator.evaluate( "value", Collections.singletonMap( "value", "next" ) ) ).isEqualTo( "next" );
+	}
+
+	@Test
+	public void testGlobalBindingsAreSharedWithTheNewEngines() throws Exception {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngine engine = factory.getScriptEngine();
+		Bindings globalBindings = new SimpleBindings();
+		globalBindings.put( "global", "value" );
+		engine.setBindings( globalBindings, ScriptContext.GLOBAL_SCOPE );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( engine, 2 );
+
+		evaluateInParallel( evaluator, 2, PARALLEL_EVALUATION_TIMEOUT_MILLIS );
+
+		assertThat( factory.createdEngines ).hasSize( 2 );
+		for ( ScriptEngine createdEngine : factory.createdEngines ) {
+			assertThat( createdEngine.getBindings( ScriptContext.GLOBAL_SCOPE ) ).isSameAs( globalBindings );
+		}
+	}
+
+	@Test
+	public void testEngineBindingsAndWritersArePassedToTheNewEngines() throws Exception {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+		ScriptEngine engine = factory.getScriptEngine();
+		engine.put( "engine", "value" );
+		StringWriter writer = new StringWriter();
+		engine.getContext().setWriter( writer );
+		engine.getContext().setErrorWriter( writer );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( engine, 2 );
+
+		evaluateInParallel( evaluator, 2, PARALLEL_EVALUATION_TIMEOUT_MILLIS );
+
+		assertThat( factory.createdEngines ).hasSize( 2 );
+		ScriptEngine createdEngine = factory.createdEngines.get( 1 );
+		assertThat( createdEngine.get( "engine" ) ).isEqualTo( "value" );
+		assertThat( createdEngine.getBindings( ScriptContext.ENGINE_SCOPE ) )
+				.isNotSameAs( engine.getBindings( ScriptContext.ENGINE_SCOPE ) );
+		assertThat( createdEngine.getContext().getWriter() ).isSameAs( writer );
+		assertThat( createdEngine.getContext().getErrorWriter() ).isSameAs( writer );
+		assertThat( createdEngine.getContext().getReader() ).isSameAs( engine.getContext().getReader() );
+	}
+
+	@Test
+	public void testCompilableEngine() {
+		ScriptEngine engine = new ScriptEngineManager().getEngineByName( "groovy" );
+		ScriptEngineScriptEvaluator evaluator = new ScriptEngineScriptEvaluator( engine, 2 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( evaluator.evaluate( "value > 1", Collections.singletonMap( "value", i ) ) ).isEqualTo( i > 1 );
+		}
+	}
+
+	@Test
+	public void testInvalidPoolSize() {
+		CountingScriptEngineFactory factory = new CountingScriptEngineFactory( null );
+
+		assertThatThrownBy( () -> new ScriptEngineScriptEvaluator( factory.getScriptEngine(), 0 ) )
+				.isInstanceOf( ValidationException.class )
+				.hasMessageContaining( "HV000271" );
+	}
+
+	private static List<Object> evaluateInParallel(ScriptEngineScriptEvaluator evaluator, int threads, long timeoutMillis) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			ParallelEvaluation parallelEvaluation = new ParallelEvaluation( threads, timeoutMillis );
+			Map<String, Object> bindings = Collections.singletonMap( AWAIT_PARALLEL_EVALUATION, parallelEvaluation );
+
+			List<Future<Object>> futures = executor.invokeAll(
+					Collections.nCopies( threads, () -> evaluator.evaluate( AWAIT_PARALLEL_EVALUATION, bindings ) )
+			);
+
+			Object[] results = new Object[threads];
+			for ( int i = 0; i < threads; i++ ) {
+				results[i] = futures.get( i ).get();
+			}
+			return List.of( results );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * The threads evaluating {@link #AWAIT_PARALLEL_EVALUATION} and how long they wait for each other.
+	 */
+	private static class ParallelEvaluation {
+
+		private final CountDownLatch latch;
+
+		private final long timeoutMillis;
+
+		private ParallelEvaluation(int threads, long timeoutMillis) {
+			this.latch = new CountDownLatch( threads );
+			this.timeoutMillis = timeoutMillis;
+		}
+
+		private boolean await() throws InterruptedException {
+			latch.countDown();
+			return latch.await( timeoutMillis, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	/**
+	 * Creates engines evaluating a script by returning the binding named after the script, or the value it supplies
+	 * if it is a {@link Supplier}, except for {@link #AWAIT_PARALLEL_EVALUATION} which waits for the other threads and
+	 * returns whether they all arrived.
+	 */
+	private static class CountingScriptEngineFactory implements ScriptEngineFactory {
+
+		private final String threading;
+
+		private final AtomicInteger engines = new AtomicInteger();
+
+		private final AtomicInteger compilations = new AtomicInteger();
+
+		private final AtomicInteger evaluations = new AtomicInteger();
+
+		private final AtomicInteger parallelEvaluations = new AtomicInteger();
+
+		private final AtomicInteger maxParallelEvaluations = new AtomicInteger();
+
+		private final List<ScriptEngine> createdEngines = Collections.synchronizedList( new ArrayList<>() );
+
+		private CountingScriptEngineFactory(String threading) {
+			this.threading = threading;
+		}
+
+		@Override
+		public ScriptEngine getScriptEngine() {
+			engines.incrementAndGet();
+			CountingScriptEngine engine = new CountingScriptEngine( this );
+			createdEngines.add( engine );
+			return engine;
+		}
+
+		@Override
+		public Object getParameter(String key) {
+			return "THREADING".equals( key ) ? threading : null;
+		}
+
+		@Override
+		public String getEngineName() {
+			return "counting";
+		}
+
+		@Override
+		public String getEngineVersion() {
+			return "1.0";
+		}
+
+		@Override
+		public List<String> getExtensions() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getMimeTypes() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getNames() {
+			return Collections.singletonList( "counting" );
+		}
+
+		@Override
+		public String getLanguageName() {
+			return "counting";
+		}
+
+		@Override
+		public String getLanguageVersion() {
+			return "1.0";
+		}
+
+		@Override
+		public String getMethodCallSyntax(String obj, String m, String... args) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getOutputStatement(String toDisplay) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String getProgram(String... statements) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class CountingScriptEngine extends AbstractScriptEngine implements Compilable {
+
+		private final CountingScriptEngineFactory factory;
+
+		private CountingScriptEngine(CountingScriptEngineFactory factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public CompiledScript compile(String script) throws ScriptException {
+			if ( script.isEmpty() ) {
+				throw new ScriptException( "Empty script" );
+			}
+			factory.compilations.incrementAndGet();
+
+			return new CompiledScript() {
+
+				@Override
+				public Object eval(ScriptContext context) throws ScriptException {
+					return CountingScriptEngine.this.eval( script, context );
+				}
+
+				@Override
+				public ScriptEngine getEngine() {
+					return CountingScriptEngine.this;
+				}
+			};
+		}
+
+		@Override
+		public CompiledScript compile(Reader script) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object eval(String script, ScriptContext context) throws ScriptException {
+			factory.evaluations.incrementAndGet();
+			int parallelEvaluations = factory.parallelEvaluations.incrementAndGet();
+			factory.maxParallelEvaluations.accumulateAndGet( parallelEvaluations, Math::max );
+			try {
+				Object value = context.getAttribute( script );
+				if ( value instanceof Supplier ) {
+					return ( (Supplier<?>) value ).get();
+				}
+				if ( !AWAIT_PARALLEL_EVALUATION.equals( script ) ) {
+					return value;
+				}
+
+				return ( (ParallelEvaluation) value ).await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ScriptException( e );
+			}
+			finally {
+				factory.parallelEvaluations.decrementAndGet();
+			}
+		}
+
+		@Override
+		public Object eval(Reader reader, ScriptContext context) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Bindings createBindings() {
+			return new SimpleBindings();
+		}
+
+		@Override
+		public ScriptEngineFactory getFactory() {
+			return factory;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.performance.bootstrap.BootstrapValidation.ModelState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the bootstrap of a predefined scope {@link ValidatorFactory}, which initializes the metadata of all the
+ * given classes upfront, and the first validation of the beans with such a factory.
+ * <p>
+ * The predefined scope is specific to Hibernate Validator so these benchmarks are in a separate source folder, only
+ * added for the current version.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class PredefinedScopeBootstrapValidation {
+
+	/**
+	 * The built-in constraints used by the generated model.
+	 */
+	private static final Set<String> BUILTIN_CONSTRAINTS = new HashSet<>( Arrays.asList(
+			NotNull.class.getName(),
+			Size.class.getName(),
+			Email.class.getName(),
+			Min.class.getName(),
+			Max.class.getName(),
+			Pattern.class.getName()
+	) );
+
+	@Benchmark
+	public void testPredefinedScopeBootstrap(ModelState state, Blackhole bh) {
+		ValidatorFactory factory = buildPredefinedScopeValidatorFactory( state.annotatedBeans );
+		bh.consume( factory.getValidator() );
+		factory.close();
+	}
+
+	@Benchmark
+	public void testFirstValidationWithPredefinedScope(ModelState state, Blackhole bh) {
+		ValidatorFactory factory = buildPredefinedScopeValidatorFactory( state.annotatedBeans );
+		BootstrapValidation.validateAll( factory.getValidator(), state.annotatedBeans, bh );
+		factory.close();
+	}
+
+	private static ValidatorFactory buildPredefinedScopeValidatorFactory(List<Object> beans) {
+		Set<Class<?>> beanClasses = new HashSet<>();
+		for ( Object bean : beans ) {
+			beanClasses.add( bean.getClass() );
+		}
+
+		return Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( BUILTIN_CONSTRAINTS )
+				.initializeBeanMetaData( beanClasses )
+				.buildValidatorFactory();
+	}
+}
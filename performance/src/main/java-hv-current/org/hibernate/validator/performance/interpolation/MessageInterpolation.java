@@ -0,0 +1,222 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.interpolation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the interpolation of the messages by the {@link ResourceBundleMessageInterpolator} and the
+ * {@link ParameterMessageInterpolator}, called directly: the lookup of the resource bundles, the substitution of the
+ * parameters, the evaluation of the expressions for each {@link ExpressionLanguageFeatureLevel} and the escaped
+ * literals, for several locales and with the caching of the messages enabled or disabled.
+ * <p>
+ * The interpolator context is an internal class of Hibernate Validator so these benchmarks are in a separate source
+ * folder, only added for the current version.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class MessageInterpolation {
+
+	private static final String BUNDLE_MESSAGE = "{jakarta.validation.constraints.NotNull.message}";
+
+	private static final String PARAMETERS_MESSAGE = "{jakarta.validation.constraints.Size.message}";
+
+	/**
+	 * Only uses the features available with {@link ExpressionLanguageFeatureLevel#VARIABLES} so that the expressions
+	 * are evaluated with all the feature levels but {@link ExpressionLanguageFeatureLevel#NONE}.
+	 */
+	private static final String EXPRESSION_MESSAGE = "'${validatedValue}' is too long, "
+			+ "the maximum is ${formatter.format('%1$,d', max)} ${max > 1 ? 'characters' : 'character'}";
+
+	private static final String ESCAPED_MESSAGE = "\\{min\\} and \\{max\\} are not parameters, \\$\\{max\\} is not an expression, "
+			+ "the size must be between {min} and {max}";
+
+	private static final String PARAMETERS_AND_EXPRESSION_MESSAGE = "{jakarta.validation.constraints.DecimalMax.message}";
+
+	private static final Set<Locale> LOCALES = new HashSet<>( Arrays.asList( Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN ) );
+
+	@State(Scope.Benchmark)
+	public static class InterpolationState {
+
+		@Param({ "en", "fr", "de" })
+		public String languageTag;
+
+		public Locale locale;
+
+		public MessageInterpolator parameterMessageInterpolator;
+
+		public ConstraintDescriptor<?> notNullDescriptor;
+
+		public ConstraintDescriptor<?> sizeDescriptor;
+
+		public ConstraintDescriptor<?> decimalMaxDescriptor;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			locale = Locale.forLanguageTag( languageTag );
+			parameterMessageInterpolator = new ParameterMessageInterpolator( LOCALES, Locale.ENGLISH, true );
+
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			notNullDescriptor = getConstraintDescriptor( factory, "name" );
+			sizeDescriptor = getConstraintDescriptor( factory, "description" );
+			decimalMaxDescriptor = getConstraintDescriptor( factory, "price" );
+			factory.close();
+		}
+	}
+
+	/**
+	 * The parameter message interpolator does not offer to disable the caching so the caching is only a parameter of
+	 * the resource bundle message interpolator.
+	 */
+	@State(Scope.Benchmark)
+	public static class ResourceBundleInterpolatorState {
+
+		@Param({ "true", "false" })
+		public boolean cachingEnabled;
+
+		public MessageInterpolator interpolator;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			interpolator = new ResourceBundleMessageInterpolator( null, null, LOCALES, Locale.ENGLISH, new DefaultLocaleResolver(), true,
+					cachingEnabled );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ExpressionLanguageState {
+
+		@Param({ "NONE", "VARIABLES", "BEAN_PROPERTIES", "BEAN_METHODS" })
+		public ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel;
+	}
+
+	@Benchmark
+	public String testBundleLookup(InterpolationState state, ResourceBundleInterpolatorState interpolatorState) {
+		return interpolatorState.interpolator.interpolate( BUNDLE_MESSAGE,
+				context( state.notNullDescriptor, null, ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ), state.locale );
+	}
+
+	@Benchmark
+	public String testParameterSubstitution(InterpolationState state, ResourceBundleInterpolatorState interpolatorState) {
+		return interpolatorState.interpolator.interpolate( PARAMETERS_MESSAGE,
+				context( state.sizeDescriptor, "A description", ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ), state.locale );
+	}
+
+	@Benchmark
+	public String testParametersAndExpression(InterpolationState state, ResourceBundleInterpolatorState interpolatorState) {
+		return interpolatorState.interpolator.interpolate( PARAMETERS_AND_EXPRESSION_MESSAGE,
+				context( state.decimalMaxDescriptor, new BigDecimal( "150.00" ), ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ), state.locale );
+	}
+
+	@Benchmark
+	public String testExpressionLanguage(InterpolationState state, ResourceBundleInterpolatorState interpolatorState,
+			ExpressionLanguageState expressionLanguageState) {
+		return interpolatorState.interpolator.interpolate( EXPRESSION_MESSAGE,
+				context( state.sizeDescriptor, "A description which is too long", expressionLanguageState.expressionLanguageFeatureLevel ),
+				state.locale );
+	}
+
+	@Benchmark
+	public String testEscapedLiterals(InterpolationState state, ResourceBundleInterpolatorState interpolatorState) {
+		return interpolatorState.interpolator.interpolate( ESCAPED_MESSAGE,
+				context( state.sizeDescriptor, "A description", ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ), state.locale );
+	}
+
+	@Benchmark
+	public String testBundleLookupWithParameterMessageInterpolator(InterpolationState state) {
+		return state.parameterMessageInterpolator.interpolate( BUNDLE_MESSAGE,
+				context( state.notNullDescriptor, null, ExpressionLanguageFeatureLevel.NONE ), state.locale );
+	}
+
+	@Benchmark
+	public String testParameterSubstitutionWithParameterMessageInterpolator(InterpolationState state) {
+		return state.parameterMessageInterpolator.interpolate( PARAMETERS_MESSAGE,
+				context( state.sizeDescriptor, "A description", ExpressionLanguageFeatureLevel.NONE ), state.locale );
+	}
+
+	@Benchmark
+	public String testEscapedLiteralsWithParameterMessageInterpolator(InterpolationState state) {
+		return state.parameterMessageInterpolator.interpolate( ESCAPED_MESSAGE,
+				context( state.sizeDescriptor, "A description", ExpressionLanguageFeatureLevel.NONE ), state.locale );
+	}
+
+	/**
+	 * The context is created for each interpolation, as it is by the engine for each constraint violation.
+	 */
+	private static MessageInterpolator.Context context(ConstraintDescriptor<?> descriptor, Object validatedValue,
+			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel) {
+		return new MessageInterpolatorContext(
+				descriptor,
+				validatedValue,
+				Product.class,
+				null,
+				Collections.emptyMap(),
+				Collections.emptyMap(),
+				expressionLanguageFeatureLevel,
+				false
+		);
+	}
+
+	private static ConstraintDescriptor<?> getConstraintDescriptor(ValidatorFactory factory, String propertyName) {
+		return factory.getValidator()
+				.getConstraintsForClass( Product.class )
+				.getConstraintsForProperty( propertyName )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	public static class Product {
+
+		@NotNull
+		private String name;
+
+		@Size(min = 2, max = 20)
+		private String description;
+
+		@DecimalMax("100.00")
+		private BigDecimal price;
+	}
+}
@@ -9,8 +9,10 @@
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import org.hibernate.validator.performance.bootstrap.BootstrapValidation;
 import org.hibernate.validator.performance.cascaded.CascadedValidation;
 import org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation;
+import org.hibernate.validator.performance.interpolation.FailingBeanValidation;
 import org.hibernate.validator.performance.simple.SimpleValidation;
 import org.hibernate.validator.performance.statistical.StatisticalValidation;
 
@@ -36,9 +38,15 @@ public final class BenchmarkRunner {
 			CascadedValidation.class.getName(),
 			CascadedWithLotsOfItemsValidation.class.getName(),
 			StatisticalValidation.class.getName(),
+			BootstrapValidation.class.getName(),
+			FailingBeanValidation.class.getName(),
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
-			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"
+			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation",
+			// Benchmarks specific to the current version of Hibernate Validator
+			// Tests are located in a separate source folder only added for the hv-current profile
+			"org.hibernate.validator.performance.bootstrap.PredefinedScopeBootstrapValidation",
+			"org.hibernate.validator.performance.interpolation.MessageInterpolation"
 	).map( BenchmarkRunner::classForName ).filter( Objects::nonNull );
 
 	private BenchmarkRunner() {
@@ -0,0 +1,132 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cold start costs: bootstrapping a {@link ValidatorFactory} and validating beans for the first time.
+ * <p>
+ * The benchmarks are executed in single shot mode as each invocation builds a new factory and, for the benchmarks
+ * using the generated model, processes classes loaded by a new class loader.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class BootstrapValidation {
+
+	@State(Scope.Benchmark)
+	public static class ModelState {
+
+		@Param({ "10", "1000", "10000" })
+		public int numberOfClasses;
+
+		public GeneratedModel model;
+
+		public ClassLoader classLoader;
+
+		public List<Object> annotatedBeans;
+
+		public List<Object> xmlBeans;
+
+		@Setup(Level.Trial)
+		public void generateModel() {
+			model = new GeneratedModel( numberOfClasses );
+		}
+
+		@Setup(Level.Iteration)
+		public void loadModel() {
+			classLoader = model.newClassLoader();
+			annotatedBeans = GeneratedModel.instantiate( model.loadAnnotatedBeanClasses( classLoader ) );
+			xmlBeans = GeneratedModel.instantiate( model.loadXmlBeanClasses( classLoader ) );
+		}
+
+		@TearDown(Level.Trial)
+		public void deleteModel() {
+			model.delete();
+		}
+	}
+
+	@Benchmark
+	public void testDefaultValidatorFactoryBootstrap(Blackhole bh) {
+		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		bh.consume( factory.getValidator() );
+		factory.close();
+	}
+
+	@Benchmark
+	public void testXmlMappingBootstrap(ModelState state, Blackhole bh) {
+		ValidatorFactory factory = withContextClassLoader( state.classLoader, () -> buildXmlMappingValidatorFactory( state ) );
+		bh.consume( factory.getValidator() );
+		factory.close();
+	}
+
+	@Benchmark
+	public void testFirstValidation(ModelState state, Blackhole bh) {
+		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		validateAll( factory.getValidator(), state.annotatedBeans, bh );
+		factory.close();
+	}
+
+	@Benchmark
+	public void testFirstValidationWithXmlMapping(ModelState state, Blackhole bh) {
+		ValidatorFactory factory = withContextClassLoader( state.classLoader, () -> buildXmlMappingValidatorFactory( state ) );
+		validateAll( factory.getValidator(), state.xmlBeans, bh );
+		factory.close();
+	}
+
+	static void validateAll(Validator validator, List<Object> beans, Blackhole bh) {
+		for ( Object bean : beans ) {
+			bh.consume( validator.validate( bean ) );
+		}
+	}
+
+	private static ValidatorFactory buildXmlMappingValidatorFactory(ModelState state) {
+		Configuration<?> configuration = Validation.byDefaultProvider().configure();
+		configuration.addMapping( state.model.getXmlMapping() );
+		return configuration.buildValidatorFactory();
+	}
+
+	/**
+	 * The classes referenced in the XML mapping are loaded through the context class loader.
+	 */
+	private static ValidatorFactory withContextClassLoader(ClassLoader classLoader, Supplier<ValidatorFactory> builder) {
+		Thread currentThread = Thread.currentThread();
+		ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+		try {
+			currentThread.setContextClassLoader( classLoader );
+			return builder.get();
+		}
+		finally {
+			currentThread.setContextClassLoader( previousClassLoader );
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.bootstrap;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * A model of constrained beans generated and compiled on the fly, used to measure the bootstrap costs depending on the
+ * number of classes to process.
+ * <p>
+ * Each bean is generated twice: once with constraint annotations and once without any annotation, the constraints of
+ * the latter being declared in an XML mapping. The classes are compiled once but a new class loader is used for each
+ * iteration so that the JVM caches related to the classes (e.g. the annotations or the reflection data) are cold, as
+ * they would be on application startup.
+ */
+public class GeneratedModel {
+
+	private static final String PACKAGE_NAME = "org.hibernate.validator.performance.bootstrap.generated";
+
+	private final int numberOfClasses;
+
+	private final Path directory;
+
+	private final String xmlMapping;
+
+	private final AtomicInteger xmlMappingCount = new AtomicInteger();
+
+	public GeneratedModel(int numberOfClasses) {
+		this.numberOfClasses = numberOfClasses;
+
+		try {
+			this.directory = Files.createTempDirectory( "hv-bootstrap-model" );
+			this.xmlMapping = generateXmlMapping();
+
+			List<String> sourceFiles = new ArrayList<>( 2 * numberOfClasses );
+			for ( int i = 0; i < numberOfClasses; i++ ) {
+				sourceFiles.add( writeSource( annotatedBeanName( i ), generateAnnotatedBean( i ) ) );
+				sourceFiles.add( writeSource( xmlBeanName( i ), generateXmlBean( i ) ) );
+			}
+			compile( sourceFiles );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to generate the model", e );
+		}
+	}
+
+	/**
+	 * @return a new class loader able to load the generated classes, which have never been loaded before by this
+	 * class loader
+	 */
+	public ClassLoader newClassLoader() {
+		try {
+			return new URLClassLoader( new URL[] { directory.toUri().toURL() }, GeneratedModel.class.getClassLoader() );
+		}
+		catch (MalformedURLException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	public List<Class<?>> loadAnnotatedBeanClasses(ClassLoader classLoader) {
+		return loadClasses( classLoader, true );
+	}
+
+	public List<Class<?>> loadXmlBeanClasses(ClassLoader classLoader) {
+		return loadClasses( classLoader, false );
+	}
+
+	public static List<Object> instantiate(List<Class<?>> beanClasses) {
+		List<Object> beans = new ArrayList<>( beanClasses.size() );
+		try {
+			for ( Class<?> beanClass : beanClasses ) {
+				beans.add( beanClass.getConstructor().newInstance() );
+			}
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException( "Unable to instantiate the generated beans", e );
+		}
+		return beans;
+	}
+
+	/**
+	 * @return an XML mapping declaring the constraints of the beans without annotations, with a content different for
+	 * each call so that the mapping cannot be cached by the validation provider
+	 */
+	public InputStream getXmlMapping() {
+		String uniqueXmlMapping = xmlMapping + "<!-- " + xmlMappingCount.incrementAndGet() + " -->";
+		return new ByteArrayInputStream( uniqueXmlMapping.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	public void delete() {
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			files.sorted( Comparator.reverseOrder() ).forEach( file -> file.toFile().delete() );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private List<Class<?>> loadClasses(ClassLoader classLoader, boolean annotated) {
+		List<Class<?>> classes = new ArrayList<>( numberOfClasses );
+		try {
+			for ( int i = 0; i < numberOfClasses; i++ ) {
+				String simpleName = annotated ? annotatedBeanName( i ) : xmlBeanName( i );
+				classes.add( Class.forName( PACKAGE_NAME + "." + simpleName, true, classLoader ) );
+			}
+		}
+		catch (ClassNotFoundException e) {
+			throw new IllegalStateException( "Unable to load the generated beans", e );
+		}
+		return classes;
+	}
+
+	private String writeSource(String simpleName, String source) throws IOException {
+		Path sourceFile = directory.resolve( PACKAGE_NAME.replace( '.', '/' ) ).resolve( simpleName + ".java" );
+		Files.createDirectories( sourceFile.getParent() );
+		Files.write( sourceFile, source.getBytes( StandardCharsets.UTF_8 ) );
+		return sourceFile.toString();
+	}
+
+	private void compile(List<String> sourceFiles) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if ( compiler == null ) {
+			throw new IllegalStateException( "The bootstrap benchmarks require a JDK to generate the model" );
+		}
+
+		List<String> arguments = new ArrayList<>( Arrays.asList(
+				"-nowarn",
+				"-proc:none",
+				"-classpath", System.getProperty( "java.class.path" ),
+				"-d", directory.toString()
+		) );
+		arguments.addAll( sourceFiles );
+
+		int result = compiler.run( null, null, null, arguments.toArray( new String[0] ) );
+		if ( result != 0 ) {
+			throw new IllegalStateException( "Unable to compile the generated model" );
+		}
+	}
+
+	private static String annotatedBeanName(int index) {
+		return "AnnotatedBean" + index;
+	}
+
+	private static String xmlBeanName(int index) {
+		return "XmlBean" + index;
+	}
+
+	private static String generateAnnotatedBean(int index) {
+		String name = annotatedBeanName( index );
+		String next = index > 0 ? annotatedBeanName( index - 1 ) : null;
+
+		StringBuilder source = new StringBuilder();
+		source.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" )
+				.append( "import jakarta.validation.Valid;\n" )
+				.append( "import jakarta.validation.constraints.*;\n\n" )
+				.append( "public class " ).append( name ).append( " {\n" )
+				.append( "\t@NotNull @Size(min = 2, max = 20) private String name = \"" ).append( name ).append( "\";\n" )
+				.append( "\t@Email private String email = \"invalid\";\n" )
+				.append( "\t@Min(0) @Max(100) private int count = " ).append( index % 150 ).append( ";\n" )
+				.append( "\t@Pattern(regexp = \"[A-Z]{3}-[0-9]+\") private String code = \"ABC-" ).append( index ).append( "\";\n" );
+		if ( next != null ) {
+			source.append( "\t@Valid private " ).append( next ).append( " next;\n" );
+		}
+		source.append( "\n\t@NotNull public String getName() {\n\t\treturn name;\n\t}\n" )
+				.append( "\n\tpublic String greet(@NotNull @Size(max = 10) String greeting) {\n\t\treturn greeting + name;\n\t}\n" )
+				.append( "}\n" );
+		return source.toString();
+	}
+
+	private static String generateXmlBean(int index) {
+		String name = xmlBeanName( index );
+		return "package " + PACKAGE_NAME + ";\n\n"
+				+ "public class " + name + " {\n"
+				+ "\tprivate String name = \"" + name + "\";\n"
+				+ "\tprivate String email = \"invalid\";\n"
+				+ "\tprivate int count = " + ( index % 150 ) + ";\n"
+				+ "\tprivate String code = \"ABC-" + index + "\";\n"
+				+ "\n\tpublic String getName() {\n\t\treturn name;\n\t}\n"
+				+ "}\n";
+	}
+
+	private String generateXmlMapping() {
+		StringBuilder mapping = new StringBuilder();
+		mapping.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" )
+				.append( "<constraint-mappings xmlns=\"https://jakarta.ee/xml/ns/validation/mapping\"\n" )
+				.append( "        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" )
+				.append( "        xsi:schemaLocation=\"https://jakarta.ee/xml/ns/validation/mapping https://jakarta.ee/xml/ns/validation/validation-mapping-3.0.xsd\"\n" )
+				.append( "        version=\"3.0\">\n" )
+				.append( "    <default-package>" ).append( PACKAGE_NAME ).append( "</default-package>\n" );
+
+		for ( int i = 0; i < numberOfClasses; i++ ) {
+			mapping.append( "    <bean class=\"" ).append( xmlBeanName( i ) ).append( "\" ignore-annotations=\"true\">\n" )
+					.append( "        <field name=\"name\">\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.NotNull\"/>\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.Size\">\n" )
+					.append( "                <element name=\"min\">2</element>\n" )
+					.append( "                <element name=\"max\">20</element>\n" )
+					.append( "            </constraint>\n" )
+					.append( "        </field>\n" )
+					.append( "        <field name=\"email\">\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.Email\"/>\n" )
+					.append( "        </field>\n" )
+					.append( "        <field name=\"count\">\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.Min\">\n" )
+					.append( "                <element name=\"value\">0</element>\n" )
+					.append( "            </constraint>\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.Max\">\n" )
+					.append( "                <element name=\"value\">100</element>\n" )
+					.append( "            </constraint>\n" )
+					.append( "        </field>\n" )
+					.append( "        <field name=\"code\">\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.Pattern\">\n" )
+					.append( "                <element name=\"regexp\">[A-Z]{3}-[0-9]+</element>\n" )
+					.append( "            </constraint>\n" )
+					.append( "        </field>\n" )
+					.append( "        <getter name=\"name\">\n" )
+					.append( "            <constraint annotation=\"jakarta.validation.constraints.NotNull\"/>\n" )
+					.append( "        </getter>\n" )
+					.append( "    </bean>\n" );
+		}
+
+		mapping.append( "</constraint-mappings>\n" );
+		return mapping.toString();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.interpolation;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates beans failing all their constraints so that the cost of the constraint violations, mostly the
+ * interpolation of their messages, dominates the cost of the validation.
+ * <p>
+ * The messages cover the lookup of the default messages, the substitution of the parameters and the evaluation of
+ * expressions.
+ */
+public class FailingBeanValidation {
+
+	private static final int NUMBER_OF_ORDERS = 100;
+
+	private static final int EXPECTED_VIOLATION_COUNT = 7;
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+		public volatile Validator validator;
+		public volatile ThreadLocalRandom random;
+		public volatile Order[] orders;
+
+		{
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+			random = ThreadLocalRandom.current();
+
+			orders = new Order[NUMBER_OF_ORDERS];
+			for ( int i = 0; i < NUMBER_OF_ORDERS; i++ ) {
+				orders[i] = new Order(
+						"ref-" + random.nextInt( 1000 ),
+						"a",
+						random.nextInt( 1, 10 ),
+						new BigDecimal( random.nextInt( 1001, 10000 ) ).movePointLeft( 2 )
+				);
+			}
+		}
+
+		public Order nextOrder() {
+			return orders[random.nextInt( NUMBER_OF_ORDERS )];
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testFailingBeanValidation(ValidationState state, Blackhole bh) {
+		Order order = state.nextOrder();
+		Set<ConstraintViolation<Order>> violations = state.validator.validate( order );
+		assert violations.size() == EXPECTED_VIOLATION_COUNT;
+		for ( ConstraintViolation<Order> violation : violations ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	public static class Order {
+
+		@NotNull
+		private String customer;
+
+		@Pattern(regexp = "[A-Z]{3}-[0-9]{6}")
+		private String reference;
+
+		@Size(min = 3, max = 50)
+		private String description;
+
+		@Size(min = 3, message = "The description '${validatedValue}' must have at least {min} characters")
+		private String summary;
+
+		@Min(10)
+		private int quantity;
+
+		@DecimalMax(value = "10.00", inclusive = false, message = "The unit price ${formatter.format('%1$.2f', validatedValue)} must be less than {value}")
+		private BigDecimal unitPrice;
+
+		@AssertTrue
+		private boolean totalPriceValid;
+
+		public Order(String reference, String description, int quantity, BigDecimal unitPrice) {
+			this.reference = reference;
+			this.description = description;
+			this.summary = description;
+			this.quantity = quantity;
+			this.unitPrice = unitPrice;
+		}
+	}
+}